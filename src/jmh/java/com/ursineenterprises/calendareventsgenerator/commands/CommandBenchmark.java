@@ -0,0 +1,70 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.io.JsonEventSource;
+import com.ursineenterprises.calendareventsgenerator.io.JsonEventSourceBenchmark;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import com.ursineenterprises.calendareventsgenerator.services.EventPipeline;
+import com.ursineenterprises.calendareventsgenerator.services.FakeCalendarTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * End-to-end command execution against {@link FakeCalendarTransport}: a dry run and a streamed insert run
+ * (the same pipeline {@link NormalRunCommand} uses, without the on-disk fingerprint store).
+ */
+@State(Scope.Benchmark)
+public class CommandBenchmark {
+    private static final String CALENDAR_ID = "benchmark-calendar";
+
+    @Param({"500"})
+    public int events;
+
+    private Path file;
+    private EventTable parsed;
+
+    @Setup
+    public void setUp() throws Exception {
+        file = JsonEventSourceBenchmark.writeEventsFile(events);
+        try (EventSource source = JsonEventSource.open(file.toString())) {
+            parsed = source.readTable();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static CalendarService service() {
+        return new CalendarService(FakeCalendarTransport.calendar(), "Europe/London",
+                new ConcurrentRunner(8, TokenBucketRateLimiter.unlimited()), ResilientExecutor.direct());
+    }
+
+    @Benchmark
+    public void dryRun() throws Exception {
+        new DryRunCommand(service(), CALENDAR_ID, parsed).execute();
+    }
+
+    @Benchmark
+    public RunSummary pipelineInsert() throws Exception {
+        RunSummary summary = new RunSummary("Insert");
+        try (EventSource source = JsonEventSource.open(file.toString())) {
+            new EventPipeline(service(), CALENDAR_ID, 256, null).run(source, summary);
+        }
+        return summary;
+    }
+}
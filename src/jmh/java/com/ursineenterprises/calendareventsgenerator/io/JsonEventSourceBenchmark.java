@@ -0,0 +1,64 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Events-file parsing as done by {@code CommandFactory} for every command that reads the file up front.
+ */
+@State(Scope.Benchmark)
+public class JsonEventSourceBenchmark {
+
+    @Param({"100", "10000"})
+    public int events;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = writeEventsFile(events);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<ZoomEvent> readAll() throws Exception {
+        try (EventSource source = JsonEventSource.open(file.toString())) {
+            return source.readAll();
+        }
+    }
+
+    @Benchmark
+    public EventTable readTable() throws Exception {
+        try (EventSource source = JsonEventSource.open(file.toString())) {
+            return source.readTable();
+        }
+    }
+
+    public static Path writeEventsFile(int count) throws IOException {
+        String[] days = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY"};
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < count; i++) {
+            json.append(String.format("""
+                      {"dayOfWeek": "%s", "time": "%02d:%02d", "zoomUrl": "https://zoom.us/j/%d", "description": "Meeting %d"}%s
+                    """, days[i % 7], 8 + i % 12, (i * 5) % 60, 100000 + i, i, i + 1 < count ? "," : ""));
+        }
+        Path file = Files.createTempFile("events-benchmark", ".json");
+        Files.writeString(file, json.append("]\n"));
+        return file;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.model.Event;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.model.WeeklySlot;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Per-event hot paths: next-occurrence computation, request body construction and snapshot lookups.
+ */
+@State(Scope.Benchmark)
+public class CalendarServiceBenchmark {
+    private static final String CALENDAR_ID = "benchmark-calendar";
+
+    private CalendarService service;
+    private ZoomEvent event;
+    private Event built;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = new CalendarService(FakeCalendarTransport.calendar(), "Europe/London",
+                new ConcurrentRunner(8, TokenBucketRateLimiter.unlimited()), ResilientExecutor.direct());
+        event = new ZoomEvent(DayOfWeek.WEDNESDAY, LocalTime.of(18, 30), "https://zoom.us/j/123456789", "Weekly sync");
+        built = service.buildWeeklyEvent(event);
+        service.snapshotFor(CALENDAR_ID);
+    }
+
+    @Benchmark
+    public WeeklySlot slotFor() {
+        return service.slotFor(event);
+    }
+
+    @Benchmark
+    public Event buildWeeklyEvent() {
+        return service.buildWeeklyEvent(event);
+    }
+
+    @Benchmark
+    public String serializeEventJson() throws IOException {
+        return GsonFactory.getDefaultInstance().toString(built);
+    }
+
+    @Benchmark
+    public String curlPreview() {
+        return service.curlPreview(CALENDAR_ID, event, "benchmark-token");
+    }
+
+    @Benchmark
+    public boolean eventExists() throws IOException {
+        return service.eventExists(CALENDAR_ID, event);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Calendar API used by the benchmarks: listings return an empty calendar and every
+ * batched insert succeeds, so end-to-end runs measure our own code rather than the network.
+ */
+public class FakeCalendarTransport extends MockHttpTransport {
+    private static final String BOUNDARY = "fake_calendar_boundary";
+
+    private final AtomicLong ids = new AtomicLong();
+
+    public static Calendar calendar() {
+        return new Calendar.Builder(new FakeCalendarTransport(), GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("benchmark")
+                .build();
+    }
+
+    @Override
+    public LowLevelHttpRequest buildRequest(String method, String url) {
+        return new MockLowLevelHttpRequest(url) {
+            @Override
+            public LowLevelHttpResponse execute() throws IOException {
+                if (url.contains("/batch")) {
+                    int parts = getContentAsString().split("(?i)content-id: ").length - 1;
+                    return new MockLowLevelHttpResponse()
+                            .setStatusCode(200)
+                            .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                            .setContent(batchResponse(parts));
+                }
+                String body = method.equals("GET")
+                        ? "{\"items\":[],\"nextSyncToken\":\"sync-token\"}"
+                        : "{\"id\":\"event-" + ids.incrementAndGet() + "\"}";
+                return new MockLowLevelHttpResponse()
+                        .setStatusCode(200)
+                        .setContentType("application/json; charset=UTF-8")
+                        .setContent(body);
+            }
+        };
+    }
+
+    private String batchResponse(int parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts; i++) {
+            String json = "{\"id\":\"event-" + ids.incrementAndGet() + "\"}";
+            sb.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(i + 1).append(">\r\n\r\n")
+                    .append("HTTP/1.1 200 OK\r\n")
+                    .append("Content-Type: application/json; charset=UTF-8\r\n")
+                    .append("Content-Length: ").append(json.length()).append("\r\n\r\n")
+                    .append(json).append("\r\n");
+        }
+        sb.append("--").append(BOUNDARY).append("--\r\n");
+        return sb.toString();
+    }
+}
@@ -2,19 +2,75 @@ package com.ursineenterprises.calendareventsgenerator;
 
 import com.ursineenterprises.calendareventsgenerator.commands.Command;
 import com.ursineenterprises.calendareventsgenerator.commands.CommandFactory;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.metrics.EventTracer;
+import com.ursineenterprises.calendareventsgenerator.metrics.MetricsWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
 public class CalendarEventsGenerator {
     private static final Logger logger = LoggerFactory.getLogger(CalendarEventsGenerator.class);
+    private static final String METRICS_OUT = "--metrics-out";
 
     public static void main(String[] args) {
+        List<String> commandArgs = new ArrayList<>(List.of(args));
+        String metricsOut = takeMetricsOut(commandArgs);
+
+        boolean failed = false;
         try {
-            Command cmd = CommandFactory.fromArgs(args);
+            Command cmd = CommandFactory.fromArgs(commandArgs.toArray(String[]::new));
             cmd.execute();
         } catch (Exception e) {
             logger.error("Failed to execute command", e);
+            failed = true;
+        }
+
+        try {
+            EventTracer.global().close();
+        } catch (Exception e) {
+            logger.error("[ERROR] Could not finish the trace file: {}", e.getMessage());
+        }
+
+        if (!ApiMetrics.global().getOperations().isEmpty()) {
+            ApiMetrics.global().log(logger);
+        }
+        if (metricsOut != null) {
+            try {
+                MetricsWriter.write(ApiMetrics.global(), Path.of(metricsOut));
+                logger.info("[INFO] Metrics written to {}", metricsOut);
+            } catch (Exception e) {
+                logger.error("[ERROR] Could not write metrics to {}: {}", metricsOut, e.getMessage());
+            }
+        }
+
+        if (failed) {
             System.exit(1);
         }
     }
+
+    /**
+     * Removes {@code --metrics-out <file>} or {@code --metrics-out=<file>} from {@code args} and returns the file, or
+     * {@code null} when it is absent. The flag applies to every command, so it is taken out before the command is
+     * chosen.
+     */
+    static String takeMetricsOut(List<String> args) {
+        String metricsOut = null;
+        for (int i = 0; i < args.size(); ) {
+            String arg = args.get(i);
+            if (arg.equals(METRICS_OUT) && i + 1 < args.size()) {
+                args.remove(i);
+                metricsOut = args.remove(i);
+            } else if (arg.startsWith(METRICS_OUT + "=")) {
+                args.remove(i);
+                metricsOut = arg.substring(METRICS_OUT.length() + 1);
+            } else {
+                i++;
+            }
+        }
+        return metricsOut;
+    }
 }
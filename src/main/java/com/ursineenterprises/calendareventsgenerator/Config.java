@@ -42,4 +42,26 @@ public class Config {
         }
         return defaultValue;
     }
+
+    public static double getDouble(String key, String envVarName, double defaultValue) {
+        String value = get(key, envVarName);
+        if (value != null) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException ignored) {}
+        }
+        return defaultValue;
+    }
+
+    /**
+     * A directory setting that is on by default: {@code defaultDir} when unset, {@code null} when set to {@code off}
+     * (or left empty in a properties file).
+     */
+    public static String getDir(String key, String envVarName, String defaultDir) {
+        String value = get(key, envVarName);
+        if (value == null) {
+            return defaultDir;
+        }
+        return value.isBlank() || value.trim().equalsIgnoreCase("off") ? null : value;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.ursineenterprises.calendareventsgenerator.auth;
+
+import com.google.api.client.http.HttpRequestInitializer;
+import com.ursineenterprises.calendareventsgenerator.Config;
+
+import java.io.IOException;
+
+/**
+ * Credentials used to sign Calendar API requests, independent of how they were obtained.
+ * <p>
+ * {@code AUTH_MODE=oauth} (the default) uses the installed-app OAuth flow with tokens cached on disk;
+ * {@code AUTH_MODE=adc} uses a service-account key from {@code GOOGLE_SERVICE_ACCOUNT_KEY_PATH} or, when that is
+ * unset, Application Default Credentials, so containers can run without a browser.
+ */
+public interface ApiCredentials {
+
+    HttpRequestInitializer requestInitializer();
+
+    /**
+     * @return a currently valid access token, refreshed first if it has expired
+     */
+    String accessToken() throws IOException;
+
+    static ApiCredentials fromConfig() throws Exception {
+        String mode = Config.get("auth.mode", "AUTH_MODE");
+        if (mode == null || mode.isBlank() || mode.equalsIgnoreCase("oauth")) {
+            return InstalledAppCredentials.fromConfig();
+        }
+        if (mode.equalsIgnoreCase("adc") || mode.equalsIgnoreCase("service-account")) {
+            return HeadlessCredentials.fromConfig();
+        }
+        throw new IllegalStateException("Unknown AUTH_MODE '" + mode + "' (expected oauth or adc)");
+    }
+}
@@ -0,0 +1,47 @@
+package com.ursineenterprises.calendareventsgenerator.auth;
+
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.ursineenterprises.calendareventsgenerator.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Headless credentials: a service-account key file when {@code GOOGLE_SERVICE_ACCOUNT_KEY_PATH} is set, otherwise
+ * Application Default Credentials (e.g. {@code GOOGLE_APPLICATION_CREDENTIALS} or the workload's metadata server).
+ * The calendar must be shared with the service account.
+ */
+public class HeadlessCredentials implements ApiCredentials {
+    private final GoogleCredentials credentials;
+
+    HeadlessCredentials(GoogleCredentials credentials) {
+        this.credentials = credentials;
+    }
+
+    public static HeadlessCredentials fromConfig() throws IOException {
+        List<String> scopes = List.of(Config.get("google.scopes", "GOOGLE_API_SCOPES"));
+        String keyPath = Config.get("service.account.key.path", "GOOGLE_SERVICE_ACCOUNT_KEY_PATH");
+        if (keyPath == null || keyPath.isBlank()) {
+            return new HeadlessCredentials(GoogleCredentials.getApplicationDefault().createScoped(scopes));
+        }
+        try (InputStream in = Files.newInputStream(Path.of(keyPath))) {
+            return new HeadlessCredentials(GoogleCredentials.fromStream(in).createScoped(scopes));
+        }
+    }
+
+    @Override
+    public HttpRequestInitializer requestInitializer() {
+        return new HttpCredentialsAdapter(credentials);
+    }
+
+    @Override
+    public String accessToken() throws IOException {
+        credentials.refreshIfExpired();
+        return credentials.getAccessToken().getTokenValue();
+    }
+}
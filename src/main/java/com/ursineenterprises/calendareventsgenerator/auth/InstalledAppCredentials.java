@@ -0,0 +1,97 @@
+package com.ursineenterprises.calendareventsgenerator.auth;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInstalledApp;
+import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
+import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.FileDataStoreFactory;
+import com.ursineenterprises.calendareventsgenerator.CalendarEventsGenerator;
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.services.GoogleClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Installed-app OAuth credentials whose access and refresh tokens are kept in a {@link DataStoreFactory}.
+ * <p>
+ * The browser consent flow only runs when no stored refresh token exists; afterwards a run costs at most one token
+ * refresh.
+ */
+public class InstalledAppCredentials implements ApiCredentials {
+    private static final Logger logger = LoggerFactory.getLogger(InstalledAppCredentials.class);
+    private static final String USER_ID = "user";
+
+    private final Credential credential;
+
+    InstalledAppCredentials(Credential credential) {
+        this.credential = credential;
+    }
+
+    public static InstalledAppCredentials fromConfig() throws Exception {
+        String credentialsPath = Config.get("credentials.file.path", "GOOGLE_CREDENTIALS_FILE_PATH");
+        if (credentialsPath == null) {
+            throw new IllegalStateException("Missing env var: GOOGLE_CREDENTIALS_FILE_PATH");
+        }
+
+        try (InputStream in = CalendarEventsGenerator.class.getResourceAsStream("/" + credentialsPath)) {
+            if (in == null) {
+                throw new RuntimeException(credentialsPath + " not found in classpath!");
+            }
+            GoogleClientSecrets clientSecrets = GoogleClientSecrets.load(
+                    GoogleClients.jsonFactory(), new InputStreamReader(in, StandardCharsets.UTF_8));
+
+            String tokensDir = Config.get("oauth.tokens.dir", "OAUTH_TOKENS_DIR");
+            DataStoreFactory store = new FileDataStoreFactory(
+                    Path.of(tokensDir == null || tokensDir.isBlank() ? ".ceg/tokens" : tokensDir).toFile());
+            int port = Config.getInt("oauth.port", "OAUTH_PORT", 8888);
+            return authorize(clientSecrets, List.of(Config.get("google.scopes", "GOOGLE_API_SCOPES")), store, port);
+        }
+    }
+
+    /**
+     * Loads the stored credential for this client, falling back to the browser flow on a local receiver only when
+     * there is no usable refresh token.
+     */
+    static InstalledAppCredentials authorize(GoogleClientSecrets clientSecrets, List<String> scopes,
+                                             DataStoreFactory store, int port) throws Exception {
+        GoogleAuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
+                GoogleClients.transport(),
+                GoogleClients.jsonFactory(),
+                clientSecrets,
+                scopes
+        ).setAccessType("offline").setDataStoreFactory(store).build();
+
+        Credential stored = flow.loadCredential(USER_ID);
+        if (stored != null && stored.getRefreshToken() != null) {
+            logger.info("[INFO] Reusing stored OAuth credentials");
+            return new InstalledAppCredentials(stored);
+        }
+
+        LocalServerReceiver receiver = new LocalServerReceiver.Builder().setPort(port).build();
+        return new InstalledAppCredentials(new AuthorizationCodeInstalledApp(flow, receiver).authorize(USER_ID));
+    }
+
+    @Override
+    public HttpRequestInitializer requestInitializer() {
+        return credential;
+    }
+
+    @Override
+    public String accessToken() throws IOException {
+        Long expiresIn = credential.getExpiresInSeconds();
+        if (credential.getAccessToken() == null || (expiresIn != null && expiresIn <= 60)) {
+            credential.refreshToken();
+        }
+        return credential.getAccessToken();
+    }
+}
@@ -1,57 +1,123 @@
 package com.ursineenterprises.calendareventsgenerator.commands;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ursineenterprises.calendareventsgenerator.CalendarEventsGenerator;
+import com.google.api.services.calendar.Calendar;
 import com.ursineenterprises.calendareventsgenerator.Config;
-import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.io.JsonEventSource;
+import com.ursineenterprises.calendareventsgenerator.io.ManifestReader;
+import com.ursineenterprises.calendareventsgenerator.model.CalendarJob;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
 import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import com.ursineenterprises.calendareventsgenerator.services.GoogleClients;
+import com.ursineenterprises.calendareventsgenerator.services.MultiCalendarRunner;
+import com.ursineenterprises.calendareventsgenerator.validation.EventsFileValidator;
 
-import java.io.InputStream;
-import java.time.DayOfWeek;
-import java.time.LocalTime;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 
 public class CommandFactory {
     public static Command fromArgs(String[] args) throws Exception {
+        return fromArgs(args, GoogleClients::calendar);
+    }
+
+    /**
+     * @param calendars builds the Calendar client for commands that call the API; only invoked by those commands, so
+     *                  the offline ones need no credentials
+     */
+    static Command fromArgs(String[] args, Callable<Calendar> calendars) throws Exception {
         // Help should be available even if env vars are missing
         if (args.length > 0 && args[0].equals("--help")) {
             return new HelpCommand();
         }
 
+        // A manifest names its own calendars and events files, so it does not need GOOGLE_CALENDAR_ID
+        List<String> flags = Arrays.asList(args);
+        int manifestFlag = flags.indexOf("--manifest");
+        if (manifestFlag >= 0) {
+            String manifestPath = manifestFlag + 1 < args.length && !args[manifestFlag + 1].startsWith("--")
+                    ? args[manifestFlag + 1]
+                    : Config.get("manifest.path", "MANIFEST_PATH");
+            if (manifestPath == null || manifestPath.isBlank()) throw new IllegalStateException("--manifest requires a file path or MANIFEST_PATH");
+            List<CalendarJob> jobs = ManifestReader.read(Path.of(manifestPath));
+            for (CalendarJob job : jobs) {
+                EventsFileValidator.requireValid(job.eventsFile());
+            }
+            return new ManifestCommand(MultiCalendarRunner.fromConfig(calendars.call()), jobs, flags.contains("--dry-run"));
+        }
+
+        // Validation and the iCalendar export work offline, so they need the events file but no calendar ID
+        if (flags.contains("--validate")) {
+            String eventsFilePath = Config.get("events.file.path", "EVENTS_FILE_PATH");
+            if (eventsFilePath == null) throw new IllegalStateException("Missing env var: EVENTS_FILE");
+            return new ValidateCommand(eventsFilePath);
+        }
+
+        int exportFlag = flags.indexOf("--export-ics");
+        if (exportFlag >= 0) {
+            String eventsFilePath = Config.get("events.file.path", "EVENTS_FILE_PATH");
+            if (eventsFilePath == null) throw new IllegalStateException("Missing env var: EVENTS_FILE");
+            EventsFileValidator.requireValid(eventsFilePath);
+            String timezone = Config.get("default.timezone", "DEFAULT_TIMEZONE");
+            if (timezone == null || timezone.isBlank()) throw new IllegalStateException("--export-ics requires DEFAULT_TIMEZONE");
+            String target = exportFlag + 1 < args.length && !args[exportFlag + 1].startsWith("--")
+                    ? args[exportFlag + 1]
+                    : Objects.requireNonNullElse(Config.get("ics.export.path", "ICS_EXPORT_PATH"), "events.ics");
+            return new IcsExportCommand(JsonEventSource.open(eventsFilePath), Path.of(target), ZoneId.of(timezone));
+        }
+
         String calendarId = Config.get("google.calendar.id", "GOOGLE_CALENDAR_ID");
         if (calendarId == null) throw new IllegalStateException("Missing env var: GOOGLE_CALENDAR_ID");
 
         String eventsFilePath = Config.get("events.file.path", "EVENTS_FILE_PATH");
         if (eventsFilePath == null) throw new IllegalStateException("Missing env var: EVENTS_FILE");
 
-        CalendarService cal = new CalendarService();
-        ObjectMapper mapper = new ObjectMapper();
+        // The calendar client (transport + credentials) and the events file are only loaded by commands that use them
+        boolean resume = flags.contains("--resume");
+        if (args.length == (resume ? 1 : 0)) {
+            // A normal run streams the file through the insert pipeline instead of loading it up front, so it is checked
+            // against the schema first rather than failing after some events were created
+            EventsFileValidator.requireValid(eventsFilePath);
+            // Overlaps are checked against the whole schedule, so only a blocking check reads the file up front as a table
+            EventTable schedule = ConflictCheck.needsSchedule() ? readTable(eventsFilePath) : null;
+            return new NormalRunCommand(calendarService(calendars), calendarId, JsonEventSource.open(eventsFilePath), resume, schedule);
+        }
+
+        Path planPath = Path.of(Objects.requireNonNullElse(Config.get("sync.plan.path", "SYNC_PLAN_PATH"), "sync-plan.json"));
+        if (flags.contains("--watch")) {
+            return new WatchCommand(calendarService(calendars), calendarId, eventsFilePath, planPath,
+                    Config.getInt("watch.debounce.ms", "WATCH_DEBOUNCE_MS", 500),
+                    Config.getInt("watch.poll.ms", "WATCH_POLL_MS", 2_000),
+                    Config.getInt("watch.http.port", "WATCH_HTTP_PORT", 8081));
+        }
 
-        try (InputStream in = CalendarEventsGenerator.class.getResourceAsStream("/" + eventsFilePath)) {
-            if (in == null) {
-                throw new RuntimeException(eventsFilePath + " not found in classpath!");
-            }
+        if (flags.contains("--sync")) {
+            return new SyncCommand(calendarService(calendars), calendarId, readEvents(eventsFilePath), flags.contains("--dry-run"), planPath);
+        }
 
-            List<Map<String, Object>> rawEvents = mapper.readValue(in, new TypeReference<>() {});
-            List<ZoomEvent> events = rawEvents.stream().map(map -> new ZoomEvent(
-                    DayOfWeek.valueOf(((String) map.get("dayOfWeek")).toUpperCase()),
-                    LocalTime.parse(((String) map.get("time"))),
-                    (String) map.get("zoomUrl"),
-                    (String) map.get("description")
-            )).toList();
-
-            if (args.length > 0) {
-                return switch (args[0]) {
-                    case "--clear-test-calendar" -> new ClearTestCalendarCommand(cal, calendarId);
-                    case "--dry-run" -> new DryRunCommand(cal, calendarId, events);
-                    case "--single-dry-run" -> new SingleDryRunCommand(cal, calendarId, events.getFirst());
-                    default -> new HelpCommand();
-                };
-            }
+        return switch (args[0]) {
+            case "--clear-test-calendar" -> new ClearTestCalendarCommand(calendarService(calendars), calendarId);
+            case "--dry-run" -> new DryRunCommand(calendarService(calendars), calendarId, readEvents(eventsFilePath));
+            case "--single-dry-run" -> new SingleDryRunCommand(calendarService(calendars), calendarId, readEvents(eventsFilePath).get(0));
+            default -> new HelpCommand();
+        };
+    }
+
+    private static CalendarService calendarService(Callable<Calendar> calendars) throws Exception {
+        return new CalendarService(calendars.call(), Config.get("default.timezone", "DEFAULT_TIMEZONE"));
+    }
+
+    private static EventTable readEvents(String eventsFilePath) throws Exception {
+        EventsFileValidator.requireValid(eventsFilePath);
+        return readTable(eventsFilePath);
+    }
 
-            return new NormalRunCommand(cal, calendarId, events);
+    static EventTable readTable(String eventsFilePath) throws Exception {
+        try (EventSource source = JsonEventSource.open(eventsFilePath)) {
+            return source.readTable();
         }
     }
 }
@@ -0,0 +1,73 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import com.ursineenterprises.calendareventsgenerator.services.ConflictDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reports overlapping events before a command writes anything, and with {@code CONFLICT_MODE=block} stops it from
+ * writing at all.
+ * <p>
+ * Overlaps are found across the whole schedule, so the check needs the file as an {@link EventTable}. Commands that
+ * load the table anyway always check; a normal run streams the file and only reads it up front as well when the mode
+ * is {@code block}, keeping its memory flat in the default {@code warn} mode.
+ */
+final class ConflictCheck {
+    private static final int MAX_LOGGED = 50;
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictCheck.class);
+
+    private ConflictCheck() {
+    }
+
+    /**
+     * Whether a streaming run has to read its whole file up front, which it only does for a check that can stop it.
+     */
+    static boolean needsSchedule() {
+        return ConflictDetector.Mode.fromConfig() == ConflictDetector.Mode.BLOCK;
+    }
+
+    /**
+     * @param replacedEventIds series the command is about to patch or delete
+     * @param dryRun           report only; a blocking mode does not fail a command that writes nothing
+     * @throws IllegalStateException when conflicts were found and the mode is {@code block}
+     */
+    static void run(CalendarService cal, String calendarId, EventTable events, Set<String> replacedEventIds,
+                    boolean dryRun) throws IOException {
+        ConflictDetector.Mode mode = ConflictDetector.Mode.fromConfig();
+        if (mode == ConflictDetector.Mode.OFF) {
+            return;
+        }
+        if (events == null) {
+            logger.info("[INFO] Overlaps are not checked while streaming the file; run --dry-run or set CONFLICT_MODE=block");
+            return;
+        }
+        List<ConflictDetector.Conflict> conflicts = cal.findConflicts(calendarId, events, replacedEventIds);
+        if (conflicts.isEmpty()) {
+            logger.info("[INFO] No overlapping events found for {}", calendarId);
+            return;
+        }
+
+        for (ConflictDetector.Conflict conflict : conflicts.subList(0, Math.min(conflicts.size(), MAX_LOGGED))) {
+            logger.warn("[WARN] ⚠️ {} overlaps {}{} on {} from {} to {}",
+                    ConflictDetector.label(conflict.event()), conflict.other(),
+                    conflict.withCalendar() ? " (already on the calendar)" : "",
+                    conflict.start().toLocalDate(), conflict.start().toLocalTime(), conflict.end().toLocalTime());
+        }
+        if (conflicts.size() > MAX_LOGGED) {
+            logger.warn("[WARN] ... and {} more conflict(s)", conflicts.size() - MAX_LOGGED);
+        }
+
+        if (mode == ConflictDetector.Mode.BLOCK && !dryRun) {
+            throw new IllegalStateException(conflicts.size() + " overlapping event(s) found for " + calendarId
+                    + "; nothing was written (CONFLICT_MODE=block)");
+        }
+        logger.warn("[WARN] {} overlapping event(s) found for {}", conflicts.size(), calendarId);
+    }
+}
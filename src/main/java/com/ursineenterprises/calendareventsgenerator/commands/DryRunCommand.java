@@ -1,19 +1,22 @@
 package com.ursineenterprises.calendareventsgenerator.commands;
 
-import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
 import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import com.ursineenterprises.calendareventsgenerator.services.CalendarSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
+import java.util.Set;
 
 public class DryRunCommand implements Command {
     private final CalendarService calendarService;
     private final String calendarId;
-    private final List<ZoomEvent> events;
+    private final EventTable events;
     private static final Logger logger = LoggerFactory.getLogger(DryRunCommand.class);
 
-    public DryRunCommand(CalendarService calendarService, String calendarId, List<ZoomEvent> events) {
+    public DryRunCommand(CalendarService calendarService, String calendarId, EventTable events) {
         this.calendarService = calendarService;
         this.calendarId = calendarId;
         this.events = events;
@@ -21,10 +24,22 @@ public class DryRunCommand implements Command {
 
     @Override
     public void execute() throws Exception {
-        for (ZoomEvent event : events) {
-            logger.info("Processing: {}", event);
-            boolean exists = calendarService.eventExists(calendarId, event);
-            logger.info("🧪 DRY RUN: {} {} %n", exists ? "Already exists" : "Would create", event);
-        }
+        RunSummary summary = new RunSummary("Dry run");
+        // Existence is answered from one snapshot, so the rows are checked in place without copying them out
+        CalendarSnapshot snapshot = calendarService.snapshotFor(calendarId);
+        events.forEach(event -> {
+            boolean exists = snapshot.contains(event);
+            if (exists) {
+                summary.recordSkipped();
+            } else {
+                summary.recordSuccess();
+            }
+            logger.info("🧪 DRY RUN: {} {}", exists ? "Already exists" : "Would create", event);
+        });
+        ConflictCheck.run(calendarService, calendarId, events, Set.of(), true);
+
+        ApiMetrics.global().recordRun(summary.stats());
+
+        summary.log(logger);
     }
 }
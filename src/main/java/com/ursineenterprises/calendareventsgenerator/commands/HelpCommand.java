@@ -15,15 +15,52 @@ public class HelpCommand implements Command {
                     
                     Commands:
                       (no args)             Run in normal mode and create events
+                      --resume              Normal run that continues an interrupted run from its journal
                       --dry-run             Show which events would be created without modifying the calendar
                       --single-dry-run      Print a single example cURL command you can run manually
+                      --sync                Create, patch and delete series so the calendar matches the events file
+                      --sync --dry-run      Write the sync plan to SYNC_PLAN_PATH and print it without applying it
+                      --watch               Keep running and sync the calendar whenever the events file changes
+                      --manifest <file>     Fill every calendar listed in <file> (JSON array of calendarId/eventsFile/timezone)
+                      --manifest <file> --dry-run  Dry run for every calendar in the manifest
+                      --validate            Check the events file against the schema and report every error with its line and column
+                      --export-ics [file]   Write the events to an iCalendar file offline (no calendar ID or credentials needed)
                       --clear-test-calendar Clear all events in the test calendar
                       --help                Show this help message
+                      --metrics-out <file>  Also write API metrics to <file> (.json = JSON, otherwise Prometheus text)
                     
                     Environment Variables:
                       GOOGLE_CALENDAR_ID   Google Calendar ID where events are created
                       GOOGLE_CREDENTIALS   Path to Google OAuth2 credentials file
+                      AUTH_MODE            oauth (browser once, tokens cached) or adc (service account / ADC)
+                      OAUTH_TOKENS_DIR     Directory for cached OAuth tokens (default .ceg/tokens)
+                      GOOGLE_SERVICE_ACCOUNT_KEY_PATH  Service-account key file used when AUTH_MODE=adc
+                      GOOGLE_API_ROOT_URL  Send Calendar API calls to another server, e.g. a local stand-in (default Google)
                       EVENTS_FILE          Path to JSON file containing event data
+                      INSERT_BATCH_SIZE    Inserts sent per batch request (1-50, default 50)
+                      MAX_IN_FLIGHT        Ceiling for concurrent Calendar API requests (default 8)
+                      AIMD_INITIAL_LIMIT   Starting concurrency, adapted on throttling (default 4)
+                      RATE_LIMIT_RPS       Calendar API requests started per second (default 10, 0 = unlimited)
+                      RETRY_MAX_ATTEMPTS   Attempts per Calendar API call on 429/5xx (default 5)
+                      FINGERPRINT_STORE_DIR Directory for the local event fingerprint store (default .ceg/fingerprints, off = disabled)
+                      JOURNAL_DIR          Directory for the write-ahead journal used by --resume (default .ceg/journal, off = disabled)
+                      MIRROR_DIR           Directory where calendar mirrors and sync tokens are kept (default .ceg/mirror, off = memory only)
+                      CLEAR_LIST_SHARDS    Time shards listed in parallel by --clear-test-calendar (default 4, plus two open-ended tails)
+                      SNAPSHOT_LIST_SHARDS Shards the 8-day existence-check window starts from (default 1, hot shards split)
+                      HTTP_CACHE_DIR       Directory for cached Calendar API responses and ETags (default .ceg/http-cache, off = memory only)
+                      HTTP_CACHE_MAX_BYTES In-memory limit for cached responses (default 33554432)
+                      API_GZIP             Gzip batch request bodies (default true)
+                      TRACE_FILE           JSONL file to append per-event trace spans to (unset = off)
+                      TRACE_BUFFER_SIZE    Spans buffered for the trace writer before new ones are dropped (default 16384)
+                      SYNC_PLAN_PATH       Where --sync writes its plan (default sync-plan.json)
+                      CONFLICT_MODE        Overlapping events before writing: off, warn or block (default warn);
+                                           block makes a normal run hold the whole file in memory, warn skips
+                                           the check there and reports overlaps only for --dry-run and --sync
+                      ICS_EXPORT_PATH      Where --export-ics writes when no file is given (default events.ics)
+                      WATCH_DEBOUNCE_MS    Quiet period after an edit before --watch syncs (default 500)
+                      WATCH_HTTP_PORT      Local /health and /metrics port for --watch (default 8081, 0 = off)
+                      MANIFEST_PARALLELISM Calendars processed at once with --manifest (default 4)
+                      CALENDAR_RATE_LIMIT_RPS  Per-calendar request rate under RATE_LIMIT_RPS (default 5)
                     
                     """);
         }
@@ -0,0 +1,57 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.io.IcsWriter;
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+
+/**
+ * Writes the events file to an iCalendar file without touching the Google API. Records are streamed from the source
+ * into the writer one at a time, and the file is written next to the target and moved into place once complete.
+ */
+public class IcsExportCommand implements Command {
+    private final EventSource source;
+    private final Path target;
+    private final ZoneId zone;
+
+    private static final Logger logger = LoggerFactory.getLogger(IcsExportCommand.class);
+
+    public IcsExportCommand(EventSource source, Path target, ZoneId zone) {
+        this.source = source;
+        this.target = target;
+        this.zone = zone;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        Path absolute = target.toAbsolutePath();
+        Path tmp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        int written;
+        try (source;
+             IcsWriter writer = new IcsWriter(FileChannel.open(tmp, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), zone)) {
+            EventRecord record;
+            while ((record = source.nextRecord()) != null) {
+                try {
+                    writer.write(record.toZoomEvent());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Event #" + (writer.getEventsWritten() + 1) + ": " + e.getMessage(), e);
+                }
+            }
+            written = writer.getEventsWritten();
+        } catch (Exception e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("[INFO] 📤 Exported {} event(s) to {} ({})", written, target, zone);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.io.JsonEventSource;
+import com.ursineenterprises.calendareventsgenerator.model.CalendarJob;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.services.MultiCalendarRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class ManifestCommand implements Command {
+    private final MultiCalendarRunner runner;
+    private final List<CalendarJob> jobs;
+    private final boolean dryRun;
+
+    private static final Logger logger = LoggerFactory.getLogger(ManifestCommand.class);
+
+    public ManifestCommand(MultiCalendarRunner runner, List<CalendarJob> jobs, boolean dryRun) {
+        this.runner = runner;
+        this.jobs = jobs;
+        this.dryRun = dryRun;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        logger.info("[INFO] Processing {} calendar(s) from manifest{}", jobs.size(), dryRun ? " (dry run)" : "");
+
+        var outcomes = runner.runAll(jobs, (job, cal) -> {
+            if (dryRun) {
+                try (EventSource source = JsonEventSource.open(job.eventsFile())) {
+                    new DryRunCommand(cal, job.calendarId(), source.readTable()).execute();
+                }
+            } else {
+                EventTable schedule = ConflictCheck.needsSchedule() ? CommandFactory.readTable(job.eventsFile()) : null;
+                new NormalRunCommand(cal, job.calendarId(), JsonEventSource.open(job.eventsFile()), false, schedule).execute();
+            }
+        });
+
+        int failed = 0;
+        for (var outcome : outcomes) {
+            if (outcome.succeeded()) {
+                logger.info("[INFO] ✅ {}: completed in {} ms", outcome.job().calendarId(), outcome.elapsedMillis());
+            } else {
+                failed++;
+                logger.error("[ERROR] ❌ {}: {}", outcome.job().calendarId(), outcome.error().getMessage());
+            }
+        }
+
+        if (failed > 0) {
+            throw new RuntimeException(failed + " of " + jobs.size() + " calendar(s) failed.");
+        }
+    }
+}
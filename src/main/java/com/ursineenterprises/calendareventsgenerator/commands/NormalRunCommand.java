@@ -1,33 +1,63 @@
 package com.ursineenterprises.calendareventsgenerator.commands;
 
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
 import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
-import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.services.EventPipeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
+import java.util.Set;
 
 public class NormalRunCommand implements Command {
     private final CalendarService cal;
     private final String calendarId;
-    private final List<ZoomEvent> events;
+    private final EventSource source;
+    private final boolean resume;
+    private final EventTable schedule;
 
     private static final Logger logger = LoggerFactory.getLogger(NormalRunCommand.class);
 
-    public NormalRunCommand(CalendarService cal, String calendarId, List<ZoomEvent> events) {
+    public NormalRunCommand(CalendarService cal, String calendarId, EventSource source) {
+        this(cal, calendarId, source, false);
+    }
+
+    /**
+     * @param resume continue from the journal of an interrupted run (see {@code --resume})
+     */
+    public NormalRunCommand(CalendarService cal, String calendarId, EventSource source, boolean resume) {
+        this(cal, calendarId, source, resume, null);
+    }
+
+    /**
+     * @param schedule the whole file as a table to check for overlapping events before inserting, or {@code null}
+     *                 to skip the check and keep only the streamed records in memory
+     */
+    public NormalRunCommand(CalendarService cal, String calendarId, EventSource source, boolean resume,
+                            EventTable schedule) {
         this.cal = cal;
         this.calendarId = calendarId;
-        this.events = events;
+        this.source = source;
+        this.resume = resume;
+        this.schedule = schedule;
     }
 
     @Override
     public void execute() throws Exception {
-        for (ZoomEvent ev : events) {
-            logger.info("Processing: {}", ev);
-            var created = cal.insertWeeklyEvent(calendarId, ev);
-            if (created != null) {
-                logger.info("✅ Created event id = {}", created.getId());
-            }
+        RunSummary summary = new RunSummary("Insert");
+
+        try (source) {
+            ConflictCheck.run(cal, calendarId, schedule, Set.of(), false);
+            EventPipeline.fromConfig(cal, calendarId, resume).run(source, summary);
+        }
+
+        ApiMetrics.global().recordRun(summary.stats());
+
+        summary.log(logger);
+        if (summary.hasFailures()) {
+            throw new RuntimeException("Failed to create " + summary.getFailed() + " event(s).");
         }
     }
 }
@@ -0,0 +1,107 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.InsertResult;
+import com.ursineenterprises.calendareventsgenerator.model.SyncAction;
+import com.ursineenterprises.calendareventsgenerator.model.SyncPlan;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SyncCommand implements Command {
+    private final CalendarService cal;
+    private final String calendarId;
+    private final EventTable events;
+    private final boolean dryRun;
+    private final Path planPath;
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncCommand.class);
+
+    public SyncCommand(CalendarService cal, String calendarId, EventTable events, boolean dryRun, Path planPath) {
+        this.cal = cal;
+        this.calendarId = calendarId;
+        this.events = events;
+        this.dryRun = dryRun;
+        this.planPath = planPath;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        SyncPlan plan = cal.planSync(calendarId, events);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(planPath.toFile(), plan);
+
+        logger.info("🔄 Sync plan for {}: {} create, {} patch, {} delete, {} unchanged (written to {})",
+                calendarId,
+                plan.actionsOf(SyncAction.Type.CREATE).size(),
+                plan.actionsOf(SyncAction.Type.PATCH).size(),
+                plan.actionsOf(SyncAction.Type.DELETE).size(),
+                plan.unchanged(),
+                planPath);
+
+        Set<String> replaced = plan.actions().stream()
+                .filter(a -> a.type() != SyncAction.Type.CREATE)
+                .map(SyncAction::eventId)
+                .collect(Collectors.toSet());
+        ConflictCheck.run(cal, calendarId, events, replaced, dryRun);
+
+        if (dryRun) {
+            for (SyncAction action : plan.actions()) {
+                logger.info("🧪 DRY RUN: {} {} {} {}", action.type(), action.description(),
+                        action.dayOfWeek() == null ? "" : action.dayOfWeek() + " " + action.time(),
+                        action.eventId() == null ? "" : "(ID: " + action.eventId() + ")");
+            }
+            return;
+        }
+
+        if (plan.isEmpty()) {
+            logger.info("✅ Calendar already in sync, nothing to do.");
+            return;
+        }
+
+        RunSummary summary = new RunSummary("Sync");
+
+        List<ZoomEvent> creates = plan.actionsOf(SyncAction.Type.CREATE).stream().map(SyncAction::toZoomEvent).toList();
+        for (InsertResult result : cal.insertWeeklyEvents(calendarId, creates)) {
+            if (result.succeeded()) {
+                summary.recordSuccess();
+            } else {
+                summary.recordFailure("create " + result.source().getDescription(), result.errorCode() + " " + result.errorMessage());
+            }
+        }
+
+        List<SyncAction> updates = plan.actions().stream().filter(a -> a.type() != SyncAction.Type.CREATE).toList();
+        var outcomes = cal.getRunner().runAll(updates, action -> {
+            if (action.type() == SyncAction.Type.PATCH) {
+                cal.patchWeeklyEvent(calendarId, action.eventId(), action.toZoomEvent());
+            } else {
+                cal.deleteEvent(calendarId, action.eventId());
+            }
+            return null;
+        });
+        for (var outcome : outcomes) {
+            if (outcome.succeeded()) {
+                summary.recordSuccess();
+            } else {
+                SyncAction action = outcome.item();
+                summary.recordFailure(action.type().name().toLowerCase() + " " + action.description(), outcome.error().getMessage());
+            }
+        }
+        cal.invalidateSnapshot(calendarId);
+
+        ApiMetrics.global().recordRun(summary.stats());
+
+        summary.log(logger);
+        if (summary.hasFailures()) {
+            throw new RuntimeException("Failed to apply " + summary.getFailed() + " sync action(s).");
+        }
+    }
+}
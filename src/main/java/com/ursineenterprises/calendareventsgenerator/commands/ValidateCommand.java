@@ -0,0 +1,37 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.validation.EventsFileValidator;
+import com.ursineenterprises.calendareventsgenerator.validation.ValidationError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Checks the events file against the bundled schema and reports every error, without credentials or network.
+ */
+public class ValidateCommand implements Command {
+    private final String eventsFilePath;
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidateCommand.class);
+
+    public ValidateCommand(String eventsFilePath) {
+        this.eventsFilePath = eventsFilePath;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        long start = System.nanoTime();
+        List<ValidationError> errors = EventsFileValidator.validate(eventsFilePath);
+        long micros = (System.nanoTime() - start) / 1_000;
+
+        if (errors.isEmpty()) {
+            logger.info("[INFO] ✅ {} matches the events schema (checked in {} µs)", eventsFilePath, micros);
+            return;
+        }
+        for (ValidationError error : errors) {
+            logger.error("[ERROR] {}: {}", eventsFilePath, error);
+        }
+        throw new IllegalArgumentException(eventsFilePath + " has " + errors.size() + " schema error(s).");
+    }
+}
@@ -0,0 +1,166 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.io.EventFileWatcher;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.io.JsonEventSource;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.metrics.StatusServer;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import com.ursineenterprises.calendareventsgenerator.validation.EventsFileValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Daemon mode: syncs once, then keeps the client warm and re-syncs whenever the events file changes.
+ * <p>
+ * Each change is diffed against the previously loaded events; edits that change no event (whitespace, reordering)
+ * are ignored, otherwise the calendar is reconciled with {@link SyncCommand}, which only sends the creates,
+ * patches and deletes that differ. A status endpoint on {@code WATCH_HTTP_PORT} serves /health and /metrics.
+ */
+public class WatchCommand implements Command {
+    private static final Logger logger = LoggerFactory.getLogger(WatchCommand.class);
+    private static final long WAIT_SLICE_MILLIS = 60_000;
+
+    private final CalendarService cal;
+    private final String calendarId;
+    private final String eventsFilePath;
+    private final Path planPath;
+    private final long debounceMillis;
+    private final long pollMillis;
+    private final int httpPort;
+
+    private final AtomicLong syncs = new AtomicLong();
+    private final AtomicReference<Instant> lastSync = new AtomicReference<>();
+    private final AtomicReference<String> lastError = new AtomicReference<>();
+
+    public WatchCommand(CalendarService cal, String calendarId, String eventsFilePath, Path planPath,
+                        long debounceMillis, long pollMillis, int httpPort) {
+        this.cal = cal;
+        this.calendarId = calendarId;
+        this.eventsFilePath = eventsFilePath;
+        this.planPath = planPath;
+        this.debounceMillis = debounceMillis;
+        this.pollMillis = pollMillis;
+        this.httpPort = httpPort;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        StatusServer server = httpPort > 0 ? StatusServer.start(httpPort, this::health, ApiMetrics.global()) : null;
+        if (server != null) {
+            logger.info("[INFO] Health and metrics at http://127.0.0.1:{}/health and /metrics", server.getPort());
+        }
+
+        try (EventFileWatcher watcher = EventFileWatcher.open(eventsFilePath, pollMillis)) {
+            logger.info("[INFO] 👀 Watching {} ({})", eventsFilePath, watcher.isPolling() ? "polling" : "file system events");
+
+            EventTable current = load();
+            sync(current);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!watcher.awaitChange(WAIT_SLICE_MILLIS, debounceMillis)) {
+                    continue;
+                }
+                EventTable updated;
+                try {
+                    updated = load();
+                } catch (Exception e) {
+                    lastError.set(e.getMessage());
+                    logger.error("[ERROR] Ignoring unreadable events file: {}", e.getMessage());
+                    continue;
+                }
+
+                Map<String, Integer> changes = diff(current, updated, cal.getTimezone());
+                if (changes.values().stream().allMatch(n -> n == 0)) {
+                    logger.info("[INFO] Events file saved without event changes, nothing to sync.");
+                    current = updated;
+                    continue;
+                }
+                logger.info("[INFO] 🔁 Change detected: {} added, {} changed, {} removed",
+                        changes.get("added"), changes.get("changed"), changes.get("removed"));
+                current = updated;
+                sync(current);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private EventTable load() throws Exception {
+        EventsFileValidator.requireValid(eventsFilePath);
+        try (EventSource source = JsonEventSource.open(eventsFilePath)) {
+            return source.readTable();
+        }
+    }
+
+    private void sync(EventTable events) {
+        long start = System.currentTimeMillis();
+        try {
+            new SyncCommand(cal, calendarId, events, false, planPath).execute();
+            lastError.set(null);
+            logger.info("[INFO] ✅ Calendar updated {} ms after the change was seen", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            lastError.set(e.getMessage());
+            logger.error("[ERROR] Sync failed, will retry on the next change: {}", e.getMessage());
+        } finally {
+            syncs.incrementAndGet();
+            lastSync.set(Instant.now());
+        }
+    }
+
+    /**
+     * Counts events added, changed and removed between two loads, matched by {@link EventFingerprint#identity}. A
+     * series counts as changed when anything in its {@link EventFingerprint#fingerprint} differs: link, description,
+     * recurrence or duration.
+     */
+    static Map<String, Integer> diff(EventTable before, EventTable after, String timezone) {
+        Map<String, String> old = new HashMap<>();
+        EventTable.Row ev = before.row();
+        for (int i = 0; i < before.size(); i++) {
+            ev.moveTo(i);
+            old.put(EventFingerprint.identity(ev), EventFingerprint.fingerprint(ev, timezone));
+        }
+        int added = 0;
+        int changed = 0;
+        ev = after.row();
+        for (int i = 0; i < after.size(); i++) {
+            String previous = old.remove(EventFingerprint.identity(ev.moveTo(i)));
+            if (previous == null) {
+                added++;
+            } else if (!previous.equals(EventFingerprint.fingerprint(ev, timezone))) {
+                changed++;
+            }
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("added", added);
+        counts.put("changed", changed);
+        counts.put("removed", old.size());
+        return counts;
+    }
+
+    private Map<String, Object> health() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("status", lastError.get() == null ? "ok" : "degraded");
+        status.put("calendarId", calendarId);
+        status.put("eventsFile", eventsFilePath);
+        status.put("syncs", syncs.get());
+        status.put("lastSync", Objects.toString(lastSync.get(), null));
+        status.put("lastError", lastError.get());
+        return status;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to observed throttling: each success raises it by {@code 1/limit} (about one per
+ * round of requests) and each throttle response multiplies it by {@code decreaseFactor}. Decreases are applied at
+ * most once per {@code cooldownMillis} so a burst of 429s from the same window only halves the limit once.
+ */
+public class AimdLimiter {
+    private final double minLimit;
+    private final double maxLimit;
+    private final double decreaseFactor;
+    private final long cooldownMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseMillis;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double decreaseFactor, long cooldownMillis) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.decreaseFactor = decreaseFactor;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                available.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            double before = limit;
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+            if ((int) limit > (int) before) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onThrottle() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now - lastDecreaseMillis >= cooldownMillis) {
+                limit = Math.max(minLimit, limit * decreaseFactor);
+                lastDecreaseMillis = now;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
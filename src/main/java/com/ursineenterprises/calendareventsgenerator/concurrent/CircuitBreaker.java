@@ -0,0 +1,104 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import java.io.IOException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stops sending requests after {@code failureThreshold} consecutive server-side failures.
+ * <p>
+ * While open every call fails fast with {@link CircuitOpenException}. Once {@code openMillis} have passed a single
+ * trial call is let through: success closes the breaker, failure re-opens it for another period. A trial that ends
+ * any other way (see {@link #afterCall()}) lets the next call through as the trial instead.
+ */
+public class CircuitBreaker {
+    private final int failureThreshold;
+    private final long openMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean trialInFlight;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    public void beforeCall() throws CircuitOpenException {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openMillis) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+                throw new CircuitOpenException("Circuit open after " + consecutiveFailures + " consecutive failure(s)");
+            }
+            if (state == State.HALF_OPEN) {
+                trialInFlight = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtMillis = System.currentTimeMillis();
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends the trial call, if this was it and neither {@link #onSuccess()} nor {@link #onFailure()} settled it, so
+     * the breaker does not stay half-open with no trial left to close it. Called after every call.
+     */
+    public void afterCall() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static class CircuitOpenException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+}
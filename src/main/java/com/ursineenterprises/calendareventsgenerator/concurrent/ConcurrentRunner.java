@@ -0,0 +1,106 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import com.ursineenterprises.calendareventsgenerator.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToIntFunction;
+
+/**
+ * Fans work out onto virtual threads while bounding the number of calls in flight and the rate at which they
+ * start. Every item produces exactly one {@link Outcome}, in input order; task failures are captured rather than
+ * thrown so one bad event never aborts the rest of a run.
+ */
+public class ConcurrentRunner {
+    private final int maxInFlight;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public ConcurrentRunner(int maxInFlight, TokenBucketRateLimiter rateLimiter) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.rateLimiter = rateLimiter;
+    }
+
+    public static ConcurrentRunner fromConfig() {
+        int maxInFlight = Config.getInt("max.in.flight", "MAX_IN_FLIGHT", 8);
+        double rps = Config.getDouble("rate.limit.rps", "RATE_LIMIT_RPS", 10.0);
+        int burst = Config.getInt("rate.limit.burst", "RATE_LIMIT_BURST", maxInFlight);
+        return new ConcurrentRunner(maxInFlight, new TokenBucketRateLimiter(rps, burst));
+    }
+
+    public <T, R> List<Outcome<T, R>> runAll(List<T> items, Task<T, R> task) throws InterruptedException {
+        return runAll(items, item -> 1, task);
+    }
+
+    /**
+     * Runs {@code task} for every item. {@code cost} is the number of API calls an item makes (e.g. the size of a
+     * batch) and is charged against the rate limiter before the item starts.
+     */
+    public <T, R> List<Outcome<T, R>> runAll(List<T> items, ToIntFunction<T> cost, Task<T, R> task)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<Future<Outcome<T, R>>> futures = new ArrayList<>(items.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : items) {
+                inFlight.acquire();
+                try {
+                    rateLimiter.acquire(cost.applyAsInt(item));
+                } catch (InterruptedException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                futures.add(executor.submit(() -> {
+                    try {
+                        return Outcome.success(item, task.call(item));
+                    } catch (Exception e) {
+                        return Outcome.failure(item, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+
+        List<Outcome<T, R>> outcomes = new ArrayList<>(futures.size());
+        for (Future<Outcome<T, R>> future : futures) {
+            try {
+                outcomes.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Task escaped its outcome wrapper", e.getCause());
+            }
+        }
+        return outcomes;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public TokenBucketRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R call(T item) throws Exception;
+    }
+
+    public record Outcome<T, R>(T item, R value, Exception error) {
+        static <T, R> Outcome<T, R> success(T item, R value) {
+            return new Outcome<>(item, value, null);
+        }
+
+        static <T, R> Outcome<T, R> failure(T item, Exception error) {
+            return new Outcome<>(item, null, error);
+        }
+
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+}
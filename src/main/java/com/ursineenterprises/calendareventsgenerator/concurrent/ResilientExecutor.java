@@ -0,0 +1,143 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import com.google.api.client.http.HttpResponseException;
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs Calendar API calls with retries, a circuit breaker and an adaptive (AIMD) concurrency limit.
+ * <p>
+ * Each attempt holds one {@link AimdLimiter} permit, released before any backoff. Throttling responses shrink the limit, successes grow it
+ * back, so the number of concurrent requests settles at what the quota actually allows.
+ */
+public class ResilientExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(ResilientExecutor.class);
+
+    private final RetryPolicy policy;
+    private final CircuitBreaker breaker;
+    private final AimdLimiter limiter;
+    private final LongAdder retries = new LongAdder();
+
+    public ResilientExecutor(RetryPolicy policy, CircuitBreaker breaker, AimdLimiter limiter) {
+        this.policy = policy;
+        this.breaker = breaker;
+        this.limiter = limiter;
+    }
+
+    public static ResilientExecutor fromConfig() {
+        int maxInFlight = Config.getInt("max.in.flight", "MAX_IN_FLIGHT", 8);
+        return new ResilientExecutor(
+                RetryPolicy.fromConfig(),
+                new CircuitBreaker(
+                        Config.getInt("circuit.failure.threshold", "CIRCUIT_FAILURE_THRESHOLD", 10),
+                        Config.getInt("circuit.open.ms", "CIRCUIT_OPEN_MS", 30_000)),
+                new AimdLimiter(
+                        Config.getInt("aimd.initial.limit", "AIMD_INITIAL_LIMIT", Math.max(1, maxInFlight / 2)),
+                        1,
+                        maxInFlight,
+                        0.5,
+                        1_000));
+    }
+
+    /**
+     * Executes every call exactly once with no limit; for tests and one-off tooling.
+     */
+    public static ResilientExecutor direct() {
+        return new ResilientExecutor(RetryPolicy.noRetries(), new CircuitBreaker(Integer.MAX_VALUE, 0),
+                new AimdLimiter(Integer.MAX_VALUE, 1, Integer.MAX_VALUE, 1.0, 0));
+    }
+
+    public <T> T execute(ApiCall<T> call) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            breaker.beforeCall();
+            acquire();
+            long delay;
+            try {
+                T result = call.call();
+                limiter.onSuccess();
+                breaker.onSuccess();
+                return result;
+            } catch (IOException e) {
+                if (policy.isThrottle(e)) {
+                    limiter.onThrottle();
+                }
+                if (e instanceof HttpResponseException http && http.getStatusCode() < 500) {
+                    // Any answer short of a server error, throttling included, shows the service is up
+                    breaker.onSuccess();
+                } else if (policy.isRetryable(e)) {
+                    breaker.onFailure();
+                }
+                if (!policy.isRetryable(e) || attempt >= policy.maxAttempts()) {
+                    throw e;
+                }
+                delay = policy.delayMillis(attempt, e);
+                logger.warn("[WARN] Calendar API call failed ({}), retry {}/{} in {} ms",
+                        e.getMessage(), attempt, policy.maxAttempts() - 1, delay);
+                recordRetry();
+            } finally {
+                breaker.afterCall();
+                limiter.release();
+            }
+            // Backs off without a permit, so other callers can use the (possibly reduced) limit meanwhile
+            pause(delay);
+        }
+    }
+
+    /**
+     * Records that part of a batch was throttled so the concurrency limit reacts as it would to a throttled call.
+     */
+    public void onThrottled() {
+        limiter.onThrottle();
+    }
+
+    public void recordRetry() {
+        retries.increment();
+        ApiMetrics.global().recordRetry();
+    }
+
+    public RetryPolicy getPolicy() {
+        return policy;
+    }
+
+    public AimdLimiter getLimiter() {
+        return limiter;
+    }
+
+    public CircuitBreaker getBreaker() {
+        return breaker;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public static void pause(long millis) throws InterruptedIOException {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while backing off");
+        }
+    }
+
+    private void acquire() throws InterruptedIOException {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request slot");
+        }
+    }
+
+    @FunctionalInterface
+    public interface ApiCall<T> {
+        T call() throws IOException;
+    }
+}
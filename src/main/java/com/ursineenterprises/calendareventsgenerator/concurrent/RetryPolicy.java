@@ -0,0 +1,111 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.ursineenterprises.calendareventsgenerator.Config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which Calendar API failures are worth retrying and how long to wait before the next attempt.
+ * <p>
+ * Retryable failures are 429s, 5xx responses, 403s whose reason is a rate limit, and I/O errors that never
+ * produced a response. The wait honours {@code Retry-After} when the server sends one and otherwise uses
+ * exponential backoff with full jitter.
+ */
+public record RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(
+                Config.getInt("retry.max.attempts", "RETRY_MAX_ATTEMPTS", 5),
+                Config.getInt("retry.base.delay.ms", "RETRY_BASE_DELAY_MS", 500),
+                Config.getInt("retry.max.delay.ms", "RETRY_MAX_DELAY_MS", 32_000));
+    }
+
+    public static RetryPolicy noRetries() {
+        return new RetryPolicy(1, 0, 0);
+    }
+
+    public boolean isRetryable(IOException e) {
+        if (e instanceof HttpResponseException http) {
+            return isRetryable(http.getStatusCode(), reasonOf(e));
+        }
+        return !(e instanceof CircuitBreaker.CircuitOpenException);
+    }
+
+    public boolean isRetryable(GoogleJsonError error) {
+        return isRetryable(error.getCode(), reasonOf(error));
+    }
+
+    /**
+     * @return true when the failure means the caller is going faster than its quota allows
+     */
+    public boolean isThrottle(IOException e) {
+        return e instanceof HttpResponseException http && isThrottle(http.getStatusCode(), reasonOf(e));
+    }
+
+    public boolean isThrottle(GoogleJsonError error) {
+        return isThrottle(error.getCode(), reasonOf(error));
+    }
+
+    public long delayMillis(int attempt, HttpHeaders headers) {
+        long retryAfter = retryAfterMillis(headers);
+        return retryAfter >= 0 ? Math.min(retryAfter, maxDelayMillis) : backoffMillis(attempt);
+    }
+
+    public long delayMillis(int attempt, IOException e) {
+        return delayMillis(attempt, e instanceof HttpResponseException http ? http.getHeaders() : null);
+    }
+
+    /**
+     * Full-jitter exponential backoff: a random wait up to {@code base * 2^(attempt-1)}, capped at the maximum.
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    static long retryAfterMillis(HttpHeaders headers) {
+        if (headers == null) return -1;
+        String value = headers.getFirstHeaderStringValue("retry-after");
+        if (value == null || value.isBlank()) return -1;
+        try {
+            return Long.parseLong(value.trim()) * 1000;
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, Duration.between(Instant.now(), at).toMillis());
+        } catch (DateTimeParseException ignored) {
+            return -1;
+        }
+    }
+
+    private static boolean isRetryable(int status, String reason) {
+        return status == 429 || status >= 500 || isThrottle(status, reason);
+    }
+
+    private static boolean isThrottle(int status, String reason) {
+        return status == 429 || (status == 403 && reason != null && RATE_LIMIT_REASONS.contains(reason));
+    }
+
+    private static String reasonOf(IOException e) {
+        return e instanceof GoogleJsonResponseException json && json.getDetails() != null ? reasonOf(json.getDetails()) : null;
+    }
+
+    private static String reasonOf(GoogleJsonError error) {
+        if (error.getErrors() == null || error.getErrors().isEmpty()) return null;
+        return error.getErrors().getFirst().getReason();
+    }
+}
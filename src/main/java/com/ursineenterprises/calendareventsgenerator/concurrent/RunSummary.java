@@ -0,0 +1,79 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import com.ursineenterprises.calendareventsgenerator.metrics.RunStats;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe tally of a run: how many items succeeded, were skipped or failed, and why each failure happened.
+ */
+public class RunSummary {
+    private final String operation;
+    private final long startNanos = System.nanoTime();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+    public RunSummary(String operation) {
+        this.operation = operation;
+    }
+
+    public void recordSuccess() {
+        succeeded.increment();
+    }
+
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    public void recordFailure(String item, String reason) {
+        failed.increment();
+        failures.add(item + " - " + reason);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public RunStats stats() {
+        return new RunStats(operation, getSucceeded(), getSkipped(), getFailed(), getElapsedMillis());
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public boolean hasFailures() {
+        return failed.sum() > 0;
+    }
+
+    public List<String> getFailures() {
+        return List.copyOf(failures);
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    public void log(Logger logger) {
+        logger.info("[INFO] {} summary: {} succeeded, {} skipped, {} failed in {} ms",
+                operation, getSucceeded(), getSkipped(), getFailed(), getElapsedMillis());
+        for (String failure : failures) {
+            logger.error("[ERROR] {}", failure);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket limiting how many Calendar API calls are started per second.
+ * <p>
+ * Callers reserve permits up front and sleep off any deficit outside the lock, so a large reservation
+ * (e.g. a 50-call batch) delays only the caller that made it and later callers queue behind it fairly.
+ * A rate of zero or less disables limiting. A limiter may have a parent (e.g. a per-calendar bucket under a
+ * process-wide one), in which case every acquisition is charged to both.
+ */
+public class TokenBucketRateLimiter {
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final TokenBucketRateLimiter parent;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, null);
+    }
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, TokenBucketRateLimiter parent) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.parent = parent;
+        this.capacity = Math.max(1, burst);
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public static TokenBucketRateLimiter unlimited() {
+        return new TokenBucketRateLimiter(0, 1);
+    }
+
+    public void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        acquireOwn(permits);
+        if (parent != null) {
+            parent.acquire(permits);
+        }
+    }
+
+    private void acquireOwn(int permits) throws InterruptedException {
+        if (permitsPerSecond <= 0 || permits <= 0) return;
+
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / 1_000_000_000d);
+            lastRefillNanos = now;
+            tokens -= permits;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / permitsPerSecond * 1_000_000_000d);
+        } finally {
+            lock.unlock();
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
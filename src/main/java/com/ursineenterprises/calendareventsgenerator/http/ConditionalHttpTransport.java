@@ -0,0 +1,215 @@
+package com.ursineenterprises.calendareventsgenerator.http;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link HttpTransport} decorator that turns repeat {@code GET}s into conditional requests.
+ * <p>
+ * A {@code 200} carrying an {@code ETag} is buffered into the {@link EtagCache}; the next {@code GET} of the same URL
+ * is sent with {@code If-None-Match}, and a {@code 304 Not Modified} is answered with the cached body as if the
+ * server had sent it again, so the client above never sees the difference. One-shot listings ({@code syncToken} and
+ * {@code pageToken} requests) are passed through untouched, and the first page of a listing that continues on further
+ * pages is not stored, since its page token is only good for a while.
+ * <p>
+ * Entries are keyed by URL and by a digest of the request's {@code Authorization} header, so a response is only ever
+ * replayed to the credentials that fetched it. An access token that has since been refreshed simply misses the cache.
+ */
+public class ConditionalHttpTransport extends ForwardingHttpTransport {
+    private final EtagCache cache;
+
+    public ConditionalHttpTransport(HttpTransport delegate, EtagCache cache) {
+        super(delegate);
+        this.cache = cache;
+    }
+
+    public EtagCache getCache() {
+        return cache;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) throws IOException {
+        LowLevelHttpRequest request = delegateRequest(method, url);
+        if (!"GET".equals(method) || url.contains("syncToken=") || url.contains("pageToken=")) {
+            return request;
+        }
+        return new ConditionalRequest(request, url);
+    }
+
+    private final class ConditionalRequest extends LowLevelHttpRequest {
+        private final LowLevelHttpRequest request;
+        private final String url;
+        private String authorization;
+        private boolean callerConditional;
+
+        private ConditionalRequest(LowLevelHttpRequest request, String url) {
+            this.request = request;
+            this.url = url;
+        }
+
+        @Override
+        public void addHeader(String name, String value) throws IOException {
+            callerConditional |= name.equalsIgnoreCase("If-None-Match") || name.equalsIgnoreCase("If-Modified-Since");
+            if (name.equalsIgnoreCase("Authorization")) {
+                authorization = value;
+            }
+            request.addHeader(name, value);
+        }
+
+        @Override
+        public void setTimeout(int connectTimeout, int readTimeout) throws IOException {
+            request.setTimeout(connectTimeout, readTimeout);
+        }
+
+        @Override
+        public void setWriteTimeout(int writeTimeout) throws IOException {
+            request.setWriteTimeout(writeTimeout);
+        }
+
+        @Override
+        public LowLevelHttpResponse execute() throws IOException {
+            copyContent(this, request);
+            String key = cacheKey(url, authorization);
+            EtagCache.Entry cached = callerConditional ? null : cache.get(key);
+            if (cached != null) {
+                request.addHeader("If-None-Match", cached.etag());
+            }
+
+            LowLevelHttpResponse response = request.execute();
+            int status = response.getStatusCode();
+            if (status == 304 && cached != null) {
+                EtagCache.readAll(response.getContent());
+                response.disconnect();
+                cache.recordHit();
+                return new CachedResponse(cached);
+            }
+
+            String etag = status == 200 ? header(response, "ETag") : null;
+            if (etag == null) {
+                return response;
+            }
+            byte[] body = EtagCache.readAll(response.getContent());
+            if (!hasNextPage(body, response.getContentEncoding())) {
+                cache.put(key, new EtagCache.Entry(etag, response.getContentType(), response.getContentEncoding(), body));
+            }
+            return new ForwardingHttpResponse(response) {
+                @Override
+                public InputStream getContent() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public long getContentLength() {
+                    return body.length;
+                }
+            };
+        }
+    }
+
+    /**
+     * @return {@code url} alone for unauthenticated requests, otherwise {@code url} and a digest of the credentials,
+     *         which never reaches the cache directory in the clear
+     */
+    static String cacheKey(String url, String authorization) {
+        if (authorization == null) {
+            return url;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(authorization.getBytes(StandardCharsets.UTF_8));
+            return url + "#" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean hasNextPage(byte[] body, String contentEncoding) throws IOException {
+        byte[] json = body;
+        if (contentEncoding != null && contentEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                json = in.readAllBytes();
+            }
+        }
+        return new String(json, StandardCharsets.UTF_8).contains("\"nextPageToken\"");
+    }
+
+    private static String header(LowLevelHttpResponse response, String name) throws IOException {
+        for (int i = 0; i < response.getHeaderCount(); i++) {
+            if (name.equalsIgnoreCase(response.getHeaderName(i))) {
+                return response.getHeaderValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A stored {@code 200} replayed in place of a {@code 304}.
+     */
+    private static final class CachedResponse extends LowLevelHttpResponse {
+        private final EtagCache.Entry entry;
+
+        private CachedResponse(EtagCache.Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public InputStream getContent() {
+            return new ByteArrayInputStream(entry.body());
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return entry.contentEncoding();
+        }
+
+        @Override
+        public long getContentLength() {
+            return entry.body().length;
+        }
+
+        @Override
+        public String getContentType() {
+            return entry.contentType();
+        }
+
+        @Override
+        public String getStatusLine() {
+            return "HTTP/1.1 200 OK";
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 200;
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return "OK";
+        }
+
+        @Override
+        public int getHeaderCount() {
+            return 1;
+        }
+
+        @Override
+        public String getHeaderName(int index) {
+            return "ETag";
+        }
+
+        @Override
+        public String getHeaderValue(int index) {
+            return entry.etag();
+        }
+    }
+}
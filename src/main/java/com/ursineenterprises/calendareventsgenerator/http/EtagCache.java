@@ -0,0 +1,153 @@
+package com.ursineenterprises.calendareventsgenerator.http;
+
+import com.ursineenterprises.calendareventsgenerator.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response bodies keyed by request (see {@link ConditionalHttpTransport}) together with the {@code ETag} they were
+ * served with, so a repeat {@code GET} can be sent with {@code If-None-Match} and answered from here on
+ * {@code 304 Not Modified}.
+ * <p>
+ * Entries are kept in a least-recently-used map capped at {@code maxBytes}. When a directory is configured every
+ * entry is also written there, so the next run starts with a warm cache.
+ */
+public class EtagCache {
+    private static final Logger logger = LoggerFactory.getLogger(EtagCache.class);
+
+    public record Entry(String etag, String contentType, String contentEncoding, byte[] body) {
+    }
+
+    private final long maxBytes;
+    private final Path dir;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private long bytes;
+
+    public EtagCache(long maxBytes, Path dir) {
+        this.maxBytes = maxBytes;
+        this.dir = dir;
+    }
+
+    public static EtagCache fromConfig() {
+        long maxBytes = Config.getInt("http.cache.max.bytes", "HTTP_CACHE_MAX_BYTES", 32 * 1024 * 1024);
+        String dir = Config.getDir("http.cache.dir", "HTTP_CACHE_DIR", ".ceg/http-cache");
+        return new EtagCache(maxBytes, dir == null ? null : Path.of(dir));
+    }
+
+    public Entry get(String key) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) return entry;
+        }
+        Entry stored = read(key);
+        if (stored != null) {
+            remember(key, stored);
+        }
+        return stored;
+    }
+
+    public void put(String key, Entry entry) {
+        remember(key, entry);
+        write(key, entry);
+    }
+
+    /**
+     * Counts a {@code 304} answered from the cache.
+     */
+    public void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void remember(String key, Entry entry) {
+        if (entry.body().length > maxBytes) return;
+        Entry previous = entries.put(key, entry);
+        bytes += entry.body().length - (previous == null ? 0 : previous.body().length);
+        for (Iterator<Entry> it = entries.values().iterator(); bytes > maxBytes && it.hasNext(); ) {
+            bytes -= it.next().body().length;
+            it.remove();
+        }
+    }
+
+    private Entry read(String key) {
+        if (dir == null) return null;
+        Path file = dir.resolve(fileName(key));
+        if (!Files.isRegularFile(file)) return null;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (!in.readUTF().equals(key)) return null;
+            String etag = in.readUTF();
+            String contentType = emptyToNull(in.readUTF());
+            String contentEncoding = emptyToNull(in.readUTF());
+            byte[] body = in.readNBytes(in.readInt());
+            return new Entry(etag, contentType, contentEncoding, body);
+        } catch (IOException e) {
+            logger.warn("[WARN] Ignoring unreadable HTTP cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, Entry entry) {
+        if (dir == null) return;
+        Path file = dir.resolve(fileName(key));
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "entry", ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmp); DataOutputStream out = new DataOutputStream(os)) {
+                out.writeUTF(key);
+                out.writeUTF(entry.etag());
+                out.writeUTF(entry.contentType() == null ? "" : entry.contentType());
+                out.writeUTF(entry.contentEncoding() == null ? "" : entry.contentEncoding());
+                out.writeInt(entry.body().length);
+                out.write(entry.body());
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("[WARN] Could not write HTTP cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16) + ".bin";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    static byte[] readAll(InputStream in) throws IOException {
+        if (in == null) return new byte[0];
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ursineenterprises.calendareventsgenerator.http;
+
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link LowLevelHttpResponse} that forwards to another response; subclasses override what they change.
+ */
+public class ForwardingHttpResponse extends LowLevelHttpResponse {
+    protected final LowLevelHttpResponse response;
+
+    public ForwardingHttpResponse(LowLevelHttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return response.getContent();
+    }
+
+    @Override
+    public String getContentEncoding() throws IOException {
+        return response.getContentEncoding();
+    }
+
+    @Override
+    public long getContentLength() throws IOException {
+        return response.getContentLength();
+    }
+
+    @Override
+    public String getContentType() throws IOException {
+        return response.getContentType();
+    }
+
+    @Override
+    public String getStatusLine() throws IOException {
+        return response.getStatusLine();
+    }
+
+    @Override
+    public int getStatusCode() throws IOException {
+        return response.getStatusCode();
+    }
+
+    @Override
+    public String getReasonPhrase() throws IOException {
+        return response.getReasonPhrase();
+    }
+
+    @Override
+    public int getHeaderCount() throws IOException {
+        return response.getHeaderCount();
+    }
+
+    @Override
+    public String getHeaderName(int index) throws IOException {
+        return response.getHeaderName(index);
+    }
+
+    @Override
+    public String getHeaderValue(int index) throws IOException {
+        return response.getHeaderValue(index);
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+        response.disconnect();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ursineenterprises.calendareventsgenerator.http;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Base for {@link HttpTransport} decorators: forwards everything to a delegate transport and gives subclasses its
+ * low-level requests to wrap.
+ */
+public abstract class ForwardingHttpTransport extends HttpTransport {
+    // buildRequest is protected, so wrapping another transport's low-level requests needs reflective access
+    private static final Method BUILD_REQUEST = buildRequestMethod();
+
+    private final HttpTransport delegate;
+
+    protected ForwardingHttpTransport(HttpTransport delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supportsMethod(String method) throws IOException {
+        return delegate.supportsMethod(method);
+    }
+
+    @Override
+    public boolean isMtls() {
+        return delegate.isMtls();
+    }
+
+    @Override
+    public void shutdown() throws IOException {
+        delegate.shutdown();
+    }
+
+    protected LowLevelHttpRequest delegateRequest(String method, String url) throws IOException {
+        try {
+            return (LowLevelHttpRequest) BUILD_REQUEST.invoke(delegate, method, url);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            throw new IOException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Copies the body the HTTP client attached to {@code from} onto the delegate's request {@code to}.
+     */
+    protected static void copyContent(LowLevelHttpRequest from, LowLevelHttpRequest to) throws IOException {
+        to.setContentLength(from.getContentLength());
+        to.setContentType(from.getContentType());
+        to.setContentEncoding(from.getContentEncoding());
+        to.setStreamingContent(from.getStreamingContent());
+    }
+
+    private static Method buildRequestMethod() {
+        try {
+            Method method = HttpTransport.class.getDeclaredMethod("buildRequest", String.class, String.class);
+            method.setAccessible(true);
+            return method;
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.CalendarEventsGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for the events file to change. Files on disk are watched with a {@link WatchService} on their directory;
+ * anything else (e.g. a classpath resource) is polled and compared by content digest.
+ * <p>
+ * Editors often save in several steps (truncate, write, rename), so a change is only reported once the file has
+ * been quiet for the debounce period.
+ */
+public class EventFileWatcher implements AutoCloseable {
+    private final String location;
+    private final Path file;
+    private final WatchService watchService;
+    private final long pollMillis;
+    private byte[] lastDigest;
+    private byte[] polledDigest;
+
+    private EventFileWatcher(String location, Path file, WatchService watchService, long pollMillis) throws IOException {
+        this.location = location;
+        this.file = file;
+        this.watchService = watchService;
+        this.pollMillis = Math.max(10, pollMillis);
+        this.lastDigest = digest();
+        this.polledDigest = lastDigest;
+    }
+
+    public static EventFileWatcher open(String location, long pollMillis) throws IOException {
+        Path file = Path.of(location).toAbsolutePath();
+        if (!Files.isRegularFile(file)) {
+            return new EventFileWatcher(location, null, null, pollMillis);
+        }
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        return new EventFileWatcher(location, file, watchService, pollMillis);
+    }
+
+    public boolean isPolling() {
+        return watchService == null;
+    }
+
+    /**
+     * Blocks until the file changes and has then stayed unchanged for {@code debounceMillis}.
+     *
+     * @return false if no change was seen within {@code timeoutMillis}
+     */
+    public boolean awaitChange(long timeoutMillis, long debounceMillis) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) return false;
+            if (!waitForSignal(remaining)) continue;
+
+            // Let the writer finish: wait until a full debounce period passes without another signal
+            while (waitForSignal(debounceMillis)) {
+                // keep waiting
+            }
+            byte[] digest = digest();
+            if (!Arrays.equals(digest, lastDigest)) {
+                lastDigest = digest;
+                return true;
+            }
+        }
+    }
+
+    private boolean waitForSignal(long timeoutMillis) throws IOException, InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(Math.min(pollMillis, timeoutMillis));
+            byte[] digest = digest();
+            if (Arrays.equals(digest, polledDigest)) return false;
+            polledDigest = digest;
+            return true;
+        }
+
+        WatchKey key;
+        try {
+            key = watchService.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ClosedWatchServiceException e) {
+            throw new InterruptedException("Watcher closed");
+        }
+        if (key == null) return false;
+
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (event.context() instanceof Path changed && changed.equals(file.getFileName()))) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private byte[] digest() throws IOException {
+        try (InputStream in = file != null ? Files.newInputStream(file)
+                : CalendarEventsGenerator.class.getResourceAsStream("/" + location)) {
+            if (in == null) return null;
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            return sha.digest(in.readAllBytes());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (NoSuchFileException e) {
+            // mid-rename; treat as "no content yet"
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pull-based stream of event records. Implementations read lazily so callers can start work on the first record
+ * while the rest of the input is still being parsed.
+ */
+public interface EventSource extends AutoCloseable {
+
+    /**
+     * @return the next record, or {@code null} once the source is exhausted
+     */
+    EventRecord nextRecord() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Reads and converts every remaining record, failing on the first one that cannot be converted.
+     */
+    default List<ZoomEvent> readAll() throws IOException {
+        List<ZoomEvent> events = new ArrayList<>();
+        EventRecord record;
+        while ((record = nextRecord()) != null) {
+            try {
+                events.add(record.toZoomEvent());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Event #" + (events.size() + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Like {@link #readAll()}, but into a compact {@link EventTable} for commands that keep the whole schedule.
+     */
+    default EventTable readTable() throws IOException {
+        EventTable.Builder table = EventTable.builder();
+        EventRecord record;
+        while ((record = nextRecord()) != null) {
+            try {
+                table.add(record.toZoomEvent());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Event #" + (table.size() + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return table.build();
+    }
+}
@@ -0,0 +1,263 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.WeeklySlot;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.List;
+
+/**
+ * Streams weekly {@link ZoomEvent}s to an RFC 5545 iCalendar file that any calendar client can import offline.
+ * <p>
+ * Output goes straight to the channel through a buffered UTF-8 writer: values are escaped and content lines folded at
+ * 75 octets as characters are written, so no per-event string is ever assembled. Each event becomes a
+ * {@code VEVENT} with its {@code RRULE} ({@code FREQ=WEEKLY} by default) whose first occurrence comes from
+ * {@link WeeklySlot}, exactly as the API insert path computes it, and a {@code VTIMEZONE} derived from the zone's
+ * current transition rules is written once in the header.
+ */
+public final class IcsWriter implements Closeable {
+
+    static final int MAX_LINE_OCTETS = 75;
+
+    private static final String PRODID = "-//Ursine Enterprises//Calendar Events Generator//EN";
+    private static final String UID_DOMAIN = "@calendar-events-generator";
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Writer out;
+    private final ZoneId zone;
+    private final Instant stamp;
+    private final LocalDate from;
+    private final Appendable line = new Appendable() {
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            for (int i = start; i < end; i++) {
+                put(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            put(c);
+            return this;
+        }
+    };
+
+    private int lineOctets;
+    private int events;
+    private boolean closed;
+
+    public IcsWriter(WritableByteChannel channel, ZoneId zone) throws IOException {
+        this(channel, zone, Clock.systemUTC());
+    }
+
+    IcsWriter(WritableByteChannel channel, ZoneId zone, Clock clock) throws IOException {
+        this.out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 16 * 1024);
+        this.zone = zone;
+        this.stamp = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        this.from = LocalDate.ofInstant(stamp, zone);
+        writeHeader();
+    }
+
+    public void write(ZoomEvent ev) throws IOException {
+        WeeklySlot slot = WeeklySlot.next(ev, zone, from);
+
+        begin("VEVENT");
+        name("UID").text(EventFingerprint.identityHash(ev)).text(UID_DOMAIN).end();
+        name("DTSTAMP").time(UTC, stamp).end();
+        name("DTSTART", "TZID", zone.getId()).time(LOCAL, slot.start()).end();
+        name("DTEND", "TZID", zone.getId()).time(LOCAL, slot.end()).end();
+        name("RRULE").text(ev.getRecurrence() == null ? "FREQ=WEEKLY" : ev.getRecurrence()).end();
+        name("SUMMARY").escaped(ev.getDescription()).end();
+        name("DESCRIPTION").escaped("Zoom link: ").escaped(ev.getZoomUrl()).escaped("\n\n").escaped(ev.getDescription()).end();
+        if (ev.getZoomUrl() != null && !ev.getZoomUrl().isBlank()) {
+            name("URL").text(ev.getZoomUrl()).end();
+        }
+        end("VEVENT");
+        events++;
+    }
+
+    public int getEventsWritten() {
+        return events;
+    }
+
+    /**
+     * Ends the calendar, flushes and closes the underlying channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try (out) {
+            end("VCALENDAR");
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        begin("VCALENDAR");
+        name("VERSION").text("2.0").end();
+        name("PRODID").text(PRODID).end();
+        name("CALSCALE").text("GREGORIAN").end();
+        name("METHOD").text("PUBLISH").end();
+        writeTimezone();
+    }
+
+    private void writeTimezone() throws IOException {
+        ZoneRules rules = zone.getRules();
+        begin("VTIMEZONE");
+        name("TZID").text(zone.getId()).end();
+
+        List<ZoneOffsetTransitionRule> transitionRules = rules.getTransitionRules();
+        if (transitionRules.isEmpty()) {
+            // Fixed offset, or a zone that no longer observes daylight saving
+            ZoneOffset offset = rules.getOffset(stamp);
+            begin("STANDARD");
+            name("DTSTART").text("19700101T000000").end();
+            name("TZOFFSETFROM").text(offsetText(offset)).end();
+            name("TZOFFSETTO").text(offsetText(offset)).end();
+            end("STANDARD");
+        } else {
+            for (ZoneOffsetTransitionRule rule : transitionRules) {
+                writeObservance(rule);
+            }
+        }
+        end("VTIMEZONE");
+    }
+
+    private void writeObservance(ZoneOffsetTransitionRule rule) throws IOException {
+        String kind = rule.getOffsetAfter().getTotalSeconds() > rule.getStandardOffset().getTotalSeconds() ? "DAYLIGHT" : "STANDARD";
+        ZoneOffsetTransition first = rule.createTransition(1970);
+        LocalDateTime wallClock = first.getDateTimeBefore();
+
+        begin(kind);
+        name("DTSTART").time(LOCAL, wallClock).end();
+        name("TZOFFSETFROM").text(offsetText(rule.getOffsetBefore())).end();
+        name("TZOFFSETTO").text(offsetText(rule.getOffsetAfter())).end();
+        name("RRULE").text("FREQ=YEARLY;BYMONTH=").text(Integer.toString(rule.getMonth().getValue()));
+        DayOfWeek day = rule.getDayOfWeek();
+        int indicator = rule.getDayOfMonthIndicator();
+        if (day == null) {
+            text(";BYMONTHDAY=").text(Integer.toString(indicator));
+        } else {
+            // "First <day> on or after <indicator>" (or on or before, counting from the month's end when negative)
+            text(";BYDAY=").text(day.name().substring(0, 2)).text(";BYMONTHDAY=");
+            int step = indicator > 0 ? 1 : -1;
+            for (int i = 0; i < 7; i++) {
+                if (i > 0) text(",");
+                text(Integer.toString(indicator + i * step));
+            }
+        }
+        end();
+        end(kind);
+    }
+
+    static String offsetText(ZoneOffset offset) {
+        int total = offset.getTotalSeconds();
+        int abs = Math.abs(total);
+        String text = String.format("%s%02d%02d", total < 0 ? "-" : "+", abs / 3600, (abs / 60) % 60);
+        return abs % 60 == 0 ? text : text + String.format("%02d", abs % 60);
+    }
+
+    // --- content-line primitives ---
+
+    private void begin(String component) throws IOException {
+        name("BEGIN").text(component).end();
+    }
+
+    private void end(String component) throws IOException {
+        name("END").text(component).end();
+    }
+
+    private IcsWriter name(String name) throws IOException {
+        lineOctets = 0;
+        line.append(name);
+        put(':');
+        return this;
+    }
+
+    private IcsWriter name(String name, String param, String value) throws IOException {
+        lineOctets = 0;
+        line.append(name);
+        put(';');
+        line.append(param);
+        put('=');
+        line.append(value);
+        put(':');
+        return this;
+    }
+
+    private IcsWriter text(String value) throws IOException {
+        line.append(value);
+        return this;
+    }
+
+    private IcsWriter time(DateTimeFormatter format, TemporalAccessor value) throws IOException {
+        format.formatTo(value, line);
+        return this;
+    }
+
+    private IcsWriter escaped(String value) throws IOException {
+        if (value == null) return this;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> {
+                    put('\\');
+                    put(c);
+                }
+                case '\n' -> {
+                    put('\\');
+                    put('n');
+                }
+                case '\r' -> {
+                    // CRLF in the input becomes a single \n
+                }
+                default -> put(c);
+            }
+        }
+        return this;
+    }
+
+    private void end() throws IOException {
+        out.write("\r\n");
+    }
+
+    private void put(char c) throws IOException {
+        // Low surrogates were counted with their high surrogate so a pair is never split across a fold
+        int octets = Character.isLowSurrogate(c) ? 0
+                : Character.isHighSurrogate(c) ? 4
+                : c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+        if (lineOctets + octets > MAX_LINE_OCTETS) {
+            out.write("\r\n ");
+            lineOctets = 1;
+        }
+        out.write(c);
+        lineOctets += octets;
+    }
+}
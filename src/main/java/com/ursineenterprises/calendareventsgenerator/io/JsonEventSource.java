@@ -0,0 +1,74 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ursineenterprises.calendareventsgenerator.CalendarEventsGenerator;
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the top-level JSON array of the events file one object at a time, binding each directly to an
+ * {@link EventRecord}. Only the current record is held in memory.
+ */
+public class JsonEventSource implements EventSource {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonParser parser;
+    private boolean started;
+
+    public JsonEventSource(InputStream in) throws IOException {
+        this.parser = MAPPER.getFactory().createParser(in);
+    }
+
+    /**
+     * Opens {@code path} from the filesystem when it exists there, otherwise from the classpath.
+     */
+    public static JsonEventSource open(String path) throws IOException {
+        return new JsonEventSource(openStream(path));
+    }
+
+    /**
+     * Raw bytes of the events file, resolved the same way as {@link #open(String)}.
+     */
+    public static InputStream openStream(String path) throws IOException {
+        Path file = Path.of(path);
+        if (Files.isRegularFile(file)) {
+            return Files.newInputStream(file);
+        }
+
+        InputStream in = CalendarEventsGenerator.class.getResourceAsStream("/" + path);
+        if (in == null) {
+            throw new RuntimeException(path + " not found in classpath!");
+        }
+        return in;
+    }
+
+    @Override
+    public EventRecord nextRecord() throws IOException {
+        if (!started) {
+            started = true;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Events file must contain a JSON array (at " + parser.currentLocation() + ")");
+            }
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an event object but found " + token + " (at " + parser.currentLocation() + ")");
+        }
+        return MAPPER.readValue(parser, EventRecord.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ursineenterprises.calendareventsgenerator.model.CalendarJob;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a manifest: a JSON array of {@code {"calendarId": ..., "eventsFile": ..., "timezone": ...}} objects.
+ * Relative events-file paths are resolved against the manifest's directory when the file exists there.
+ */
+public final class ManifestReader {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ManifestReader() {
+    }
+
+    public static List<CalendarJob> read(Path manifest) throws IOException {
+        List<CalendarJob> declared = MAPPER.readValue(manifest.toFile(), new TypeReference<>() {});
+        Path baseDir = manifest.toAbsolutePath().getParent();
+
+        List<CalendarJob> jobs = new ArrayList<>(declared.size());
+        for (int i = 0; i < declared.size(); i++) {
+            CalendarJob job = declared.get(i);
+            if (job.calendarId() == null || job.calendarId().isBlank() || job.eventsFile() == null || job.eventsFile().isBlank()) {
+                throw new IllegalArgumentException("Manifest entry #" + (i + 1) + ": calendarId and eventsFile are required");
+            }
+            Path eventsFile = Path.of(job.eventsFile());
+            if (!eventsFile.isAbsolute() && Files.isRegularFile(baseDir.resolve(eventsFile))) {
+                job = new CalendarJob(job.calendarId(), baseDir.resolve(eventsFile).toString(), job.timezone());
+            }
+            jobs.add(job);
+        }
+        return jobs;
+    }
+}
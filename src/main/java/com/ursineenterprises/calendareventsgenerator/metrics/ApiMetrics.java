@@ -0,0 +1,126 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide Calendar API metrics: per-operation latency histograms, request counts by status code, bytes on the
+ * wire, retries, and the summaries of the runs executed in this process.
+ * <p>
+ * HTTP-level numbers come from {@link MeteredHttpTransport}; status counts of individual calls inside a batch are
+ * added by {@link #recordBatchItem}. Status {@code 0} means the call failed without an HTTP response.
+ */
+public class ApiMetrics {
+    private static final ApiMetrics GLOBAL = new ApiMetrics();
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final Queue<RunStats> runs = new ConcurrentLinkedQueue<>();
+
+    public static ApiMetrics global() {
+        return GLOBAL;
+    }
+
+    public void recordRequest(String operation, int status, long nanos, long bytesSent, long bytesReceived) {
+        OperationStats stats = stats(operation);
+        stats.latency.recordNanos(nanos);
+        stats.count(status);
+        stats.bytesSent.add(Math.max(0, bytesSent));
+        stats.bytesReceived.add(Math.max(0, bytesReceived));
+    }
+
+    public void recordBytesReceived(String operation, long bytes) {
+        stats(operation).bytesReceived.add(bytes);
+    }
+
+    /**
+     * Counts the outcome of one call inside a batch request, which has no HTTP exchange of its own.
+     */
+    public void recordBatchItem(String operation, int status) {
+        stats(operation).count(status);
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordRun(RunStats run) {
+        runs.add(run);
+    }
+
+    public Map<String, OperationStats> getOperations() {
+        return new TreeMap<>(operations);
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public List<RunStats> getRuns() {
+        return List.copyOf(runs);
+    }
+
+    public void reset() {
+        operations.clear();
+        retries.reset();
+        runs.clear();
+    }
+
+    public void log(Logger logger) {
+        for (RunStats run : runs) {
+            logger.info("[INFO] {} throughput: {} event(s) in {} ms ({} events/sec)",
+                    run.operation(), run.processed(), run.elapsedMillis(), String.format("%.1f", run.eventsPerSecond()));
+        }
+        getOperations().forEach((name, stats) -> logger.info(
+                "[INFO] API {}: {} call(s), p50 {} ms, p99 {} ms, max {} ms, statuses {}, {} B sent, {} B received",
+                name, stats.latency.getCount(),
+                millis(stats.latency.percentileMicros(0.50)), millis(stats.latency.percentileMicros(0.99)),
+                millis(stats.latency.getMaxMicros()), stats.getStatusCounts(),
+                stats.getBytesSent(), stats.getBytesReceived()));
+        logger.info("[INFO] API retries: {}", getRetries());
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    private OperationStats stats(String operation) {
+        return operations.computeIfAbsent(operation, o -> new OperationStats());
+    }
+
+    public static class OperationStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+
+        private void count(int status) {
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public Map<Integer, Long> getStatusCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, adder) -> counts.put(status, adder.sum()));
+            return counts;
+        }
+
+        public long getBytesSent() {
+            return bytesSent.sum();
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived.sum();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-event trace spans (parse, check, insert, patch, retry) written as one JSON object per line to
+ * {@code trace.file}, so a slow or failed event can be followed through a run by its Google event ID.
+ * <p>
+ * Recording a span costs a slot claim and a few array stores, with no allocation: spans go into a fixed ring buffer
+ * of preallocated columns and a background thread formats and writes them. When the writer falls behind, new spans
+ * are dropped and counted rather than slowing the run down. Without {@code trace.file} every call returns at once.
+ */
+public final class EventTracer implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(EventTracer.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final EventTracer DISABLED = new EventTracer();
+    private static volatile EventTracer global;
+
+    public enum Span {
+        PARSE, CHECK, INSERT, PATCH, RETRY;
+
+        private final String label = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final boolean enabled;
+    private final Path file;
+    private final int mask;
+    private final byte[] spans;
+    private final String[] calendars;
+    private final ZoomEvent[] events;
+    private final int[] rows;
+    private final long[] starts;
+    private final long[] durations;
+    private final int[] statuses;
+    private final int[] attempts;
+    private final String[] outcomes;
+    /** The sequence number each slot was last published under. */
+    private final AtomicLongArray published;
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final long epochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private final long baseNanos = System.nanoTime();
+    private final Writer out;
+    private final Thread writer;
+    private volatile long tail;
+    private volatile boolean closed;
+
+    private EventTracer() {
+        this.enabled = false;
+        this.file = null;
+        this.mask = 0;
+        this.spans = null;
+        this.calendars = null;
+        this.events = null;
+        this.rows = null;
+        this.starts = null;
+        this.durations = null;
+        this.statuses = null;
+        this.attempts = null;
+        this.outcomes = null;
+        this.published = null;
+        this.out = null;
+        this.writer = null;
+    }
+
+    /**
+     * Opens {@code file} for appending and starts the writer thread.
+     *
+     * @param capacity spans buffered before new ones are dropped, rounded up to a power of two
+     */
+    public EventTracer(Path file, int capacity) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.enabled = true;
+        this.file = file;
+        this.mask = size - 1;
+        this.spans = new byte[size];
+        this.calendars = new String[size];
+        this.events = new ZoomEvent[size];
+        this.rows = new int[size];
+        this.starts = new long[size];
+        this.durations = new long[size];
+        this.statuses = new int[size];
+        this.attempts = new int[size];
+        this.outcomes = new String[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.writer = Thread.ofPlatform().daemon().name("event-trace-writer").start(this::drain);
+    }
+
+    /**
+     * The process-wide tracer configured by {@code trace.file} and {@code trace.buffer.size}, or a disabled one
+     * when no trace file is set.
+     */
+    public static EventTracer global() {
+        EventTracer tracer = global;
+        if (tracer == null) {
+            synchronized (EventTracer.class) {
+                tracer = global;
+                if (tracer == null) {
+                    tracer = fromConfig();
+                    global = tracer;
+                }
+            }
+        }
+        return tracer;
+    }
+
+    private static EventTracer fromConfig() {
+        String path = Config.get("trace.file", "TRACE_FILE");
+        if (path == null || path.isBlank()) {
+            return DISABLED;
+        }
+        try {
+            return new EventTracer(Path.of(path), Config.getInt("trace.buffer.size", "TRACE_BUFFER_SIZE", 16_384));
+        } catch (IOException e) {
+            logger.warn("[WARN] Tracing disabled, could not open {}: {}", path, e.getMessage());
+            return DISABLED;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a pipeline stage of {@code ev} that started at {@code startNanos} ({@link System#nanoTime()}) and
+     * ends now.
+     *
+     * @param ev  must not be an {@code EventTable.Row}, which may have moved on by the time the span is written
+     * @param row the event's position in the events file
+     */
+    public void stage(Span span, String calendarId, ZoomEvent ev, int row, long startNanos, String outcome) {
+        record(span, calendarId, ev, row, startNanos, 0, 0, outcome);
+    }
+
+    /**
+     * Records one Calendar API call made for {@code ev}, from {@code startNanos} until now.
+     *
+     * @param status  the HTTP status of the call, or {@code 0} when it got no response
+     * @param attempt which send of the event this was, counting from 1
+     */
+    public void call(Span span, String calendarId, ZoomEvent ev, long startNanos, int status, int attempt,
+                     String outcome) {
+        record(span, calendarId, ev, 0, startNanos, status, attempt, outcome);
+    }
+
+    private void record(Span span, String calendarId, ZoomEvent ev, int row, long startNanos, int status,
+                        int attempt, String outcome) {
+        if (!enabled || closed) {
+            return;
+        }
+        long end = System.nanoTime();
+        long seq;
+        do {
+            seq = head.get();
+            if (seq - tail > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!head.compareAndSet(seq, seq + 1));
+
+        int i = (int) seq & mask;
+        spans[i] = (byte) span.ordinal();
+        calendars[i] = calendarId;
+        events[i] = ev;
+        rows[i] = row;
+        starts[i] = startNanos;
+        durations[i] = end - startNanos;
+        statuses[i] = status;
+        attempts[i] = attempt;
+        outcomes[i] = outcome;
+        published.setRelease(i, seq);
+    }
+
+    /**
+     * @return spans dropped so far because the buffer was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes out every span recorded so far and closes the file. Spans recorded afterwards are ignored.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!enabled || closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.close();
+        if (getDropped() > 0) {
+            logger.warn("[WARN] Trace buffer was full: {} span(s) dropped (raise TRACE_BUFFER_SIZE)", getDropped());
+        }
+        logger.info("[INFO] Traced {} span(s) to {}", tail, file);
+    }
+
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        boolean failed = false;
+        while (true) {
+            long seq = tail;
+            int i = (int) seq & mask;
+            if (published.getAcquire(i) != seq) {
+                if (closed && head.get() == seq) {
+                    break;
+                }
+                if (!closed && !failed) {
+                    failed = !flush();
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            if (!failed) {
+                line.setLength(0);
+                format(i, line);
+                try {
+                    out.append(line);
+                } catch (IOException e) {
+                    logger.error("[ERROR] Could not write trace to {}: {}", file, e.getMessage());
+                    failed = true;
+                }
+            }
+            events[i] = null;
+            tail = seq + 1;
+        }
+        if (!failed) {
+            flush();
+        }
+    }
+
+    private boolean flush() {
+        try {
+            out.flush();
+            return true;
+        } catch (IOException e) {
+            logger.error("[ERROR] Could not write trace to {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private void format(int i, StringBuilder line) {
+        ZoomEvent ev = events[i];
+        long startMicros = epochMicros + (starts[i] - baseNanos) / 1_000;
+        line.append("{\"ts\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(
+                Instant.ofEpochSecond(startMicros / 1_000_000, (startMicros % 1_000_000) * 1_000), line);
+        line.append("\",\"span\":\"").append(Span.values()[spans[i]].label);
+        line.append("\",\"calendar\":");
+        string(line, calendars[i]);
+        line.append(",\"event\":");
+        string(line, ev == null ? null : EventFingerprint.eventId(ev));
+        line.append(",\"summary\":");
+        string(line, ev == null ? null : ev.getDescription());
+        if (rows[i] > 0) {
+            line.append(",\"row\":").append(rows[i]);
+        }
+        long micros = durations[i] / 1_000;
+        line.append(",\"ms\":").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) line.append('0');
+        if (fraction < 10) line.append('0');
+        line.append(fraction);
+        if (attempts[i] > 0) {
+            line.append(",\"status\":").append(statuses[i]).append(",\"attempt\":").append(attempts[i]);
+        }
+        if (outcomes[i] != null) {
+            line.append(",\"outcome\":");
+            string(line, outcomes[i]);
+        }
+        line.append("}\n");
+    }
+
+    private static void string(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int c = 0; c < value.length(); c++) {
+            char ch = value.charAt(c);
+            switch (ch) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (ch < 0x20) {
+                        line.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        line.append(ch);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+}
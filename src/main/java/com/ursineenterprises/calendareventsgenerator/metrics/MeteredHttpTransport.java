@@ -0,0 +1,141 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.util.StreamingContent;
+import com.ursineenterprises.calendareventsgenerator.http.ForwardingHttpResponse;
+import com.ursineenterprises.calendareventsgenerator.http.ForwardingHttpTransport;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * {@link HttpTransport} decorator that times every request and counts the bytes sent and received, recording them
+ * in {@link ApiMetrics} under an operation name derived from the method and URL ({@code events.list},
+ * {@code events.insert}, {@code batch}, ...). Latency is measured up to the response headers; response bytes are
+ * counted as the body is read.
+ */
+public class MeteredHttpTransport extends ForwardingHttpTransport {
+    private final ApiMetrics metrics;
+
+    public MeteredHttpTransport(HttpTransport delegate, ApiMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) throws IOException {
+        return new MeteredRequest(delegateRequest(method, url), operationOf(method, url));
+    }
+
+    static String operationOf(String method, String url) {
+        String path = URI.create(url).getPath();
+        if (path.contains("/batch")) return "batch";
+        if (path.endsWith("/token")) return "oauth.token";
+        if (!path.contains("/events")) return method.toLowerCase();
+        return switch (method) {
+            case "GET" -> path.endsWith("/events") ? "events.list" : "events.get";
+            case "POST" -> "events.insert";
+            case "PATCH" -> "events.patch";
+            case "PUT" -> "events.update";
+            case "DELETE" -> "events.delete";
+            default -> "events." + method.toLowerCase();
+        };
+    }
+
+    private final class MeteredRequest extends LowLevelHttpRequest {
+        private final LowLevelHttpRequest request;
+        private final String operation;
+
+        private MeteredRequest(LowLevelHttpRequest request, String operation) {
+            this.request = request;
+            this.operation = operation;
+        }
+
+        @Override
+        public void addHeader(String name, String value) throws IOException {
+            request.addHeader(name, value);
+        }
+
+        @Override
+        public void setTimeout(int connectTimeout, int readTimeout) throws IOException {
+            request.setTimeout(connectTimeout, readTimeout);
+        }
+
+        @Override
+        public void setWriteTimeout(int writeTimeout) throws IOException {
+            request.setWriteTimeout(writeTimeout);
+        }
+
+        // LowLevelHttpRequest only takes and returns the deprecated util.StreamingContent; there is no replacement
+        @Override
+        @SuppressWarnings("deprecation")
+        public LowLevelHttpResponse execute() throws IOException {
+            long[] sent = new long[1];
+            StreamingContent content = getStreamingContent();
+            request.setContentLength(getContentLength());
+            request.setContentType(getContentType());
+            request.setContentEncoding(getContentEncoding());
+            if (content != null) {
+                request.setStreamingContent(out -> content.writeTo(new FilterOutputStream(out) {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                        sent[0]++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                        sent[0] += len;
+                    }
+                }));
+            }
+
+            long start = System.nanoTime();
+            LowLevelHttpResponse response;
+            try {
+                response = request.execute();
+            } catch (IOException | RuntimeException e) {
+                metrics.recordRequest(operation, 0, System.nanoTime() - start, sent[0], 0);
+                throw e;
+            }
+            metrics.recordRequest(operation, response.getStatusCode(), System.nanoTime() - start, sent[0], 0);
+            return new MeteredResponse(response, operation);
+        }
+    }
+
+    private final class MeteredResponse extends ForwardingHttpResponse {
+        private final String operation;
+
+        private MeteredResponse(LowLevelHttpResponse response, String operation) {
+            super(response);
+            this.operation = operation;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            InputStream in = response.getContent();
+            if (in == null) return null;
+            return new FilterInputStream(in) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) metrics.recordBytesReceived(operation, 1);
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = super.read(b, off, len);
+                    if (n > 0) metrics.recordBytesReceived(operation, n);
+                    return n;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes {@link ApiMetrics} for {@code --metrics-out}: JSON when the file name ends in {@code .json}, otherwise the
+ * Prometheus text exposition format (suitable for the node exporter's textfile collector).
+ */
+public final class MetricsWriter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private MetricsWriter() {
+    }
+
+    public static void write(ApiMetrics metrics, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), toMap(metrics));
+        } else {
+            Files.writeString(file, prometheus(metrics));
+        }
+    }
+
+    static Map<String, Object> toMap(ApiMetrics metrics) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        metrics.getOperations().forEach((name, stats) -> {
+            LatencyHistogram latency = stats.getLatency();
+            Map<String, Object> op = new LinkedHashMap<>();
+            op.put("calls", latency.getCount());
+            op.put("p50Millis", latency.percentileMicros(0.50) / 1000.0);
+            op.put("p90Millis", latency.percentileMicros(0.90) / 1000.0);
+            op.put("p99Millis", latency.percentileMicros(0.99) / 1000.0);
+            op.put("maxMillis", latency.getMaxMicros() / 1000.0);
+            op.put("statuses", stats.getStatusCounts());
+            op.put("bytesSent", stats.getBytesSent());
+            op.put("bytesReceived", stats.getBytesReceived());
+            operations.put(name, op);
+        });
+
+        List<Map<String, Object>> runs = metrics.getRuns().stream().map(run -> {
+            Map<String, Object> r = new LinkedHashMap<>();
+            r.put("operation", run.operation());
+            r.put("succeeded", run.succeeded());
+            r.put("skipped", run.skipped());
+            r.put("failed", run.failed());
+            r.put("elapsedMillis", run.elapsedMillis());
+            r.put("eventsPerSecond", run.eventsPerSecond());
+            return r;
+        }).toList();
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("operations", operations);
+        root.put("retries", metrics.getRetries());
+        root.put("runs", runs);
+        return root;
+    }
+
+    public static String prometheus(ApiMetrics metrics) {
+        StringBuilder out = new StringBuilder();
+        Map<String, ApiMetrics.OperationStats> operations = metrics.getOperations();
+
+        out.append("# HELP ceg_api_request_duration_seconds Calendar API request latency.\n");
+        out.append("# TYPE ceg_api_request_duration_seconds summary\n");
+        operations.forEach((name, stats) -> {
+            LatencyHistogram latency = stats.getLatency();
+            for (double q : QUANTILES) {
+                out.append(String.format(Locale.ROOT, "ceg_api_request_duration_seconds{operation=\"%s\",quantile=\"%s\"} %.6f%n",
+                        name, q, latency.percentileMicros(q) / 1e6));
+            }
+            out.append(String.format(Locale.ROOT, "ceg_api_request_duration_seconds_sum{operation=\"%s\"} %.6f%n",
+                    name, latency.getSumMicros() / 1e6));
+            out.append(String.format(Locale.ROOT, "ceg_api_request_duration_seconds_count{operation=\"%s\"} %d%n",
+                    name, latency.getCount()));
+        });
+
+        out.append("# HELP ceg_api_requests_total Calendar API calls by operation and HTTP status (0 = no response).\n");
+        out.append("# TYPE ceg_api_requests_total counter\n");
+        operations.forEach((name, stats) -> stats.getStatusCounts().forEach((status, count) ->
+                out.append(String.format("ceg_api_requests_total{operation=\"%s\",status=\"%d\"} %d%n", name, status, count))));
+
+        out.append("# HELP ceg_api_bytes_sent_total Request body bytes sent.\n");
+        out.append("# TYPE ceg_api_bytes_sent_total counter\n");
+        operations.forEach((name, stats) ->
+                out.append(String.format("ceg_api_bytes_sent_total{operation=\"%s\"} %d%n", name, stats.getBytesSent())));
+        out.append("# HELP ceg_api_bytes_received_total Response body bytes received.\n");
+        out.append("# TYPE ceg_api_bytes_received_total counter\n");
+        operations.forEach((name, stats) ->
+                out.append(String.format("ceg_api_bytes_received_total{operation=\"%s\"} %d%n", name, stats.getBytesReceived())));
+
+        out.append("# HELP ceg_api_retries_total Calendar API calls retried after a retryable failure.\n");
+        out.append("# TYPE ceg_api_retries_total counter\n");
+        out.append(String.format("ceg_api_retries_total %d%n", metrics.getRetries()));
+
+        out.append("# HELP ceg_run_events_total Events processed per run by outcome.\n");
+        out.append("# TYPE ceg_run_events_total counter\n");
+        for (RunStats run : metrics.getRuns()) {
+            out.append(String.format("ceg_run_events_total{operation=\"%s\",outcome=\"succeeded\"} %d%n", run.operation(), run.succeeded()));
+            out.append(String.format("ceg_run_events_total{operation=\"%s\",outcome=\"skipped\"} %d%n", run.operation(), run.skipped()));
+            out.append(String.format("ceg_run_events_total{operation=\"%s\",outcome=\"failed\"} %d%n", run.operation(), run.failed()));
+        }
+        out.append("# HELP ceg_run_duration_seconds Wall-clock duration of each run.\n");
+        out.append("# TYPE ceg_run_duration_seconds gauge\n");
+        for (RunStats run : metrics.getRuns()) {
+            out.append(String.format(Locale.ROOT, "ceg_run_duration_seconds{operation=\"%s\"} %.3f%n", run.operation(), run.elapsedMillis() / 1000.0));
+        }
+        return out.toString();
+    }
+}
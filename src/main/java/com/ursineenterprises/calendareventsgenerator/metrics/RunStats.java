@@ -0,0 +1,15 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+/**
+ * Final counts of one command run, as reported in the metrics output.
+ */
+public record RunStats(String operation, long succeeded, long skipped, long failed, long elapsedMillis) {
+
+    public long processed() {
+        return succeeded + skipped + failed;
+    }
+
+    public double eventsPerSecond() {
+        return processed() / (Math.max(1, elapsedMillis) / 1000.0);
+    }
+}
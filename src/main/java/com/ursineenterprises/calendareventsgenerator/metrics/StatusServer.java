@@ -0,0 +1,60 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Small local HTTP endpoint for long-running modes: {@code GET /health} returns the caller's status as JSON
+ * (HTTP 503 when its {@code status} is not {@code "ok"}) and {@code GET /metrics} returns {@link ApiMetrics} in
+ * Prometheus text format. Binds to the loopback interface only.
+ */
+public class StatusServer implements AutoCloseable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+
+    private StatusServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StatusServer start(int port, Supplier<Map<String, Object>> health, ApiMetrics metrics) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/health", exchange -> {
+            Map<String, Object> status = health.get();
+            int code = "ok".equals(status.get("status")) ? 200 : 503;
+            respond(exchange, code, "application/json", MAPPER.writeValueAsString(status));
+        });
+        server.createContext("/metrics", exchange ->
+                respond(exchange, 200, "text/plain; version=0.0.4", MetricsWriter.prometheus(metrics)));
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return new StatusServer(server);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, int code, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+/**
+ * One entry of a multi-calendar manifest: the calendar to fill, the events file to fill it from, and the timezone
+ * its events are in ({@code null} = {@code DEFAULT_TIMEZONE}).
+ */
+public record CalendarJob(String calendarId, String eventsFile, String timezone) {
+}
@@ -0,0 +1,79 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Keys used to recognise a {@link ZoomEvent} across runs.
+ * <p>
+ * The <em>identity</em> names the series (summary, weekday and start time) and stays stable when only its link
+ * changes; the <em>fingerprint</em> covers everything written to the calendar, so a changed fingerprint for a known
+ * identity means the series needs patching.
+ */
+public final class EventFingerprint {
+    private static final String BASE32HEX = "0123456789abcdefghijklmnopqrstuv";
+
+    private EventFingerprint() {
+    }
+
+    public static String identity(ZoomEvent ev) {
+        return identity(ev.getDescription(), ev.getDayOfWeek(), ev.getTime());
+    }
+
+    public static String identity(String summary, DayOfWeek day, LocalTime time) {
+        return summary.trim().toLowerCase(Locale.ROOT) + '|' + day + '|' + time.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Hex SHA-256 of the identity, safe to use as a fixed-width key in files.
+     */
+    public static String identityHash(ZoomEvent ev) {
+        return sha256(identity(ev));
+    }
+
+    /**
+     * Google event ID derived from the identity, so re-sending an insert for the same series is rejected with
+     * {@code 409} instead of creating a duplicate. Lowercase base32hex ({@code 0-9a-v}) as the Calendar API requires.
+     */
+    public static String eventId(ZoomEvent ev) {
+        byte[] digest = digest("event-id|" + identity(ev));
+        StringBuilder id = new StringBuilder(32);
+        // 20 digest bytes = 160 bits = 32 base32 digits of 5 bits each
+        long buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < 20; i++) {
+            buffer = (buffer << 8) | (digest[i] & 0xff);
+            bits += 8;
+            while (bits >= 5) {
+                bits -= 5;
+                id.append(BASE32HEX.charAt((int) (buffer >>> bits) & 0x1f));
+            }
+        }
+        return id.toString();
+    }
+
+    public static String fingerprint(ZoomEvent ev, String timezone) {
+        // Default weekly, one-hour events keep the fingerprints they had before rules and durations were configurable
+        String recurrence = ev.getRecurrence() == null ? "" : "\n" + ev.getRecurrence();
+        String duration = ev.getDurationMinutes() == null ? "" : "\nPT" + ev.getDurationMinutes() + "M";
+        return sha256(ev.getDayOfWeek() + "\n" + ev.getTime() + "\n" + ev.getZoomUrl() + "\n" + ev.getDescription() + "\n" + timezone + recurrence + duration);
+    }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(digest(value), 0, 16);
+    }
+
+    private static byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * One entry of the events file exactly as written, bound by Jackson before any conversion so that bad values can
+ * be reported per record instead of aborting the whole file.
+ */
+public record EventRecord(String dayOfWeek, String time, String zoomUrl, String description, String recurrence,
+                          Integer durationMinutes) {
+
+    /** Longest occurrence accepted: one day. */
+    public static final int MAX_DURATION_MINUTES = 24 * 60;
+
+    public EventRecord(String dayOfWeek, String time, String zoomUrl, String description) {
+        this(dayOfWeek, time, zoomUrl, description, null, null);
+    }
+
+    public EventRecord(String dayOfWeek, String time, String zoomUrl, String description, String recurrence) {
+        this(dayOfWeek, time, zoomUrl, description, recurrence, null);
+    }
+
+    public ZoomEvent toZoomEvent() {
+        if (dayOfWeek == null || time == null || zoomUrl == null || description == null) {
+            throw new IllegalArgumentException("dayOfWeek, time, zoomUrl and description are all required");
+        }
+        DayOfWeek day;
+        LocalTime start;
+        try {
+            day = DayOfWeek.valueOf(dayOfWeek.trim().toUpperCase());
+            start = LocalTime.parse(time.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid time '" + time + "'", e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid dayOfWeek '" + dayOfWeek + "'", e);
+        }
+        if (durationMinutes != null && (durationMinutes < 1 || durationMinutes > MAX_DURATION_MINUTES)) {
+            throw new IllegalArgumentException("Invalid durationMinutes " + durationMinutes + " (1 to " + MAX_DURATION_MINUTES + ")");
+        }
+        // Like a plain weekly rule, the default length is stored as null
+        Integer minutes = durationMinutes == null || durationMinutes == WeeklySlot.DEFAULT_DURATION.toMinutes() ? null : durationMinutes;
+        return new ZoomEvent(day, start, zoomUrl, description, recurrence == null ? null : canonicalRule(day), minutes);
+    }
+
+    /**
+     * Normalizes the recurrence so equal rules compare equal; a plain weekly rule is stored as the default.
+     */
+    private String canonicalRule(DayOfWeek day) {
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.parse(recurrence);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid recurrence '" + recurrence + "': " + e.getMessage(), e);
+        }
+        if (!rule.byDay().isEmpty() && !rule.byDay().contains(day)) {
+            throw new IllegalArgumentException("Invalid recurrence '" + recurrence + "': BYDAY must include " + day);
+        }
+        return rule.equals(RecurrenceRule.WEEKLY) ? null : rule.toString();
+    }
+}
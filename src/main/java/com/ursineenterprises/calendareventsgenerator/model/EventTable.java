@@ -0,0 +1,283 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Column-oriented, immutable table of the events in an events file, for commands that hold the whole schedule in
+ * memory.
+ * <p>
+ * Each row costs a byte for the weekday, an int for the start time (second of day), an int for the duration in
+ * minutes (0 for the default) and an int code into a shared dictionary for each of the Zoom URL, description and
+ * recurrence, instead of a {@link ZoomEvent} and its objects.
+ * Large schedules repeat the same links, titles and rules across many slots, so each distinct string is kept once.
+ * Start times with a fractional second are rare enough to be stored aside, keyed from the time column.
+ * <p>
+ * Rows are read through a {@link Row} flyweight that {@link #forEach} repositions over the table, so a full pass
+ * allocates nothing per row. A row must not be kept beyond the callback; {@link #get} returns a standalone copy.
+ */
+public class EventTable {
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final int size;
+    private final byte[] days;
+    private final int[] times;
+    private final LocalTime[] preciseTimes;
+    private final int[] urls;
+    private final int[] descriptions;
+    private final int[] recurrences;
+    private final int[] durations;
+    private final String[] dictionary;
+
+    private EventTable(Builder builder) {
+        this.size = builder.size;
+        this.days = Arrays.copyOf(builder.days, size);
+        this.times = Arrays.copyOf(builder.times, size);
+        this.preciseTimes = builder.preciseTimes.toArray(LocalTime[]::new);
+        this.urls = Arrays.copyOf(builder.urls, size);
+        this.descriptions = Arrays.copyOf(builder.descriptions, size);
+        this.recurrences = Arrays.copyOf(builder.recurrences, size);
+        this.durations = Arrays.copyOf(builder.durations, size);
+        this.dictionary = builder.dictionary.toArray(String[]::new);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static EventTable of(List<ZoomEvent> events) {
+        Builder builder = new Builder();
+        events.forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public DayOfWeek dayOfWeek(int row) {
+        return DAYS[days[row]];
+    }
+
+    public LocalTime time(int row) {
+        int time = times[row];
+        return time >= 0 ? LocalTime.ofSecondOfDay(time) : preciseTimes[-time - 1];
+    }
+
+    public String zoomUrl(int row) {
+        return dictionary[urls[row]];
+    }
+
+    public String description(int row) {
+        return dictionary[descriptions[row]];
+    }
+
+    public String recurrence(int row) {
+        int code = recurrences[row];
+        return code < 0 ? null : dictionary[code];
+    }
+
+    public Integer durationMinutes(int row) {
+        int minutes = durations[row];
+        return minutes == 0 ? null : minutes;
+    }
+
+    /**
+     * @return number of distinct Zoom URLs, descriptions and recurrences stored for all rows
+     */
+    public int distinctStrings() {
+        return dictionary.length;
+    }
+
+    /**
+     * @return a new, independent event for {@code row}
+     */
+    public ZoomEvent get(int row) {
+        return new ZoomEvent(dayOfWeek(row), time(row), zoomUrl(row), description(row), recurrence(row),
+                durationMinutes(row));
+    }
+
+    /**
+     * @return a flyweight positioned before the first row; move it with {@link Row#moveTo}
+     */
+    public Row row() {
+        return new Row(this);
+    }
+
+    /**
+     * Passes every row, in file order, to {@code action} through a single reused {@link Row}.
+     */
+    public void forEach(Consumer<? super Row> action) {
+        Row row = new Row(this);
+        for (int i = 0; i < size; i++) {
+            action.accept(row.moveTo(i));
+        }
+    }
+
+    /**
+     * Read-only view of one table row that can be passed wherever a {@link ZoomEvent} is read. Moving it changes
+     * what every reference to it sees, so callers that keep an event must {@link #copy()} it.
+     */
+    public static final class Row extends ZoomEvent {
+        private final EventTable table;
+        private int index = -1;
+        private int cachedTime = Integer.MIN_VALUE;
+        private LocalTime time;
+
+        private Row(EventTable table) {
+            super(null, null, null, null);
+            this.table = table;
+        }
+
+        public Row moveTo(int index) {
+            this.index = index;
+            return this;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public ZoomEvent copy() {
+            return table.get(index);
+        }
+
+        @Override
+        public DayOfWeek getDayOfWeek() {
+            return table.dayOfWeek(index);
+        }
+
+        @Override
+        public LocalTime getTime() {
+            // Consecutive rows mostly share a start time, so the last one converted is kept
+            if (table.times[index] != cachedTime) {
+                cachedTime = table.times[index];
+                time = table.time(index);
+            }
+            return time;
+        }
+
+        @Override
+        public String getZoomUrl() {
+            return table.zoomUrl(index);
+        }
+
+        @Override
+        public String getDescription() {
+            return table.description(index);
+        }
+
+        @Override
+        public String getRecurrence() {
+            return table.recurrence(index);
+        }
+
+        @Override
+        public Integer getDurationMinutes() {
+            return table.durationMinutes(index);
+        }
+
+        @Override
+        public void setDayOfWeek(DayOfWeek dayOfWeek) {
+            throw new UnsupportedOperationException("EventTable rows are read-only");
+        }
+
+        @Override
+        public void setTime(LocalTime time) {
+            throw new UnsupportedOperationException("EventTable rows are read-only");
+        }
+
+        @Override
+        public void setZoomUrl(String zoomUrl) {
+            throw new UnsupportedOperationException("EventTable rows are read-only");
+        }
+
+        @Override
+        public void setDescription(String description) {
+            throw new UnsupportedOperationException("EventTable rows are read-only");
+        }
+
+        @Override
+        public void setRecurrence(String recurrence) {
+            throw new UnsupportedOperationException("EventTable rows are read-only");
+        }
+
+        @Override
+        public void setDurationMinutes(Integer durationMinutes) {
+            throw new UnsupportedOperationException("EventTable rows are read-only");
+        }
+    }
+
+    /**
+     * Appends rows to growable columns; {@link #build()} trims them to size.
+     */
+    public static final class Builder {
+        private int size;
+        private byte[] days = new byte[64];
+        private int[] times = new int[64];
+        private int[] urls = new int[64];
+        private int[] descriptions = new int[64];
+        private int[] recurrences = new int[64];
+        private int[] durations = new int[64];
+        private final List<LocalTime> preciseTimes = new ArrayList<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(ZoomEvent ev) {
+            if (size == days.length) {
+                int capacity = size * 2;
+                days = Arrays.copyOf(days, capacity);
+                times = Arrays.copyOf(times, capacity);
+                urls = Arrays.copyOf(urls, capacity);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+                recurrences = Arrays.copyOf(recurrences, capacity);
+                durations = Arrays.copyOf(durations, capacity);
+            }
+            LocalTime time = ev.getTime();
+            days[size] = (byte) ev.getDayOfWeek().ordinal();
+            if (time.getNano() == 0) {
+                times[size] = time.toSecondOfDay();
+            } else {
+                preciseTimes.add(time);
+                times[size] = -preciseTimes.size();
+            }
+            urls[size] = code(ev.getZoomUrl());
+            descriptions[size] = code(ev.getDescription());
+            recurrences[size] = ev.getRecurrence() == null ? -1 : code(ev.getRecurrence());
+            durations[size] = ev.getDurationMinutes() == null ? 0 : ev.getDurationMinutes();
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public EventTable build() {
+            return new EventTable(this);
+        }
+
+        private int code(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import com.google.api.services.calendar.model.Event;
+
+/**
+ * Outcome of inserting a single {@link ZoomEvent}, either the created {@link Event} or the error reported for it.
+ */
+public record InsertResult(ZoomEvent source, Event created, int errorCode, String errorMessage) {
+
+    public static InsertResult success(ZoomEvent source, Event created) {
+        return new InsertResult(source, created, 0, null);
+    }
+
+    public static InsertResult failure(ZoomEvent source, int errorCode, String errorMessage) {
+        return new InsertResult(source, null, errorCode, errorMessage);
+    }
+
+    public boolean succeeded() {
+        return created != null;
+    }
+}
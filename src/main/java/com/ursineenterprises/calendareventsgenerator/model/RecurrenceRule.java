@@ -0,0 +1,209 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The subset of an RFC 5545 {@code RRULE} this tool writes and expands: {@code FREQ=DAILY} or {@code WEEKLY}, with
+ * {@code INTERVAL}, {@code BYDAY} (plain weekdays), {@code WKST} and one of {@code UNTIL} or {@code COUNT}.
+ * <p>
+ * Occurrences are computed on the local wall clock of the series' start zone, as calendars do: a 09:00 series stays
+ * at 09:00 across DST changes, and a start that falls in a spring-forward gap moves forward by the gap's length.
+ */
+public record RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, String until, Integer count,
+                             DayOfWeek weekStart) {
+
+    public enum Frequency { DAILY, WEEKLY }
+
+    /** What events without an explicit recurrence repeat with. */
+    public static final RecurrenceRule WEEKLY = parse("FREQ=WEEKLY");
+
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    public RecurrenceRule {
+        byDay = byDay.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(byDay));
+    }
+
+    /**
+     * Parses a rule with or without its {@code RRULE:} prefix.
+     *
+     * @throws IllegalArgumentException when the rule is malformed or uses a part this tool cannot expand
+     */
+    public static RecurrenceRule parse(String rule) {
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        String until = null;
+        Integer count = null;
+        DayOfWeek weekStart = DayOfWeek.MONDAY;
+
+        for (String part : body.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Malformed rule part '" + part + "'");
+            }
+            String value = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+            switch (part.substring(0, eq).trim().toUpperCase(Locale.ROOT)) {
+                case "FREQ" -> {
+                    try {
+                        frequency = Frequency.valueOf(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unsupported FREQ '" + value + "' (DAILY or WEEKLY)");
+                    }
+                }
+                case "INTERVAL" -> interval = positive("INTERVAL", value);
+                case "COUNT" -> count = positive("COUNT", value);
+                case "UNTIL" -> {
+                    untilInstant(value, ZoneOffset.UTC);
+                    until = value;
+                }
+                case "BYDAY" -> {
+                    for (String day : value.split(",")) {
+                        byDay.add(day(day.trim()));
+                    }
+                }
+                case "WKST" -> weekStart = day(value);
+                default -> throw new IllegalArgumentException("Unsupported rule part '" + part + "'");
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required");
+        }
+        if (until != null && count != null) {
+            throw new IllegalArgumentException("UNTIL and COUNT cannot both be set");
+        }
+        return new RecurrenceRule(frequency, interval, byDay, until, count, weekStart);
+    }
+
+    /**
+     * Start times of the occurrences beginning in {@code [from, to)} of a series first starting at {@code start}.
+     */
+    public List<ZonedDateTime> occurrences(ZonedDateTime start, Instant from, Instant to) {
+        ZoneId zone = start.getZone();
+        LocalTime time = start.toLocalTime();
+        LocalDate first = start.toLocalDate();
+        Instant last = until == null ? null : untilInstant(until, zone);
+        Set<DayOfWeek> days = !byDay.isEmpty() ? byDay
+                : frequency == Frequency.WEEKLY ? EnumSet.of(first.getDayOfWeek()) : EnumSet.allOf(DayOfWeek.class);
+        int span = frequency == Frequency.DAILY ? 1 : 7;
+        long periodDays = (long) span * interval;
+        LocalDate periodStart = frequency == Frequency.DAILY ? first : first.with(TemporalAdjusters.previousOrSame(weekStart));
+
+        // COUNT is numbered from the first occurrence, so only an uncounted series can jump ahead to the window
+        long period = 0;
+        if (count == null) {
+            long daysToWindow = ChronoUnit.DAYS.between(periodStart, LocalDate.ofInstant(from, zone));
+            period = Math.max(0, daysToWindow / periodDays - 1);
+        }
+
+        List<ZonedDateTime> occurrences = new ArrayList<>();
+        int seen = 0;
+        for (; ; period++) {
+            LocalDate base = periodStart.plusDays(period * periodDays);
+            if (!ZonedDateTime.of(base, time, zone).toInstant().isBefore(to)) {
+                return occurrences;
+            }
+            for (int d = 0; d < span; d++) {
+                LocalDate date = base.plusDays(d);
+                if (date.isBefore(first) || !days.contains(date.getDayOfWeek())) continue;
+                ZonedDateTime occurrence = ZonedDateTime.of(date, time, zone);
+                Instant at = occurrence.toInstant();
+                if ((last != null && at.isAfter(last)) || (count != null && ++seen > count) || !at.isBefore(to)) {
+                    return occurrences;
+                }
+                if (!at.isBefore(from)) {
+                    occurrences.add(occurrence);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return how far apart the rule's repeat periods start: {@code INTERVAL} days or weeks
+     */
+    public Period period() {
+        return frequency == Frequency.DAILY ? Period.ofDays(interval) : Period.ofWeeks(interval);
+    }
+
+    /**
+     * @return the rule in canonical form, without the {@code RRULE:} prefix and omitting default parts
+     */
+    @Override
+    public String toString() {
+        StringJoiner rule = new StringJoiner(";");
+        rule.add("FREQ=" + frequency);
+        if (interval != 1) rule.add("INTERVAL=" + interval);
+        if (!byDay.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            byDay.forEach(day -> days.add(DAY_CODES[day.ordinal()]));
+            rule.add("BYDAY=" + days);
+        }
+        if (until != null) rule.add("UNTIL=" + until);
+        if (count != null) rule.add("COUNT=" + count);
+        if (weekStart != DayOfWeek.MONDAY) rule.add("WKST=" + DAY_CODES[weekStart.ordinal()]);
+        return rule.toString();
+    }
+
+    /**
+     * Resolves an RFC 5545 date or date-time value: UTC when it ends in {@code Z}, otherwise local to {@code zone}.
+     * A bare date means the end of that day.
+     */
+    private static Instant untilInstant(String value, ZoneId zone) {
+        try {
+            if (value.length() == 8) {
+                return ZonedDateTime.of(LocalDate.parse(value, DATE), LocalTime.MAX, zone).toInstant();
+            }
+            if (value.endsWith("Z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME).toInstant(ZoneOffset.UTC);
+            }
+            return ZonedDateTime.of(LocalDateTime.parse(value, DATE_TIME), zone).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + value + "'", e);
+        }
+    }
+
+    private static DayOfWeek day(String code) {
+        for (int i = 0; i < DAY_CODES.length; i++) {
+            if (DAY_CODES[i].equals(code)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported weekday '" + code + "' (MO to SU, without an ordinal)");
+    }
+
+    private static int positive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException(name + " must be a positive integer, was '" + value + "'");
+    }
+}
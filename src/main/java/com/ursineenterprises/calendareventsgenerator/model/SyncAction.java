@@ -0,0 +1,49 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One step of a {@link SyncPlan}. Day and time are kept as strings so the plan serializes without extra Jackson
+ * modules; {@code eventId} is the Google recurring master being patched or deleted and is empty for creates.
+ * {@code recurrence} is the rule to create with ({@code null} for weekly) or, on a patch, the rule that replaces the
+ * series' current one ({@code null} to leave it unchanged). {@code durationMinutes} works the same way for the length
+ * of each occurrence.
+ */
+public record SyncAction(Type type, String eventId, String dayOfWeek, String time, String zoomUrl, String description,
+                         String recurrence, Integer durationMinutes) {
+
+    public enum Type { CREATE, PATCH, DELETE }
+
+    public static SyncAction create(ZoomEvent ev) {
+        return new SyncAction(Type.CREATE, null, ev.getDayOfWeek().name(), ev.getTime().toString(), ev.getZoomUrl(),
+                ev.getDescription(), ev.getRecurrence(), ev.getDurationMinutes());
+    }
+
+    public static SyncAction patch(String eventId, ZoomEvent ev) {
+        return patch(eventId, ev, false);
+    }
+
+    public static SyncAction patch(String eventId, ZoomEvent ev, boolean reschedule) {
+        return patch(eventId, ev, reschedule, false);
+    }
+
+    /**
+     * @param reschedule also replace the series' recurrence with {@code ev}'s
+     * @param resize     also change the length of the series' occurrences to {@code ev}'s
+     */
+    public static SyncAction patch(String eventId, ZoomEvent ev, boolean reschedule, boolean resize) {
+        return new SyncAction(Type.PATCH, eventId, ev.getDayOfWeek().name(), ev.getTime().toString(), ev.getZoomUrl(),
+                ev.getDescription(), reschedule ? ev.recurrenceRule().toString() : null,
+                resize ? (int) ev.duration().toMinutes() : null);
+    }
+
+    public static SyncAction delete(String eventId, String summary) {
+        return new SyncAction(Type.DELETE, eventId, null, null, null, summary, null, null);
+    }
+
+    public ZoomEvent toZoomEvent() {
+        return new ZoomEvent(DayOfWeek.valueOf(dayOfWeek), LocalTime.parse(time), zoomUrl, description, recurrence,
+                durationMinutes);
+    }
+}
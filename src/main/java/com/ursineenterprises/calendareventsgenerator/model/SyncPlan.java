@@ -0,0 +1,20 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * Minimal set of writes that brings a calendar's recurring series in line with the events file.
+ */
+public record SyncPlan(String calendarId, int unchanged, List<SyncAction> actions) {
+
+    public List<SyncAction> actionsOf(SyncAction.Type type) {
+        return actions.stream().filter(a -> a.type() == type).toList();
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return actions.isEmpty();
+    }
+}
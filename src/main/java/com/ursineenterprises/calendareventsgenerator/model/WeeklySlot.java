@@ -0,0 +1,23 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The first occurrence of a weekly {@link ZoomEvent}: its start on or after a given day and its end
+ * {@link ZoomEvent#duration()} later. Shared by everything that writes an event (API inserts, the curl preview and
+ * the iCalendar export) so they always agree.
+ */
+public record WeeklySlot(ZonedDateTime start, ZonedDateTime end) {
+
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+
+    public static WeeklySlot next(ZoomEvent ev, ZoneId zone, LocalDate from) {
+        LocalDate day = from.with(TemporalAdjusters.nextOrSame(ev.getDayOfWeek()));
+        ZonedDateTime start = ZonedDateTime.of(day, ev.getTime(), zone);
+        return new WeeklySlot(start, start.plus(ev.duration()));
+    }
+}
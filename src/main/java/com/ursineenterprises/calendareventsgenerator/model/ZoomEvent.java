@@ -2,22 +2,50 @@ package com.ursineenterprises.calendareventsgenerator.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalTime;
 
 @Getter
 @Setter
+@ToString
 public class ZoomEvent {
     private DayOfWeek dayOfWeek;
     private LocalTime time;
     private String zoomUrl;
     private String description;
+    /** Canonical {@link RecurrenceRule} text, or {@code null} for the default weekly series. */
+    private String recurrence;
+    /** Length of each occurrence, or {@code null} for {@link WeeklySlot#DEFAULT_DURATION}. */
+    private Integer durationMinutes;
 
     public ZoomEvent(DayOfWeek dayOfWeek, LocalTime time, String zoomUrl, String description) {
+        this(dayOfWeek, time, zoomUrl, description, null);
+    }
+
+    public ZoomEvent(DayOfWeek dayOfWeek, LocalTime time, String zoomUrl, String description, String recurrence) {
+        this(dayOfWeek, time, zoomUrl, description, recurrence, null);
+    }
+
+    public ZoomEvent(DayOfWeek dayOfWeek, LocalTime time, String zoomUrl, String description, String recurrence,
+                     Integer durationMinutes) {
         this.dayOfWeek = dayOfWeek;
         this.time = time;
         this.zoomUrl = zoomUrl;
         this.description = description;
+        this.recurrence = recurrence;
+        this.durationMinutes = durationMinutes;
+    }
+
+    public RecurrenceRule recurrenceRule() {
+        String rule = getRecurrence();
+        return rule == null ? RecurrenceRule.WEEKLY : RecurrenceRule.parse(rule);
+    }
+
+    public Duration duration() {
+        Integer minutes = getDurationMinutes();
+        return minutes == null ? WeeklySlot.DEFAULT_DURATION : Duration.ofMinutes(minutes);
     }
 }
@@ -0,0 +1,166 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local copy of a calendar's events (recurring masters, exceptions and single events) kept current with
+ * {@code events.list} sync tokens.
+ * <p>
+ * The first {@link #sync()} pages through the whole calendar and stores the resulting {@code nextSyncToken}; later
+ * syncs fetch only what changed since then. When Google expires the token (HTTP 410) the mirror is dropped and
+ * fully re-synced. If a file is configured the mirror and its token are saved after every sync, so a new run
+ * starts from a delta rather than a full listing.
+ */
+public class CalendarMirror {
+    private static final Logger logger = LoggerFactory.getLogger(CalendarMirror.class);
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final int PAGE_SIZE = 2500;
+    /**
+     * Partial response: what sync planning and clearing read. Attendees, reminders, conference data and the like are
+     * never transferred or decoded.
+     */
+    static final String FIELDS = "nextPageToken,nextSyncToken,"
+            + "items(id,status,summary,description,recurrence,recurringEventId,start,end)";
+
+    private final Calendar service;
+    private final ResilientExecutor resilience;
+    private final String calendarId;
+    private final Path file;
+    private final Map<String, Event> events = new LinkedHashMap<>();
+    private String syncToken;
+
+    public CalendarMirror(Calendar service, ResilientExecutor resilience, String calendarId, Path file) {
+        this.service = service;
+        this.resilience = resilience;
+        this.calendarId = calendarId;
+        this.file = file;
+    }
+
+    /**
+     * Creates a mirror backed by {@code file}, restoring its contents and sync token if the file exists.
+     */
+    public static CalendarMirror load(Calendar service, ResilientExecutor resilience, String calendarId, Path file) {
+        CalendarMirror mirror = new CalendarMirror(service, resilience, calendarId, file);
+        if (file != null && Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                Events saved = JSON_FACTORY.fromInputStream(in, StandardCharsets.UTF_8, Events.class);
+                if (saved.getItems() != null) {
+                    saved.getItems().forEach(e -> mirror.events.put(e.getId(), e));
+                }
+                mirror.syncToken = saved.getNextSyncToken();
+            } catch (IOException | IllegalArgumentException e) {
+                logger.warn("[WARN] Ignoring unreadable calendar mirror {}: {}", file, e.getMessage());
+                mirror.events.clear();
+                mirror.syncToken = null;
+            }
+        }
+        return mirror;
+    }
+
+    /**
+     * Brings the mirror up to date and returns a copy of its events.
+     */
+    public synchronized List<Event> sync() throws IOException {
+        if (syncToken == null) {
+            fetch(null);
+        } else {
+            try {
+                fetch(syncToken);
+            } catch (GoogleJsonResponseException e) {
+                if (e.getStatusCode() != 410) throw e;
+                logger.info("[INFO] Sync token for {} expired; performing a full resync", calendarId);
+                events.clear();
+                syncToken = null;
+                fetch(null);
+            }
+        }
+        save();
+        return new ArrayList<>(events.values());
+    }
+
+    /**
+     * @return true when the mirror holds a sync token, so {@link #sync()} costs a delta rather than a full listing
+     */
+    public synchronized boolean isSynced() {
+        return syncToken != null;
+    }
+
+    /**
+     * Drops an event locally, e.g. right after deleting it, without waiting for the next delta. Forgetting a recurring
+     * series also drops its modified or cancelled instances, which go with it.
+     */
+    public synchronized void forget(String eventId) {
+        events.remove(eventId);
+        events.values().removeIf(event -> eventId.equals(event.getRecurringEventId()));
+    }
+
+    private void fetch(String token) throws IOException {
+        String pageToken = null;
+        int pages = 0;
+        int changes = 0;
+        Events page;
+        do {
+            Calendar.Events.List request = service.events().list(calendarId)
+                    .setMaxResults(PAGE_SIZE)
+                    .setSingleEvents(false)
+                    .setFields(FIELDS)
+                    .setPageToken(pageToken);
+            if (token != null) {
+                request.setSyncToken(token);
+            }
+            page = resilience.execute(request::execute);
+            pages++;
+
+            if (page.getItems() != null) {
+                for (Event event : page.getItems()) {
+                    changes++;
+                    if ("cancelled".equals(event.getStatus())) {
+                        events.remove(event.getId());
+                    } else {
+                        events.put(event.getId(), event);
+                    }
+                }
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        syncToken = page.getNextSyncToken();
+        logger.info("[INFO] {} sync of {}: {} change(s) across {} page(s), {} event(s) mirrored",
+                token == null ? "Full" : "Incremental", calendarId, changes, pages, events.size());
+    }
+
+    private void save() throws IOException {
+        if (file == null) return;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Events snapshot = new Events()
+                .setItems(new ArrayList<>(events.values()))
+                .setNextSyncToken(syncToken);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            out.write(JSON_FACTORY.toString(snapshot));
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -1,122 +1,386 @@
 package com.ursineenterprises.calendareventsgenerator.services;
 
-import com.google.api.client.auth.oauth2.Credential;
-import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
-import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
-
 import com.google.api.services.calendar.model.Events;
-import com.ursineenterprises.calendareventsgenerator.CalendarEventsGenerator;
+
 import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.metrics.EventTracer;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.InsertResult;
+import com.ursineenterprises.calendareventsgenerator.model.RecurrenceRule;
+import com.ursineenterprises.calendareventsgenerator.model.SyncPlan;
+import com.ursineenterprises.calendareventsgenerator.model.WeeklySlot;
 import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.InputStream;
-import java.time.DayOfWeek;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class CalendarService {
-    private static final String APPLICATION_NAME = Config.get("application.name", "APPLICATION_NAME");
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
     private static final Logger logger = LoggerFactory.getLogger(CalendarService.class);
 
+    /** Google Calendar rejects batch requests with more than 50 calls. */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private static final String ZOOM_LINK_PREFIX = "Zoom link: ";
+    private static final int SNAPSHOT_DAYS = 8;
+    /** What clearing reads of each event. */
+    private static final String CLEAR_FIELDS = "nextPageToken,items(id,summary,recurringEventId)";
+    /** How far either side of now clearing shards its listing; events further out are listed by the two tail shards. */
+    private static final Duration CLEAR_WINDOW = Duration.ofDays(365);
+
     private final Calendar service;
     private final String timezone;
+    private final int batchSize;
+    private final ConcurrentRunner runner;
+    private final ResilientExecutor resilience;
+    private final Map<String, CalendarSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, CalendarMirror> mirrors = new ConcurrentHashMap<>();
+    private volatile ZoneId zone;
 
     protected Calendar createCalendarService() throws Exception {
-        Credential credential = authorize();
-        return new Calendar.Builder(
-                GoogleNetHttpTransport.newTrustedTransport(),
-                JSON_FACTORY,
-                credential
-        ).setApplicationName(APPLICATION_NAME).build();
+        return GoogleClients.calendar();
     }
 
     public CalendarService() throws Exception {
         this.timezone = Config.get("default.timezone", "DEFAULT_TIMEZONE");
+        this.batchSize = resolveBatchSize();
+        this.runner = ConcurrentRunner.fromConfig();
+        this.resilience = ResilientExecutor.fromConfig();
         this.service = createCalendarService();
     }
 
-    private static Credential authorize() throws Exception {
-        String credentialsPath = Config.get("credentials.file.path", "GOOGLE_CREDENTIALS_FILE_PATH");
-        if (credentialsPath == null) {
-            throw new IllegalStateException("Missing env var: GOOGLE_CREDENTIALS_FILE_PATH");
+    public CalendarService(Calendar service, String timezone) {
+        this(service, timezone, ConcurrentRunner.fromConfig());
+    }
+
+    public CalendarService(Calendar service, String timezone, ConcurrentRunner runner) {
+        this(service, timezone, runner, ResilientExecutor.fromConfig());
+    }
+
+    public CalendarService(Calendar service, String timezone, ConcurrentRunner runner, ResilientExecutor resilience) {
+        this.timezone = timezone;
+        this.batchSize = resolveBatchSize();
+        this.runner = runner;
+        this.resilience = resilience;
+        this.service = service;
+    }
+
+    public ConcurrentRunner getRunner() {
+        return runner;
+    }
+
+    public ResilientExecutor getResilience() {
+        return resilience;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private static int resolveBatchSize() {
+        int configured = Config.getInt("insert.batch.size", "INSERT_BATCH_SIZE", MAX_BATCH_SIZE);
+        return Math.clamp(configured, 1, MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Answers from a per-calendar {@link CalendarSnapshot} covering the next occurrence of every weekday, so a run
+     * costs one paged listing instead of one {@code events.list} call per event.
+     */
+    public boolean eventExists(String calendarId, ZoomEvent ev) throws IOException {
+        return snapshotFor(calendarId).contains(ev);
+    }
+
+    public CalendarSnapshot snapshotFor(String calendarId) throws IOException {
+        CalendarSnapshot snapshot = snapshots.get(calendarId);
+        if (snapshot != null) {
+            return snapshot;
         }
+        // Loaded outside computeIfAbsent: its bin lock would pin the caller's carrier thread while the listing's
+        // shards wait for one
+        CalendarSnapshot loaded = loadSnapshot(calendarId);
+        snapshot = snapshots.putIfAbsent(calendarId, loaded);
+        return snapshot != null ? snapshot : loaded;
+    }
+
+    public void invalidateSnapshot(String calendarId) {
+        snapshots.remove(calendarId);
+    }
 
-        try (InputStream in = CalendarEventsGenerator.class.getResourceAsStream("/" + credentialsPath)) {
-            if (in == null) {
-                throw new RuntimeException(credentialsPath + " not found in classpath!");
+    private CalendarSnapshot loadSnapshot(String calendarId) throws IOException {
+        ZonedDateTime today = LocalDate.now(zone()).atStartOfDay(zone());
+        Instant from = today.minusMinutes(5).toInstant();
+        Instant to = today.plusDays(SNAPSHOT_DAYS).plusMinutes(5).toInstant();
+        // Series are expanded locally, so by default the window starts as one shard: every shard returns each series
+        // again. Hot shards still split.
+        List<Event> events = listEvents(calendarId, from, to, false, CalendarSnapshot.FIELDS,
+                Config.getInt("snapshot.list.shards", "SNAPSHOT_LIST_SHARDS", 1)).toList();
+        CalendarSnapshot snapshot = CalendarSnapshot.expand(events, zone(), from, to,
+                master -> listInstances(calendarId, master, from, to));
+        logger.info("[INFO] Loaded snapshot of {} event slot(s) from {} listed event(s) for {}",
+                snapshot.size(), events.size(), calendarId);
+        return snapshot;
+    }
+
+    /**
+     * Lets the server expand a series whose recurrence {@link RecurrenceRule} does not cover.
+     */
+    private List<Event> listInstances(String calendarId, Event master, Instant from, Instant to) throws IOException {
+        List<Event> instances = new ArrayList<>();
+        String pageToken = null;
+        do {
+            Calendar.Events.Instances request = service.events().instances(calendarId, master.getId())
+                    .setTimeMin(new DateTime(from.toEpochMilli()))
+                    .setTimeMax(new DateTime(to.toEpochMilli()))
+                    .setFields(CalendarSnapshot.FIELDS)
+                    .setPageToken(pageToken);
+            Events page = resilience.execute(request::execute);
+            if (page.getItems() != null) {
+                instances.addAll(page.getItems());
             }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        logger.info("[INFO] Listed {} server-expanded instance(s) of \"{}\" ({})", instances.size(), master.getSummary(),
+                master.getRecurrence());
+        return instances;
+    }
 
-            GoogleClientSecrets clientSecrets = GoogleClientSecrets.load(JSON_FACTORY, new java.io.InputStreamReader(in));
+    /**
+     * Lists the events overlapping {@code [from, to)} with a sharded {@link EventLister}, paging through
+     * {@code shards} time ranges concurrently and merging the results by event ID. A {@code null} end leaves the
+     * range open on that side, and an open range is listed as one shard.
+     */
+    public Stream<Event> listEvents(String calendarId, Instant from, Instant to, boolean singleEvents, String fields,
+                                    int shards) throws IOException {
+        return new EventLister(service, runner, resilience).list(calendarId, from, to, singleEvents, fields, shards);
+    }
+
+    private ZoneId zone() {
+        ZoneId resolved = zone;
+        if (resolved == null) {
+            resolved = ZoneId.of(timezone);
+            zone = resolved;
+        }
+        return resolved;
+    }
 
-            String scopes = Config.get("google.scopes", "GOOGLE_API_SCOPES");
-            GoogleAuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
-                    GoogleNetHttpTransport.newTrustedTransport(),
-                    JSON_FACTORY,
-                    clientSecrets,
-                    List.of(scopes)
-            ).setAccessType("offline").build();
+    public Event insertWeeklyEvent(String calendarId, ZoomEvent ev) throws Exception {
+        try {
+            return resilience.execute(service.events().insert(calendarId, buildWeeklyEvent(ev))::execute);
+        } catch (HttpResponseException e) {
+            if (e.getStatusCode() != 409) throw e;
+            return adoptExisting(calendarId, ev);
+        }
+    }
 
-            int port = Config.getInt("oauth.port", "OAUTH_PORT", 8888);
-            LocalServerReceiver receiver = new LocalServerReceiver.Builder().setPort(port).build();
-            return new com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInstalledApp(flow, receiver).authorize("user");
+    /**
+     * Resolves a {@code 409} for an insert. The series' client-generated ID is already taken, normally by an earlier
+     * attempt whose response was lost or by an interrupted run that is being resumed, so the existing series is the
+     * result. Google keeps the IDs of deleted events reserved, so a series deleted since is restored in place. A live
+     * event under the ID with another summary or start is not this series, so it is left alone and the series is
+     * inserted again under an ID the server generates.
+     */
+    private Event adoptExisting(String calendarId, ZoomEvent ev) throws IOException {
+        String eventId = EventFingerprint.eventId(ev);
+        Event existing = resilience.execute(service.events().get(calendarId, eventId)::execute);
+        if (!"cancelled".equals(existing.getStatus())) {
+            if (sameSeries(existing, ev)) {
+                return existing;
+            }
+            logger.warn("[WARN] Event ID {} is taken by \"{}\"; inserting \"{}\" under a server-generated ID",
+                    eventId, existing.getSummary(), ev.getDescription());
+            return resilience.execute(service.events().insert(calendarId, buildWeeklyEvent(ev).setId(null))::execute);
         }
+        Event restored = buildWeeklyEvent(ev).setStatus("confirmed");
+        return resilience.execute(service.events().patch(calendarId, eventId, restored)::execute);
     }
 
-    public boolean eventExists(String calendarId, ZoomEvent ev) throws Exception {
-        LocalDate today = LocalDate.now(ZoneId.of(timezone));
-        LocalDate next = today.with(TemporalAdjusters.nextOrSame(ev.getDayOfWeek()));
+    /**
+     * Whether {@code existing} has the summary, weekday and local start time of {@code ev}. The date is not compared:
+     * a series written on an earlier run starts on an earlier week.
+     */
+    private boolean sameSeries(Event existing, ZoomEvent ev) {
+        if (!Objects.equals(existing.getSummary(), ev.getDescription())
+                || existing.getStart() == null || existing.getStart().getDateTime() == null) {
+            return false;
+        }
+        ZonedDateTime start = Instant.ofEpochMilli(existing.getStart().getDateTime().getValue()).atZone(zone());
+        return start.getDayOfWeek() == ev.getDayOfWeek() && start.toLocalTime().equals(ev.getTime());
+    }
 
-        ZonedDateTime startZdt = ZonedDateTime.of(next, ev.getTime(), ZoneId.of(this.timezone));
-        ZonedDateTime endZdt = startZdt.plusDays(1);
+    /**
+     * Inserts the given events using multipart batch requests of up to {@code insert.batch.size} calls each,
+     * with batches sent concurrently through the service's {@link ConcurrentRunner}.
+     * The returned results are in the same order as {@code events}, one per event, so callers can report
+     * per-event success or failure.
+     */
+    public List<InsertResult> insertWeeklyEvents(String calendarId, List<ZoomEvent> events) throws InterruptedException {
+        List<List<ZoomEvent>> chunks = new ArrayList<>();
+        for (int from = 0; from < events.size(); from += batchSize) {
+            chunks.add(events.subList(from, Math.min(from + batchSize, events.size())));
+        }
 
-        return eventExists(calendarId, ev.getDescription(), startZdt, endZdt);
+        List<InsertResult> results = new ArrayList<>(events.size());
+        for (var outcome : runner.runAll(chunks, List::size, chunk -> insertBatch(calendarId, chunk))) {
+            if (outcome.succeeded()) {
+                results.addAll(outcome.value());
+            } else {
+                for (ZoomEvent ev : outcome.item()) {
+                    results.add(InsertResult.failure(ev, 0, outcome.error().getMessage()));
+                }
+            }
+        }
+        invalidateSnapshot(calendarId);
+        return results;
     }
 
-    private boolean eventExists(String calendarId, String summary, ZonedDateTime start, ZonedDateTime end) throws Exception {
-        Events events = service.events().list(calendarId)
-                .setTimeMin(new DateTime(start.minusMinutes(5).toInstant().toEpochMilli()))
-                .setTimeMax(new DateTime(end.plusMinutes(5).toInstant().toEpochMilli()))
-                .setSingleEvents(true)
-                .execute();
+    /**
+     * Sends one chunk as a batch request. Sub-requests rejected with a retryable status (429, rate-limit 403, 5xx)
+     * are re-batched after the policy's backoff; a failure of the whole batch re-sends only the inserts that have
+     * no result yet. Inserts rejected with {@code 409} already exist under their client-generated ID and are resolved
+     * with {@link #adoptExisting} once the batch is done.
+     */
+    private List<InsertResult> insertBatch(String calendarId, List<ZoomEvent> chunk) throws IOException {
+        InsertResult[] results = new InsertResult[chunk.size()];
+        List<Integer> pending = new ArrayList<>();
+        List<Integer> conflicts = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            pending.add(i);
+        }
+
+        EventTracer tracer = EventTracer.global();
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            final int send = attempt;
+            final boolean lastAttempt = attempt >= resilience.getPolicy().maxAttempts();
+            final List<Integer> sending = pending;
+            List<Integer> retry = new ArrayList<>();
+            HttpHeaders[] retryHeaders = new HttpHeaders[1];
+            boolean[] throttled = new boolean[1];
+            long[] sentAt = new long[1];
+
+            try {
+                resilience.execute(() -> {
+                    BatchRequest batch = service.batch();
+                    int queued = 0;
+                    for (int index : sending) {
+                        if (results[index] != null || retry.contains(index) || conflicts.contains(index)) {
+                            continue;
+                        }
+                        final ZoomEvent ev = chunk.get(index);
+                        service.events().insert(calendarId, buildWeeklyEvent(ev)).queue(batch, new JsonBatchCallback<>() {
+                            @Override
+                            public void onSuccess(Event created, HttpHeaders responseHeaders) {
+                                ApiMetrics.global().recordBatchItem("events.insert", 200);
+                                tracer.call(EventTracer.Span.INSERT, calendarId, ev, sentAt[0], 200, send, "created");
+                                results[index] = InsertResult.success(ev, created);
+                            }
+
+                            @Override
+                            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                                ApiMetrics.global().recordBatchItem("events.insert", error.getCode());
+                                if (error.getCode() == 409) {
+                                    tracer.call(EventTracer.Span.INSERT, calendarId, ev, sentAt[0], 409, send, "exists");
+                                    conflicts.add(index);
+                                } else if (!lastAttempt && resilience.getPolicy().isRetryable(error)) {
+                                    tracer.call(EventTracer.Span.RETRY, calendarId, ev, sentAt[0], error.getCode(), send, error.getMessage());
+                                    retry.add(index);
+                                    retryHeaders[0] = responseHeaders;
+                                    throttled[0] |= resilience.getPolicy().isThrottle(error);
+                                } else {
+                                    tracer.call(EventTracer.Span.INSERT, calendarId, ev, sentAt[0], error.getCode(), send, error.getMessage());
+                                    results[index] = InsertResult.failure(ev, error.getCode(), error.getMessage());
+                                }
+                            }
+                        });
+                        queued++;
+                    }
+                    if (queued > 0) {
+                        sentAt[0] = System.nanoTime();
+                        batch.execute();
+                    }
+                    return null;
+                });
+            } catch (IOException e) {
+                logger.error("[ERROR] Batch of {} insert(s) failed: {}", chunk.size(), e.getMessage());
+                break;
+            }
+
+            if (!retry.isEmpty()) {
+                if (throttled[0]) {
+                    resilience.onThrottled();
+                }
+                long delay = resilience.getPolicy().delayMillis(attempt, retryHeaders[0]);
+                logger.warn("[WARN] Retrying {} throttled insert(s) in {} ms", retry.size(), delay);
+                resilience.recordRetry();
+                ResilientExecutor.pause(delay);
+            }
+            pending = retry;
+        }
 
-        if (events.getItems() == null) return false;
+        for (int index : conflicts) {
+            ZoomEvent ev = chunk.get(index);
+            try {
+                results[index] = InsertResult.success(ev, adoptExisting(calendarId, ev));
+            } catch (IOException e) {
+                results[index] = InsertResult.failure(ev, 409, e.getMessage());
+            }
+        }
 
-        return events.getItems().stream()
-                .anyMatch(e -> summary.equalsIgnoreCase(e.getSummary()));
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = InsertResult.failure(chunk.get(i), 0, "No response received for batched insert");
+            }
+        }
+        return Arrays.asList(results);
     }
 
-    public Event insertWeeklyEvent(String calendarId, ZoomEvent ev) throws Exception {
-        LocalDate today = LocalDate.now(ZoneId.of(this.timezone));
-        DayOfWeek desired = ev.getDayOfWeek();
-        LocalDate next = today.with(TemporalAdjusters.nextOrSame(desired));
+    /**
+     * First occurrence of {@code ev} on or after today in the service's timezone.
+     */
+    WeeklySlot slotFor(ZoomEvent ev) {
+        return WeeklySlot.next(ev, zone(), LocalDate.now(zone()));
+    }
 
-        ZonedDateTime startZdt = ZonedDateTime.of(next, ev.getTime(), ZoneId.of(this.timezone));
-        ZonedDateTime endZdt = startZdt.plusHours(1);
+    Event buildWeeklyEvent(ZoomEvent ev) {
+        WeeklySlot slot = slotFor(ev);
+        ZonedDateTime startZdt = slot.start();
+        ZonedDateTime endZdt = slot.end();
 
         Event event = new Event();
+        event.setId(EventFingerprint.eventId(ev));
         event.setSummary(ev.getDescription());
-        String desc = "Zoom link: " + ev.getZoomUrl() + "\n\n" + ev.getDescription();
-        event.setDescription(desc);
+        event.setDescription(eventDescription(ev));
 
         List<String> recurrence = new ArrayList<>();
-        recurrence.add("RRULE:FREQ=WEEKLY");
+        recurrence.add(rrule(ev));
         event.setRecurrence(recurrence);
 
         EventDateTime start = new EventDateTime()
@@ -129,21 +393,143 @@ public class CalendarService {
                 .setTimeZone(this.timezone);
         event.setEnd(end);
 
-        return service.events().insert(calendarId, event).execute();
+        return event;
     }
 
-    public String generateCurlPreview(String calendarId, ZoomEvent ev) throws Exception {
-        Credential credential = authorize();
+    static String rrule(ZoomEvent ev) {
+        return "RRULE:" + (ev.getRecurrence() == null ? RecurrenceRule.WEEKLY : ev.getRecurrence());
+    }
 
-        String token = credential.getAccessToken();
+    static String eventDescription(ZoomEvent ev) {
+        return ZOOM_LINK_PREFIX + ev.getZoomUrl() + "\n\n" + ev.getDescription();
+    }
+
+    /**
+     * Recovers the {@link ZoomEvent} a recurring master was created from, or {@code null} when the event was not
+     * written by this tool.
+     */
+    public ZoomEvent toZoomEvent(Event master) {
+        if (!writtenByTool(master) || master.getStart() == null || master.getStart().getDateTime() == null) {
+            return null;
+        }
+        String description = master.getDescription();
+        int separator = description.indexOf("\n\n");
+        ZonedDateTime start = Instant.ofEpochMilli(master.getStart().getDateTime().getValue()).atZone(zone());
+        return new ZoomEvent(start.getDayOfWeek(), start.toLocalTime(),
+                description.substring(ZOOM_LINK_PREFIX.length(), separator), master.getSummary(), recurrenceOf(master));
+    }
+
+    /**
+     * Whether {@code event} carries the summary and {@link #eventDescription} layout this tool writes, so it is one
+     * of the tool's series and not a meeting someone else put on the calendar.
+     */
+    static boolean writtenByTool(Event event) {
+        String description = event.getDescription();
+        return event.getSummary() != null && description != null
+                && description.startsWith(ZOOM_LINK_PREFIX) && description.indexOf("\n\n") > 0;
+    }
+
+    /**
+     * The canonical rule of a master's {@code RRULE}, or {@code null} for a plain weekly series (or none this tool
+     * could have written), matching {@link ZoomEvent#getRecurrence()}.
+     */
+    static String recurrenceOf(Event master) {
+        if (master.getRecurrence() == null) return null;
+        for (String line : master.getRecurrence()) {
+            if (!line.regionMatches(true, 0, "RRULE:", 0, 6)) continue;
+            try {
+                RecurrenceRule rule = RecurrenceRule.parse(line);
+                return rule.equals(RecurrenceRule.WEEKLY) ? null : rule.toString();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public String getTimezone() {
+        return timezone;
+    }
+
+    /**
+     * Lists every recurring master in the calendar from its incrementally synced {@link CalendarMirror}.
+     */
+    public List<Event> listRecurringMasters(String calendarId) throws IOException {
+        return mirrorFor(calendarId).sync().stream()
+                .filter(e -> e.getRecurrence() != null)
+                .toList();
+    }
+
+    public CalendarMirror mirrorFor(String calendarId) {
+        return mirrors.computeIfAbsent(calendarId, id -> {
+            String dir = Config.getDir("mirror.dir", "MIRROR_DIR", ".ceg/mirror");
+            Path file = dir == null ? null : Path.of(dir, id.replaceAll("[^A-Za-z0-9._@-]", "_") + ".json");
+            return CalendarMirror.load(service, resilience, id, file);
+        });
+    }
+
+    public SyncPlan planSync(String calendarId, EventTable desired) throws IOException {
+        return new SyncPlanner(zone()).plan(calendarId, desired, listRecurringMasters(calendarId));
+    }
+
+    /**
+     * Finds events of {@code desired} that overlap each other or what is on the calendar over the snapshot's days.
+     *
+     * @param replacedEventIds series about to be patched or deleted, e.g. by a sync, which are not counted
+     */
+    public List<ConflictDetector.Conflict> findConflicts(String calendarId, EventTable desired,
+                                                         Set<String> replacedEventIds) throws IOException {
+        CalendarSnapshot snapshot = snapshotFor(calendarId);
+        return new ConflictDetector(zone()).find(desired, snapshot, replacedEventIds, LocalDate.now(zone()), SNAPSHOT_DAYS);
+    }
+
+    /**
+     * Updates the summary and description (and so the Zoom link) of an existing series without touching its start.
+     * The recurrence is only replaced when {@code ev} names one, since that also drops the series' exceptions. When
+     * {@code ev} names a duration, the series' end is moved to match it, which takes one extra read of its start.
+     */
+    public Event patchWeeklyEvent(String calendarId, String eventId, ZoomEvent ev) throws IOException {
+        Event patch = new Event()
+                .setSummary(ev.getDescription())
+                .setDescription(eventDescription(ev));
+        if (ev.getRecurrence() != null) {
+            patch.setRecurrence(List.of(rrule(ev)));
+        }
+        long start = System.nanoTime();
+        if (ev.getDurationMinutes() != null) {
+            EventDateTime seriesStart = resilience.execute(
+                    service.events().get(calendarId, eventId).setFields("start")::execute).getStart();
+            patch.setEnd(new EventDateTime()
+                    .setDateTime(new DateTime(seriesStart.getDateTime().getValue() + ev.duration().toMillis()))
+                    .setTimeZone(seriesStart.getTimeZone()));
+        }
+        try {
+            Event patched = resilience.execute(service.events().patch(calendarId, eventId, patch)::execute);
+            EventTracer.global().call(EventTracer.Span.PATCH, calendarId, ev, start, 200, 1, "patched");
+            return patched;
+        } catch (IOException e) {
+            int status = e instanceof HttpResponseException http ? http.getStatusCode() : 0;
+            EventTracer.global().call(EventTracer.Span.PATCH, calendarId, ev, start, status, 1, e.getMessage());
+            throw e;
+        }
+    }
+
+    public void deleteEvent(String calendarId, String eventId) throws IOException {
+        resilience.execute(service.events().delete(calendarId, eventId)::execute);
+    }
+
+    public String generateCurlPreview(String calendarId, ZoomEvent ev) throws Exception {
+        String token = GoogleClients.credentials().accessToken();
         if (token == null) {
             throw new IllegalStateException("Could not retrieve OAuth access token.");
         }
+        return curlPreview(calendarId, ev, token);
+    }
 
-        LocalDate today = LocalDate.now(ZoneId.of(this.timezone));
-        LocalDate next = today.with(TemporalAdjusters.nextOrSame(ev.getDayOfWeek()));
-        ZonedDateTime startZdt = ZonedDateTime.of(next, ev.getTime(), ZoneId.of(this.timezone));
-        ZonedDateTime endZdt = startZdt.plusHours(1);
+    String curlPreview(String calendarId, ZoomEvent ev, String token) {
+        WeeklySlot slot = slotFor(ev);
+        ZonedDateTime startZdt = slot.start();
+        ZonedDateTime endZdt = slot.end();
 
         String body = String.format("""
         {
@@ -151,7 +537,7 @@ public class CalendarService {
           "description": "Zoom link: %s\\n\\n%s",
           "start": { "dateTime": "%s", "timeZone": "%s" },
           "end": { "dateTime": "%s", "timeZone": "%s" },
-          "recurrence": ["RRULE:FREQ=WEEKLY"]
+          "recurrence": ["%s"]
         }
         """,
                 ev.getDescription(),
@@ -160,7 +546,8 @@ public class CalendarService {
                 startZdt.toOffsetDateTime(),
                 this.timezone,
                 endZdt.toOffsetDateTime(),
-                this.timezone);
+                this.timezone,
+                rrule(ev));
 
         return String.format(
                 """
@@ -175,50 +562,147 @@ public class CalendarService {
         );
     }
 
+    /**
+     * Deletes every event and recurring series in the calendar.
+     * <p>
+     * A calendar whose {@link CalendarMirror} already holds a sync token is brought up to date with one delta;
+     * otherwise it is scanned with {@link EventLister#listAll}: a year either side of now is split into
+     * {@code clear.list.shards} shards that split again when hot, and everything further out is listed by two
+     * open-ended tail shards, all concurrently, so events however far in the past or future are found. The events are folded into an insertion-ordered, de-duplicated map of series/event IDs, which are then
+     * deleted as concurrent batch requests. IDs whose deletion fails are queued and retried for up to
+     * {@code clear.retry.rounds} further rounds before the run is reported as failed.
+     */
     public void clearAllEvents(String calendarId) throws Exception {
         logger.info("[INFO] Fetching all events from calendar: {}", calendarId);
 
-        Events events = service.events().list(calendarId)
-                .setMaxResults(2500)
-                .setSingleEvents(false)
-                .execute();
-
-        logger.info("[INFO] Event count: {}", events.getItems().size());
+        CalendarMirror mirror = mirrorFor(calendarId);
+        Instant now = Instant.now();
+        List<Event> mirrored = mirror.isSynced()
+                ? mirror.sync()
+                : new EventLister(service, runner, resilience).listAll(calendarId, now.minus(CLEAR_WINDOW),
+                        now.plus(CLEAR_WINDOW), false, CLEAR_FIELDS,
+                        Config.getInt("clear.list.shards", "CLEAR_LIST_SHARDS", 4)).toList();
+
+        Map<String, String> toDelete = new LinkedHashMap<>();
+        for (Event event : mirrored) {
+            String eventId = event.getRecurringEventId() != null ? event.getRecurringEventId() : event.getId();
+            toDelete.putIfAbsent(eventId, event.getSummary());
+        }
+        int found = mirrored.size();
 
-        if (events.getItems() == null || events.getItems().isEmpty()) {
+        if (toDelete.isEmpty()) {
             logger.info("[INFO] No events found to delete.");
             return;
         }
 
-        Set<String> deletedSeries = new HashSet<>();
-        int deletedCount = 0;
-        int failedCount = 0;
+        logger.info("[INFO] Found {} event(s) to delete.", found);
 
-        for (Event event : events.getItems()) {
-            try {
-                String eventId = event.getId();
+        int retryRounds = Config.getInt("clear.retry.rounds", "CLEAR_RETRY_ROUNDS", 3);
+        long retryBackoffMillis = Config.getInt("clear.retry.backoff.ms", "CLEAR_RETRY_BACKOFF_MS", 250);
+        DeleteProgress progress = new DeleteProgress(toDelete.size());
 
-                if (event.getRecurringEventId() != null) {
-                    if (deletedSeries.contains(event.getRecurringEventId())) {
-                        continue;
-                    }
-                    eventId = event.getRecurringEventId();
-                    deletedSeries.add(eventId);
+        List<String> pending = List.copyOf(toDelete.keySet());
+        Map<String, String> errors = Map.of();
+        for (int round = 0; round <= retryRounds && !pending.isEmpty(); round++) {
+            if (round > 0) {
+                logger.info("[INFO] Retrying {} failed deletion(s) (round {}/{})", pending.size(), round, retryRounds);
+                Thread.sleep(retryBackoffMillis * round);
+            }
+            errors = deleteInBatches(calendarId, pending, toDelete, progress);
+            pending = List.copyOf(errors.keySet());
+        }
+
+        for (String id : toDelete.keySet()) {
+            if (!errors.containsKey(id)) {
+                mirror.forget(id);
+            }
+        }
+
+        for (Map.Entry<String, String> error : errors.entrySet()) {
+            logger.error("[ERROR] Failed to delete event: {} - {}", toDelete.get(error.getKey()), error.getValue());
+        }
+
+        invalidateSnapshot(calendarId);
+        logger.info("[INFO] ✅ Deletion complete: {} deleted, {} failed.", progress.deleted.get(), errors.size());
+
+        if (!errors.isEmpty()) {
+            throw new RuntimeException("Failed to delete " + errors.size() + " event(s).");
+        }
+    }
+
+    /**
+     * Deletes {@code ids} as concurrent batch requests and returns the IDs that failed, mapped to their error.
+     */
+    private Map<String, String> deleteInBatches(String calendarId, List<String> ids, Map<String, String> summaries,
+                                                DeleteProgress progress) throws InterruptedException {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            chunks.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+
+        Map<String, String> errors = new ConcurrentHashMap<>();
+        Set<String> done = ConcurrentHashMap.newKeySet();
+        var outcomes = runner.runAll(chunks, List::size, chunk -> resilience.execute(() -> {
+            BatchRequest batch = service.batch();
+            int queued = 0;
+            for (String id : chunk) {
+                if (done.contains(id) || errors.containsKey(id)) {
+                    continue;
                 }
+                logger.info("[INFO] Deleting event: {} (ID: {})", summaries.get(id), id);
+                service.events().delete(calendarId, id).queue(batch, new JsonBatchCallback<Void>() {
+                    @Override
+                    public void onSuccess(Void unused, HttpHeaders responseHeaders) {
+                        ApiMetrics.global().recordBatchItem("events.delete", 204);
+                        done.add(id);
+                        progress.deleted(logger);
+                    }
 
-                logger.info("[INFO] Deleting event/series: {} (ID: {})", event.getSummary(), eventId);
-                service.events().delete(calendarId, eventId).execute();
-                deletedCount++;
-            } catch (Exception e) {
-                failedCount++;
-                logger.error("[ERROR] Failed to delete event: {} - {}", event.getSummary(), e.getMessage());
+                    @Override
+                    public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                        ApiMetrics.global().recordBatchItem("events.delete", error.getCode());
+                        // 404/410 means the series is already gone, e.g. removed by an earlier round
+                        if (error.getCode() == 404 || error.getCode() == 410) {
+                            done.add(id);
+                            progress.deleted(logger);
+                        } else {
+                            if (resilience.getPolicy().isThrottle(error)) {
+                                resilience.onThrottled();
+                            }
+                            errors.put(id, error.getMessage());
+                        }
+                    }
+                });
+                queued++;
+            }
+            if (queued > 0) {
+                batch.execute();
+            }
+            return null;
+        }));
+
+        for (var outcome : outcomes) {
+            if (!outcome.succeeded()) {
+                for (String id : outcome.item()) {
+                    if (!done.contains(id)) {
+                        errors.putIfAbsent(id, outcome.error().getMessage());
+                    }
+                }
             }
         }
+        return errors;
+    }
+
+    private static final class DeleteProgress {
+        private final int total;
+        private final AtomicInteger deleted = new AtomicInteger();
 
-        logger.info("[INFO] ✅ Deletion complete: {} deleted, {} failed.", deletedCount, failedCount);
+        private DeleteProgress(int total) {
+            this.total = total;
+        }
 
-        if (failedCount > 0) {
-            throw new RuntimeException("Failed to delete " + failedCount + " event(s).");
+        private void deleted(Logger logger) {
+            logger.info("[SUCCESS] Deleted event {}/{}", deleted.incrementAndGet(), total);
         }
     }
 }
@@ -0,0 +1,161 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.services.calendar.model.Event;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.WeeklySlot;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Point-in-time index of the event instances in a calendar window, keyed by normalized summary, day of week and
+ * local start time, so existence checks are answered from memory. The same pass keeps each instance's
+ * {@link Busy busy interval} for {@link ConflictDetector}.
+ * <p>
+ * It is built from one listing of the window's recurring masters and one-off events ({@code singleEvents=false}):
+ * each series' instances are computed locally by {@link RecurrenceExpander}, and only a series whose recurrence it
+ * cannot expand has its instances listed by the server.
+ */
+public class CalendarSnapshot {
+    /** Partial response: only what the index is built from. */
+    static final String FIELDS = "nextPageToken,items(id,summary,status,start(dateTime,timeZone),end/dateTime,"
+            + "recurrence,recurringEventId,originalStartTime/dateTime)";
+
+    /**
+     * When one event instance occupies the calendar.
+     *
+     * @param eventId the ID of the series the instance belongs to, or of the event itself
+     * @param key     the instance's {@link EventFingerprint#identity identity}
+     */
+    public record Busy(String eventId, String summary, String key, Instant start, Instant end) {
+    }
+
+    /**
+     * Lists the instances of a master the engine cannot expand.
+     */
+    @FunctionalInterface
+    public interface InstanceLister {
+        List<Event> instances(Event master) throws IOException;
+    }
+
+    private final Set<String> index;
+    private final List<Busy> busy;
+
+    CalendarSnapshot(Set<String> index, List<Busy> busy) {
+        this.index = index;
+        this.busy = busy;
+    }
+
+    /**
+     * Indexes the event instances in {@code instances}, e.g. from {@link EventLister#list} with {@link #FIELDS}.
+     */
+    public static CalendarSnapshot index(Stream<Event> instances, ZoneId zone) {
+        Set<String> index = new HashSet<>();
+        List<Busy> busy = new ArrayList<>();
+        instances.forEach(event -> add(index, busy, event, zone));
+        return new CalendarSnapshot(index, busy);
+    }
+
+    private static void add(Set<String> index, List<Busy> busy, Event instance, ZoneId zone) {
+        if (instance.getSummary() == null || instance.getStart() == null || instance.getStart().getDateTime() == null) {
+            return;
+        }
+        ZonedDateTime start = Instant.ofEpochMilli(instance.getStart().getDateTime().getValue()).atZone(zone);
+        String eventId = instance.getRecurringEventId() != null ? instance.getRecurringEventId() : instance.getId();
+        add(index, busy, eventId, instance.getSummary(), start, duration(instance));
+    }
+
+    private static void add(Set<String> index, List<Busy> busy, String eventId, String summary, ZonedDateTime start,
+                            Duration duration) {
+        String key = key(summary, start.getDayOfWeek(), start.toLocalTime());
+        index.add(key);
+        busy.add(new Busy(eventId, summary, key, start.toInstant(), start.toInstant().plus(duration)));
+    }
+
+    /**
+     * How long an event (or each occurrence of a series) lasts, assuming the tool's default when its end is unknown.
+     */
+    private static Duration duration(Event event) {
+        if (event.getEnd() == null || event.getEnd().getDateTime() == null) {
+            return WeeklySlot.DEFAULT_DURATION;
+        }
+        long millis = event.getEnd().getDateTime().getValue() - event.getStart().getDateTime().getValue();
+        return millis > 0 ? Duration.ofMillis(millis) : WeeklySlot.DEFAULT_DURATION;
+    }
+
+    /**
+     * Indexes the occurrences starting in {@code [from, to)} of the events listed with {@code singleEvents=false},
+     * e.g. from {@link EventLister#list} with {@link #FIELDS}. Instances that were moved or cancelled replace the
+     * occurrence they came from.
+     */
+    public static CalendarSnapshot expand(List<Event> events, ZoneId zone, Instant from, Instant to,
+                                          InstanceLister fallback) throws IOException {
+        Map<String, Set<Instant>> replaced = new HashMap<>();
+        for (Event event : events) {
+            if (event.getRecurringEventId() != null && event.getOriginalStartTime() != null
+                    && event.getOriginalStartTime().getDateTime() != null) {
+                replaced.computeIfAbsent(event.getRecurringEventId(), id -> new HashSet<>())
+                        .add(Instant.ofEpochMilli(event.getOriginalStartTime().getDateTime().getValue()));
+            }
+        }
+
+        Set<String> index = new HashSet<>();
+        List<Busy> busy = new ArrayList<>();
+        for (Event event : events) {
+            if ("cancelled".equals(event.getStatus())) continue;
+            if (event.getRecurrence() == null) {
+                add(index, busy, event, zone);
+                continue;
+            }
+            if (event.getSummary() == null || event.getStart() == null || event.getStart().getDateTime() == null) continue;
+            List<ZonedDateTime> starts;
+            try {
+                starts = RecurrenceExpander.occurrences(event, zone, from, to, replaced.getOrDefault(event.getId(), Set.of()));
+            } catch (IllegalArgumentException e) {
+                for (Event instance : fallback.instances(event)) {
+                    if (!"cancelled".equals(instance.getStatus())) {
+                        add(index, busy, instance, zone);
+                    }
+                }
+                continue;
+            }
+            Duration duration = duration(event);
+            for (ZonedDateTime start : starts) {
+                add(index, busy, event.getId(), event.getSummary(), start.withZoneSameInstant(zone), duration);
+            }
+        }
+        return new CalendarSnapshot(index, busy);
+    }
+
+    public boolean contains(ZoomEvent ev) {
+        return index.contains(EventFingerprint.identity(ev));
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return the busy interval of every indexed instance, in listing order
+     */
+    public List<Busy> busy() {
+        return busy;
+    }
+
+    static String key(String summary, DayOfWeek day, LocalTime time) {
+        return EventFingerprint.identity(summary, day, time);
+    }
+}
@@ -0,0 +1,155 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.RecurrenceRule;
+import com.ursineenterprises.calendareventsgenerator.model.WeeklySlot;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Finds occurrences that overlap in the days ahead, either between two events of the events file or between an
+ * event of the file and one already on the calendar.
+ * <p>
+ * Every occurrence becomes a time interval. The intervals are sorted by start and swept once, while a heap ordered
+ * by end holds the intervals still open, so the cost is O(n log n) plus one check per overlapping pair. A calendar
+ * instance of a series the file also describes is the same meeting, not a conflict, so it is left out.
+ */
+public class ConflictDetector {
+
+    /**
+     * What a run does about conflicts: nothing, log them, or log them and refuse to write anything.
+     */
+    public enum Mode {
+        OFF, WARN, BLOCK;
+
+        public static Mode fromConfig() {
+            String mode = Config.get("conflict.mode", "CONFLICT_MODE");
+            if (mode == null || mode.isBlank()) {
+                return WARN;
+            }
+            try {
+                return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unknown CONFLICT_MODE '" + mode + "' (expected off, warn or block)");
+            }
+        }
+    }
+
+    /**
+     * Two occurrences that are both scheduled between {@code start} and {@code end}.
+     *
+     * @param event        the event from the events file
+     * @param other        the other event's summary, with its weekday and time when it is also from the file
+     * @param withCalendar whether {@code other} is already on the calendar rather than in the file
+     */
+    public record Conflict(ZoomEvent event, String other, boolean withCalendar, ZonedDateTime start,
+                           ZonedDateTime end) {
+    }
+
+    /**
+     * @param row     the event's row in the file, or {@code -1} for a calendar instance
+     * @param summary the calendar instance's summary; file rows are labelled from the table
+     */
+    private record Interval(int row, String key, String summary, Instant start, Instant end) {
+    }
+
+    private static final Comparator<Interval> BY_START = Comparator.comparing(Interval::start);
+    private static final Comparator<Interval> BY_END = Comparator.comparing(Interval::end);
+
+    private final ZoneId zone;
+
+    public ConflictDetector(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Conflicts among the occurrences in the {@code days} days from {@code today}, in order of start.
+     *
+     * @param calendar         what is already on the calendar; it must cover the same days
+     * @param replacedEventIds series that are about to be patched or deleted, whose current instances are ignored
+     */
+    public List<Conflict> find(EventTable desired, CalendarSnapshot calendar, Set<String> replacedEventIds,
+                               LocalDate today, int days) {
+        Instant from = today.atStartOfDay(zone).toInstant();
+        Instant to = today.plusDays(days).atStartOfDay(zone).toInstant();
+
+        List<Interval> intervals = new ArrayList<>();
+        Set<String> desiredKeys = new HashSet<>();
+        Map<String, RecurrenceRule> rules = new HashMap<>();
+        EventTable.Row ev = desired.row();
+        for (int i = 0; i < desired.size(); i++) {
+            ev.moveTo(i);
+            String key = EventFingerprint.identity(ev);
+            desiredKeys.add(key);
+            RecurrenceRule rule = ev.getRecurrence() == null
+                    ? RecurrenceRule.WEEKLY
+                    : rules.computeIfAbsent(ev.getRecurrence(), RecurrenceRule::parse);
+            Duration duration = ev.duration();
+            for (ZonedDateTime start : rule.occurrences(WeeklySlot.next(ev, zone, today).start(), from, to)) {
+                intervals.add(new Interval(i, key, null, start.toInstant(), start.toInstant().plus(duration)));
+            }
+        }
+        for (CalendarSnapshot.Busy busy : calendar.busy()) {
+            if (!desiredKeys.contains(busy.key()) && !replacedEventIds.contains(busy.eventId())
+                    && busy.end().isAfter(from) && busy.start().isBefore(to)) {
+                intervals.add(new Interval(-1, busy.key(), busy.summary(), busy.start(), busy.end()));
+            }
+        }
+        intervals.sort(BY_START);
+
+        Map<String, Conflict> conflicts = new LinkedHashMap<>();
+        PriorityQueue<Interval> open = new PriorityQueue<>(BY_END);
+        for (Interval next : intervals) {
+            while (!open.isEmpty() && !open.peek().end().isAfter(next.start())) {
+                open.poll();
+            }
+            for (Interval other : open) {
+                if (other.row() < 0 && next.row() < 0 || other.row() == next.row() || other.key().equals(next.key())) {
+                    continue;
+                }
+                // The file's event comes first, and of two file events the one listed first
+                boolean nextFirst = other.row() < 0 || (next.row() >= 0 && next.row() < other.row());
+                Interval first = nextFirst ? next : other;
+                Interval second = nextFirst ? other : next;
+                String pair = first.row() + "|" + (second.row() < 0 ? second.key() : second.row());
+                if (!conflicts.containsKey(pair)) {
+                    conflicts.put(pair, conflict(desired, first, second));
+                }
+            }
+            open.add(next);
+        }
+        return new ArrayList<>(conflicts.values());
+    }
+
+    private Conflict conflict(EventTable desired, Interval event, Interval other) {
+        Instant start = event.start().isAfter(other.start()) ? event.start() : other.start();
+        Instant end = event.end().isBefore(other.end()) ? event.end() : other.end();
+        boolean withCalendar = other.row() < 0;
+        String label = withCalendar ? other.summary() : label(desired.get(other.row()));
+        return new Conflict(desired.get(event.row()), label, withCalendar, start.atZone(zone), end.atZone(zone));
+    }
+
+    /**
+     * @return how a file event is named in conflict reports: its summary, weekday and start time
+     */
+    public static String label(ZoomEvent ev) {
+        return ev.getDescription() + " (" + ev.getDayOfWeek() + " " + ev.getTime() + ")";
+    }
+}
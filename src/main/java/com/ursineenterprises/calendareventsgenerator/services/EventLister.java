@@ -0,0 +1,198 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Lists the events in a {@code timeMin}/{@code timeMax} range by splitting it into time shards that are paged through
+ * concurrently on the service's {@link ConcurrentRunner}, so a large listing costs roughly its page count divided by
+ * the connections available instead of one serial page walk.
+ * <p>
+ * A shard is <em>hot</em> when its first page comes back at least half full with more to follow. If it is still wider
+ * than {@link #MIN_SHARD} and the shard budget allows, it is split in two and the halves are listed in the next round
+ * instead of following its page token. Events that overlap a shard boundary (and recurring masters, which every
+ * shard their series overlaps returns) are merged by event ID, so every event is reported once.
+ * <p>
+ * A range with an open end ({@code null}) has no width to split by, so it is listed as a single shard that omits
+ * that bound. {@link #listAll} covers the whole calendar in parallel anyway: it shards a bounded window and adds
+ * the open time before and after it as two tail shards.
+ */
+public class EventLister {
+    private static final Logger logger = LoggerFactory.getLogger(EventLister.class);
+    private static final int PAGE_SIZE = 2500;
+    static final Duration MIN_SHARD = Duration.ofHours(1);
+
+    private final Calendar service;
+    private final ConcurrentRunner runner;
+    private final ResilientExecutor resilience;
+    private final int pageSize;
+
+    public EventLister(Calendar service, ConcurrentRunner runner, ResilientExecutor resilience) {
+        this(service, runner, resilience, PAGE_SIZE);
+    }
+
+    EventLister(Calendar service, ConcurrentRunner runner, ResilientExecutor resilience, int pageSize) {
+        this.service = service;
+        this.runner = runner;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param from {@code null} for no lower bound
+     * @param to   {@code null} for no upper bound
+     */
+    private record Shard(Instant from, Instant to) {
+        boolean bounded() {
+            return from != null && to != null;
+        }
+
+        boolean splittable() {
+            return bounded() && Duration.between(from, to).compareTo(MIN_SHARD.multipliedBy(2)) >= 0;
+        }
+
+        List<Shard> halves() {
+            Instant middle = from.plus(Duration.between(from, to).dividedBy(2));
+            return List.of(new Shard(from, middle), new Shard(middle, to));
+        }
+    }
+
+    private record ShardResult(List<Event> events, List<Shard> split) {
+    }
+
+    /**
+     * Lists every event overlapping {@code [from, to)}.
+     *
+     * @param from         start of the range, or {@code null} to list from the calendar's first event
+     * @param to           end of the range, or {@code null} to list up to its last
+     * @param singleEvents expand recurring series into their instances, as {@code events.list} does
+     * @param fields       partial-response selector; must include {@code nextPageToken} and {@code items(id)}
+     * @param shards       number of equal shards to start with; ignored for an open range
+     * @return the events in the order they were first seen, each ID once
+     */
+    public Stream<Event> list(String calendarId, Instant from, Instant to, boolean singleEvents, String fields,
+                              int shards) throws IOException {
+        return list(calendarId, split(new Shard(from, to), Math.max(1, shards)), singleEvents, fields);
+    }
+
+    /**
+     * Lists every event in the calendar, whatever its time: {@code [windowFrom, windowTo)} is split into
+     * {@code shards} shards as by {@link #list}, and everything before and after the window is listed alongside as
+     * one open-ended shard each.
+     */
+    public Stream<Event> listAll(String calendarId, Instant windowFrom, Instant windowTo, boolean singleEvents,
+                                 String fields, int shards) throws IOException {
+        List<Shard> pending = new ArrayList<>();
+        pending.add(new Shard(null, windowFrom));
+        pending.addAll(split(new Shard(windowFrom, windowTo), Math.max(1, shards)));
+        pending.add(new Shard(windowTo, null));
+        return list(calendarId, pending, singleEvents, fields);
+    }
+
+    private Stream<Event> list(String calendarId, List<Shard> pending, boolean singleEvents, String fields)
+            throws IOException {
+        int budget = Math.max(pending.size(), runner.getMaxInFlight() * 4);
+        int listed = 0;
+        int splits = 0;
+
+        Map<String, Event> merged = new LinkedHashMap<>();
+        while (!pending.isEmpty()) {
+            // Each split queues two shards for the next round, so only as many are granted as the budget has room for
+            AtomicInteger splitPermits = new AtomicInteger((budget - listed - pending.size()) / 2);
+            List<Shard> next = new ArrayList<>();
+            for (var outcome : listRound(calendarId, pending, singleEvents, fields, splitPermits)) {
+                if (!outcome.succeeded()) {
+                    if (outcome.error() instanceof IOException e) throw e;
+                    if (outcome.error() instanceof RuntimeException e) throw e;
+                    throw new IOException(outcome.error());
+                }
+                for (Event event : outcome.value().events()) {
+                    merged.putIfAbsent(event.getId() != null ? event.getId() : "#" + merged.size(), event);
+                }
+                if (!outcome.value().split().isEmpty()) {
+                    splits++;
+                    next.addAll(outcome.value().split());
+                }
+            }
+            listed += pending.size();
+            pending = next;
+        }
+
+        logger.info("[INFO] Listed {} event(s) for {} from {} shard(s) ({} split)", merged.size(), calendarId, listed, splits);
+        return merged.values().stream();
+    }
+
+    private List<ConcurrentRunner.Outcome<Shard, ShardResult>> listRound(String calendarId, List<Shard> shards,
+                                                                        boolean singleEvents, String fields,
+                                                                        AtomicInteger splitPermits) throws IOException {
+        try {
+            return runner.runAll(shards, shard -> listShard(calendarId, shard, singleEvents, fields, splitPermits));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while listing " + calendarId);
+        }
+    }
+
+    private ShardResult listShard(String calendarId, Shard shard, boolean singleEvents, String fields,
+                                  AtomicInteger splitPermits) throws IOException {
+        List<Event> events = new ArrayList<>();
+        String pageToken = null;
+        boolean first = true;
+        do {
+            Calendar.Events.List request = service.events().list(calendarId)
+                    .setTimeMin(shard.from() == null ? null : new DateTime(shard.from().toEpochMilli()))
+                    .setTimeMax(shard.to() == null ? null : new DateTime(shard.to().toEpochMilli()))
+                    .setSingleEvents(singleEvents)
+                    .setMaxResults(pageSize)
+                    .setFields(fields)
+                    .setPageToken(pageToken);
+            Events page = resilience.execute(request::execute);
+            if (page.getItems() != null) {
+                events.addAll(page.getItems());
+            }
+            pageToken = page.getNextPageToken();
+
+            boolean hot = first && pageToken != null && events.size() * 2 >= pageSize;
+            if (hot && shard.splittable() && splitPermits.getAndDecrement() > 0) {
+                return new ShardResult(events, shard.halves());
+            }
+            first = false;
+        } while (pageToken != null);
+        return new ShardResult(events, List.of());
+    }
+
+    private static List<Shard> split(Shard range, int count) {
+        if (!range.bounded()) {
+            return List.of(range);
+        }
+        List<Shard> shards = new ArrayList<>(count);
+        Duration width = Duration.between(range.from(), range.to()).dividedBy(count);
+        if (width.compareTo(MIN_SHARD) < 0) {
+            return List.of(range);
+        }
+        Instant from = range.from();
+        for (int i = 1; i <= count; i++) {
+            Instant to = i == count ? range.to() : from.plus(width);
+            shards.add(new Shard(from, to));
+            from = to;
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,350 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.services.calendar.model.Event;
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.metrics.EventTracer;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+import com.ursineenterprises.calendareventsgenerator.model.InsertResult;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.store.FingerprintStore;
+import com.ursineenterprises.calendareventsgenerator.store.RunJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams events from an {@link EventSource} through four stages connected by bounded queues:
+ * parse &rarr; validate &rarr; existence check &rarr; insert.
+ * <p>
+ * Each stage runs on its own virtual thread, so the first batch of inserts can be on the wire while the rest of
+ * the file is still being parsed, and the bounded queues keep memory flat however large the events file is.
+ * If any stage fails the others are interrupted and the failure is rethrown from {@link #run}.
+ * <p>
+ * With a {@link FingerprintStore}, events whose fingerprint is unchanged since they were last written are skipped
+ * without any remote call, and events whose content changed are patched by their stored Google event ID.
+ * <p>
+ * With a {@link RunJournal}, every insert and patch is journaled before it is sent and after it completes. When
+ * resuming, events the journal records as done are skipped without any remote call, and inserts that never recorded
+ * an outcome are re-sent directly; their client-generated IDs make that safe.
+ * <p>
+ * Each event's parse and check are recorded as {@link EventTracer} spans; its API calls are traced by
+ * {@link CalendarService}. Per-event console lines are logged at debug level only.
+ */
+public class EventPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(EventPipeline.class);
+    private static final long IDLE_FLUSH_MILLIS = 100;
+    private static final String INSERT = "insert";
+    private static final String PATCH = "patch";
+    private static final String RESENT = "resent";
+    private static final String MISSING = "missing";
+
+    private final CalendarService cal;
+    private final String calendarId;
+    private final int queueCapacity;
+    private final int flushSize;
+    private final FingerprintStore store;
+    private final RunJournal journal;
+    private final EventTracer tracer = EventTracer.global();
+
+    public EventPipeline(CalendarService cal, String calendarId, int queueCapacity, FingerprintStore store) {
+        this(cal, calendarId, queueCapacity, store, null);
+    }
+
+    public EventPipeline(CalendarService cal, String calendarId, int queueCapacity, FingerprintStore store, RunJournal journal) {
+        this.cal = cal;
+        this.calendarId = calendarId;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.flushSize = cal.getBatchSize() * cal.getRunner().getMaxInFlight();
+        this.store = store;
+        this.journal = journal;
+    }
+
+    public static EventPipeline fromConfig(CalendarService cal, String calendarId) throws IOException {
+        return fromConfig(cal, calendarId, false);
+    }
+
+    /**
+     * @param resume continue from the journal of an interrupted run instead of discarding it
+     */
+    public static EventPipeline fromConfig(CalendarService cal, String calendarId, boolean resume) throws IOException {
+        RunJournal journal = RunJournal.forCalendar(calendarId, resume);
+        if (resume) {
+            if (journal == null || journal.size() == 0) {
+                logger.info("[INFO] No journal to resume for {}; starting a full run", calendarId);
+            } else {
+                logger.info("[INFO] Resuming from journal: {} done, {} incomplete",
+                        journal.count(RunJournal.State.DONE), journal.size() - journal.count(RunJournal.State.DONE));
+            }
+        }
+        return new EventPipeline(cal, calendarId,
+                Config.getInt("pipeline.queue.capacity", "PIPELINE_QUEUE_CAPACITY", 256),
+                FingerprintStore.forCalendar(calendarId), journal);
+    }
+
+    public void run(EventSource source, RunSummary summary) throws Exception {
+        BlockingQueue<Slot<EventRecord>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Slot<ZoomEvent>> valid = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Slot<ZoomEvent>> missing = new ArrayBlockingQueue<>(queueCapacity);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+        stages.submit(() -> parse(source, parsed));
+        stages.submit(() -> validate(parsed, valid, summary));
+        stages.submit(() -> check(valid, missing, summary));
+        stages.submit(() -> insert(missing, summary));
+
+        boolean completed = false;
+        try {
+            for (int i = 0; i < 4; i++) {
+                try {
+                    stages.take().get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception cause) throw cause;
+                    throw e;
+                }
+            }
+            completed = true;
+        } finally {
+            executor.shutdownNow();
+            executor.close();
+            if (store != null) {
+                store.close();
+            }
+            if (journal != null) {
+                // Failed writes stay journaled so --resume retries them
+                if (completed && !summary.hasFailures()) {
+                    journal.finish();
+                } else {
+                    journal.close();
+                }
+            }
+        }
+    }
+
+    private Void parse(EventSource source, BlockingQueue<Slot<EventRecord>> out) throws Exception {
+        int index = 0;
+        long start = System.nanoTime();
+        EventRecord record;
+        while ((record = source.nextRecord()) != null) {
+            out.put(new Slot<>(++index, record, System.nanoTime() - start));
+            start = System.nanoTime();
+        }
+        out.put(Slot.end());
+        return null;
+    }
+
+    private Void validate(BlockingQueue<Slot<EventRecord>> in, BlockingQueue<Slot<ZoomEvent>> out,
+                          RunSummary summary) throws InterruptedException {
+        for (Slot<EventRecord> slot = in.take(); !slot.isEnd(); slot = in.take()) {
+            try {
+                long start = System.nanoTime();
+                ZoomEvent ev = slot.value().toZoomEvent();
+                // Reading plus converting the record, leaving out the time it waited between the two stages
+                tracer.stage(EventTracer.Span.PARSE, calendarId, ev, slot.index(), start - slot.readNanos(), null);
+                out.put(new Slot<>(slot.index(), ev, 0));
+            } catch (IllegalArgumentException e) {
+                summary.recordFailure("Event #" + slot.index(), e.getMessage());
+            }
+        }
+        out.put(Slot.end());
+        return null;
+    }
+
+    private Void check(BlockingQueue<Slot<ZoomEvent>> in, BlockingQueue<Slot<ZoomEvent>> out,
+                       RunSummary summary) throws Exception {
+        if (store != null && store.needsRebuild()) {
+            rebuildStore();
+        }
+
+        CalendarSnapshot snapshot = null;
+        for (Slot<ZoomEvent> slot = in.take(); !slot.isEnd(); slot = in.take()) {
+            long start = System.nanoTime();
+            ZoomEvent ev = slot.value();
+            String outcome = journal == null ? null : checkJournal(ev, summary);
+            if (outcome == null && store != null) {
+                outcome = checkStore(ev, summary);
+            }
+            if (outcome == null) {
+                if (snapshot == null) {
+                    snapshot = cal.snapshotFor(calendarId);
+                }
+                if (snapshot.contains(ev)) {
+                    summary.recordSkipped();
+                    logger.debug("⏭️ Already exists: {}", ev.getDescription());
+                    outcome = "exists";
+                } else {
+                    outcome = MISSING;
+                }
+            }
+            tracer.stage(EventTracer.Span.CHECK, calendarId, ev, slot.index(), start, outcome);
+            if (MISSING.equals(outcome) || RESENT.equals(outcome)) {
+                out.put(slot);
+            }
+        }
+        out.put(Slot.end());
+        return null;
+    }
+
+    /**
+     * Resolves an event from the journal of the run being resumed when possible.
+     *
+     * @return {@code "done"} when the event was skipped, {@link #RESENT} when it is to be inserted again without
+     * further checks, or {@code null} when the journal does not settle it
+     */
+    private String checkJournal(ZoomEvent ev, RunSummary summary) {
+        RunJournal.Entry entry = journal.get(EventFingerprint.eventId(ev));
+        if (entry == null) {
+            return null;
+        }
+        if (entry.state() == RunJournal.State.DONE) {
+            summary.recordSkipped();
+            return "done";
+        }
+        if (INSERT.equals(entry.op())) {
+            // Re-sent as is: if the earlier attempt landed, the insert resolves to the existing series
+            return RESENT;
+        }
+        return null;
+    }
+
+    /**
+     * Resolves {@code ev} from the fingerprint store alone when possible.
+     *
+     * @return {@code "unchanged"}, {@code "patched"} or {@code "patch failed"} when the event was handled and needs
+     * no further checks, or {@code null} when the store does not know it
+     */
+    private String checkStore(ZoomEvent ev, RunSummary summary) throws IOException {
+        String identity = EventFingerprint.identityHash(ev);
+        FingerprintStore.Entry entry = store.get(identity);
+        if (entry == null) {
+            return null;
+        }
+
+        String fingerprint = EventFingerprint.fingerprint(ev, cal.getTimezone());
+        if (entry.fingerprint().equals(fingerprint)) {
+            summary.recordSkipped();
+            return "unchanged";
+        }
+
+        String outcome = "patched";
+        journalBegin(PATCH, List.of(entry.eventId()));
+        try {
+            Event patched = cal.patchWeeklyEvent(calendarId, entry.eventId(), ev);
+            store.put(identity, new FingerprintStore.Entry(fingerprint, patched.getId(), patched.getEtag()));
+            journalEnd(entry.eventId(), true);
+            summary.recordSuccess();
+            logger.debug("✏️ Updated event id = {}", patched.getId());
+        } catch (IOException e) {
+            journalEnd(entry.eventId(), false);
+            summary.recordFailure(ev.getDescription(), "patch failed: " + e.getMessage());
+            outcome = "patch failed";
+        }
+        if (journal != null) {
+            journal.sync();
+        }
+        return outcome;
+    }
+
+    private void rebuildStore() throws IOException {
+        Map<String, FingerprintStore.Entry> entries = new HashMap<>();
+        for (Event master : cal.listRecurringMasters(calendarId)) {
+            ZoomEvent ev = cal.toZoomEvent(master);
+            if (ev == null) continue;
+            String timezone = master.getStart().getTimeZone() != null ? master.getStart().getTimeZone() : cal.getTimezone();
+            entries.put(EventFingerprint.identityHash(ev),
+                    new FingerprintStore.Entry(EventFingerprint.fingerprint(ev, timezone), master.getId(), master.getEtag()));
+        }
+        store.rebuild(entries);
+    }
+
+    private Void insert(BlockingQueue<Slot<ZoomEvent>> in, RunSummary summary) throws InterruptedException, IOException {
+        List<ZoomEvent> buffer = new ArrayList<>(flushSize);
+        while (true) {
+            Slot<ZoomEvent> slot = in.poll(IDLE_FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+            if (slot != null && !slot.isEnd()) {
+                buffer.add(slot.value());
+            }
+            boolean flush = slot == null || slot.isEnd() || buffer.size() >= flushSize;
+            if (flush && !buffer.isEmpty()) {
+                journalBegin(INSERT, buffer.stream().map(EventFingerprint::eventId).toList());
+                for (InsertResult result : cal.insertWeeklyEvents(calendarId, buffer)) {
+                    journalEnd(EventFingerprint.eventId(result.source()), result.succeeded());
+                    if (result.succeeded()) {
+                        summary.recordSuccess();
+                        remember(result);
+                        logger.debug("✅ Created event id = {}", result.created().getId());
+                    } else {
+                        summary.recordFailure(result.source().getDescription(), result.errorCode() + " " + result.errorMessage());
+                    }
+                }
+                buffer.clear();
+                if (store != null) {
+                    store.flush();
+                }
+                if (journal != null) {
+                    journal.sync();
+                }
+            }
+            if (slot != null && slot.isEnd()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Journals the intent to send {@code op} for each event ID and forces it to disk before anything is sent.
+     */
+    private void journalBegin(String op, List<String> eventIds) throws IOException {
+        if (journal == null) return;
+        for (String eventId : eventIds) {
+            journal.begin(op, eventId);
+        }
+        journal.sync();
+    }
+
+    private void journalEnd(String eventId, boolean succeeded) throws IOException {
+        if (journal == null) return;
+        if (succeeded) {
+            journal.done(eventId);
+        } else {
+            journal.failed(eventId);
+        }
+    }
+
+    private void remember(InsertResult result) throws IOException {
+        if (store == null) return;
+        store.put(EventFingerprint.identityHash(result.source()), new FingerprintStore.Entry(
+                EventFingerprint.fingerprint(result.source(), cal.getTimezone()),
+                result.created().getId(),
+                result.created().getEtag()));
+    }
+
+    /**
+     * @param readNanos how long the parse stage took to read the record, for its trace span
+     */
+    private record Slot<T>(int index, T value, long readNanos) {
+        static <T> Slot<T> end() {
+            return new Slot<>(-1, null, 0);
+        }
+
+        boolean isEnd() {
+            return index < 0;
+        }
+    }
+}
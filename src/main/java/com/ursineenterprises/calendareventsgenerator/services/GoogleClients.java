@@ -0,0 +1,107 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.GZipEncoding;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.auth.ApiCredentials;
+import com.ursineenterprises.calendareventsgenerator.http.ConditionalHttpTransport;
+import com.ursineenterprises.calendareventsgenerator.http.EtagCache;
+import com.ursineenterprises.calendareventsgenerator.metrics.ApiMetrics;
+import com.ursineenterprises.calendareventsgenerator.metrics.MeteredHttpTransport;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+
+/**
+ * Process-wide Google API plumbing: one trusted, metered, ETag-caching HTTP transport (and so one connection pool
+ * and TLS setup) and one set of {@link ApiCredentials}, created on first use and shared by every command and client.
+ */
+public final class GoogleClients {
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final String APPLICATION_NAME = Config.get("application.name", "APPLICATION_NAME");
+
+    private static volatile HttpTransport transport;
+    private static volatile ApiCredentials credentials;
+
+    private GoogleClients() {
+    }
+
+    public static JsonFactory jsonFactory() {
+        return JSON_FACTORY;
+    }
+
+    /**
+     * Builds a Calendar client on the shared transport and credentials. Clients are cheap; build one per use.
+     * {@code GOOGLE_API_ROOT_URL} points the client (including batch requests) at another server, such as a local
+     * stand-in for load testing.
+     */
+    public static Calendar calendar() throws Exception {
+        return calendar(transport(), credentials().requestInitializer(), Config.get("google.api.root.url", "GOOGLE_API_ROOT_URL"));
+    }
+
+    /**
+     * @param rootUrl API root such as {@code http://127.0.0.1:8090/}; {@code null} or blank for Google's endpoint
+     */
+    public static Calendar calendar(HttpTransport transport, HttpRequestInitializer initializer, String rootUrl) {
+        Calendar.Builder builder = new Calendar.Builder(transport, JSON_FACTORY, gzip(initializer))
+                .setApplicationName(APPLICATION_NAME);
+        if (rootUrl != null && !rootUrl.isBlank()) {
+            builder.setRootUrl(rootUrl.endsWith("/") ? rootUrl : rootUrl + "/");
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compresses every request body, including the multipart body of batch requests, which the client otherwise
+     * sends uncompressed. Responses are already requested with {@code Accept-Encoding: gzip}. Off with
+     * {@code API_GZIP=false}.
+     */
+    static HttpRequestInitializer gzip(HttpRequestInitializer initializer) {
+        if (!Boolean.parseBoolean(Objects.requireNonNullElse(Config.get("api.gzip", "API_GZIP"), "true"))) {
+            return initializer;
+        }
+        return request -> {
+            if (initializer != null) {
+                initializer.initialize(request);
+            }
+            request.setEncoding(new GZipEncoding());
+        };
+    }
+
+    public static HttpTransport transport() throws GeneralSecurityException, IOException {
+        HttpTransport shared = transport;
+        if (shared == null) {
+            synchronized (GoogleClients.class) {
+                shared = transport;
+                if (shared == null) {
+                    // Metering sits below the ETag cache so 304s and the bytes actually transferred are what get recorded
+                    shared = new ConditionalHttpTransport(
+                            new MeteredHttpTransport(GoogleNetHttpTransport.newTrustedTransport(), ApiMetrics.global()),
+                            EtagCache.fromConfig());
+                    transport = shared;
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static ApiCredentials credentials() throws Exception {
+        ApiCredentials shared = credentials;
+        if (shared == null) {
+            synchronized (GoogleClients.class) {
+                shared = credentials;
+                if (shared == null) {
+                    shared = ApiCredentials.fromConfig();
+                    credentials = shared;
+                }
+            }
+        }
+        return shared;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.services.calendar.Calendar;
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.model.CalendarJob;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one job per calendar in a single process on a work-stealing pool, sharing one Calendar client (and so one
+ * transport and OAuth session) and one {@link ResilientExecutor}.
+ * <p>
+ * Each calendar gets its own {@link CalendarService} whose rate limiter is a per-calendar bucket under one global
+ * bucket, so a single large calendar cannot use up the whole project quota. A failing job is reported in its
+ * {@link JobOutcome} and never stops the others.
+ */
+public class MultiCalendarRunner {
+    private final Calendar client;
+    private final String defaultTimezone;
+    private final int parallelism;
+    private final int perCalendarInFlight;
+    private final double perCalendarRps;
+    private final TokenBucketRateLimiter globalLimiter;
+    private final ResilientExecutor resilience;
+
+    public MultiCalendarRunner(Calendar client, String defaultTimezone, int parallelism, int perCalendarInFlight,
+                               double perCalendarRps, TokenBucketRateLimiter globalLimiter, ResilientExecutor resilience) {
+        this.client = client;
+        this.defaultTimezone = defaultTimezone;
+        this.parallelism = Math.max(1, parallelism);
+        this.perCalendarInFlight = Math.max(1, perCalendarInFlight);
+        this.perCalendarRps = perCalendarRps;
+        this.globalLimiter = globalLimiter;
+        this.resilience = resilience;
+    }
+
+    public static MultiCalendarRunner fromConfig(Calendar client) {
+        int maxInFlight = Config.getInt("max.in.flight", "MAX_IN_FLIGHT", 8);
+        double globalRps = Config.getDouble("rate.limit.rps", "RATE_LIMIT_RPS", 10.0);
+        int burst = Config.getInt("rate.limit.burst", "RATE_LIMIT_BURST", maxInFlight);
+        return new MultiCalendarRunner(
+                client,
+                Config.get("default.timezone", "DEFAULT_TIMEZONE"),
+                Config.getInt("manifest.parallelism", "MANIFEST_PARALLELISM", 4),
+                Config.getInt("calendar.max.in.flight", "CALENDAR_MAX_IN_FLIGHT", 4),
+                Config.getDouble("calendar.rate.limit.rps", "CALENDAR_RATE_LIMIT_RPS", 5.0),
+                new TokenBucketRateLimiter(globalRps, burst),
+                ResilientExecutor.fromConfig());
+    }
+
+    public CalendarService serviceFor(CalendarJob job) {
+        String timezone = job.timezone() == null || job.timezone().isBlank() ? defaultTimezone : job.timezone();
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(perCalendarRps, perCalendarInFlight, globalLimiter);
+        return new CalendarService(client, timezone, new ConcurrentRunner(perCalendarInFlight, limiter), resilience);
+    }
+
+    /**
+     * Runs {@code task} once per job and returns one outcome per job, in manifest order.
+     */
+    public List<JobOutcome> runAll(List<CalendarJob> jobs, JobTask task) throws InterruptedException {
+        ExecutorService pool = Executors.newWorkStealingPool(Math.min(parallelism, Math.max(1, jobs.size())));
+        try {
+            List<Future<JobOutcome>> futures = new ArrayList<>(jobs.size());
+            for (CalendarJob job : jobs) {
+                futures.add(pool.submit((Callable<JobOutcome>) () -> {
+                    long start = System.nanoTime();
+                    try {
+                        task.run(job, serviceFor(job));
+                        return new JobOutcome(job, null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    } catch (Exception e) {
+                        return new JobOutcome(job, e, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
+                }));
+            }
+
+            List<JobOutcome> outcomes = new ArrayList<>(jobs.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    outcomes.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ex ? ex : new RuntimeException(e.getCause());
+                    outcomes.add(new JobOutcome(jobs.get(i), cause, 0));
+                }
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    public interface JobTask {
+        void run(CalendarJob job, CalendarService service) throws Exception;
+    }
+
+    public record JobOutcome(CalendarJob job, Exception error, long elapsedMillis) {
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.services.calendar.model.Event;
+import com.ursineenterprises.calendareventsgenerator.model.RecurrenceRule;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Computes the occurrences of a recurring master, as listed with {@code singleEvents=false}, from its
+ * {@code RRULE}, {@code RDATE} and {@code EXDATE} lines, so a calendar window costs one row per series instead of
+ * one per instance. The series' first start always counts as an occurrence, as in RFC 5545.
+ */
+final class RecurrenceExpander {
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private RecurrenceExpander() {
+    }
+
+    /**
+     * Start times of {@code master}'s occurrences beginning in {@code [from, to)}, in the master's own timezone. For
+     * each rule the window is widened to at least one repeat period, so a series that skips it (e.g. every other
+     * week) still shows its next occurrence.
+     *
+     * @param replaced original start times of instances that were moved or cancelled and are listed on their own
+     * @throws IllegalArgumentException when the master's recurrence uses something {@link RecurrenceRule} cannot
+     *                                  expand
+     */
+    static List<ZonedDateTime> occurrences(Event master, ZoneId calendarZone, Instant from, Instant to,
+                                           Set<Instant> replaced) {
+        try {
+            ZoneId zone = master.getStart().getTimeZone() != null ? ZoneId.of(master.getStart().getTimeZone()) : calendarZone;
+            ZonedDateTime start = Instant.ofEpochMilli(master.getStart().getDateTime().getValue()).atZone(zone);
+
+            TreeMap<Instant, ZonedDateTime> occurrences = new TreeMap<>();
+            Set<Instant> excluded = new HashSet<>(replaced);
+            Set<LocalDate> excludedDays = new HashSet<>();
+            add(occurrences, start, from, to);
+
+            for (String line : master.getRecurrence()) {
+                int colon = line.indexOf(':');
+                if (colon < 0) {
+                    throw new IllegalArgumentException("Malformed recurrence line '" + line + "'");
+                }
+                String[] params = line.substring(0, colon).split(";");
+                String values = line.substring(colon + 1);
+                switch (params[0].trim().toUpperCase(Locale.ROOT)) {
+                    case "RRULE" -> {
+                        RecurrenceRule rule = RecurrenceRule.parse(values);
+                        Instant periodEnd = from.atZone(zone).plus(rule.period()).toInstant();
+                        rule.occurrences(start, from, periodEnd.isAfter(to) ? periodEnd : to)
+                                .forEach(occurrence -> occurrences.put(occurrence.toInstant(), occurrence));
+                    }
+                    case "EXDATE", "RDATE" -> {
+                        boolean exclude = params[0].trim().equalsIgnoreCase("EXDATE");
+                        ZoneId valueZone = zone;
+                        boolean dates = false;
+                        for (int i = 1; i < params.length; i++) {
+                            String param = params[i].trim();
+                            if (param.regionMatches(true, 0, "TZID=", 0, 5)) {
+                                valueZone = ZoneId.of(param.substring(5));
+                            } else if (param.equalsIgnoreCase("VALUE=DATE")) {
+                                dates = true;
+                            } else if (param.regionMatches(true, 0, "VALUE=", 0, 6) && !param.equalsIgnoreCase("VALUE=DATE-TIME")) {
+                                throw new IllegalArgumentException("Unsupported recurrence line '" + line + "'");
+                            }
+                        }
+                        for (String value : values.split(",")) {
+                            value = value.trim();
+                            if (dates || value.length() == 8) {
+                                LocalDate day = LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE);
+                                if (exclude) {
+                                    excludedDays.add(day);
+                                } else {
+                                    add(occurrences, ZonedDateTime.of(day, start.toLocalTime(), zone), from, to);
+                                }
+                            } else {
+                                Instant at = value.endsWith("Z")
+                                        ? LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME).toInstant(ZoneOffset.UTC)
+                                        : ZonedDateTime.of(LocalDateTime.parse(value, DATE_TIME), valueZone).toInstant();
+                                if (exclude) {
+                                    excluded.add(at);
+                                } else {
+                                    add(occurrences, at.atZone(zone), from, to);
+                                }
+                            }
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported recurrence line '" + line + "'");
+                }
+            }
+
+            occurrences.keySet().removeAll(excluded);
+            occurrences.values().removeIf(occurrence -> excludedDays.contains(occurrence.toLocalDate()));
+            return new ArrayList<>(occurrences.values());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid recurrence " + master.getRecurrence() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void add(TreeMap<Instant, ZonedDateTime> occurrences, ZonedDateTime occurrence, Instant from, Instant to) {
+        Instant at = occurrence.toInstant();
+        if (!at.isBefore(from) && at.isBefore(to)) {
+            occurrences.put(at, occurrence);
+        }
+    }
+}
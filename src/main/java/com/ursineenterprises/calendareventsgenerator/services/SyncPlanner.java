@@ -0,0 +1,158 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.services.calendar.model.Event;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.RecurrenceRule;
+import com.ursineenterprises.calendareventsgenerator.model.SyncAction;
+import com.ursineenterprises.calendareventsgenerator.model.SyncPlan;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Diffs the desired schedule against the calendar's weekly recurring masters.
+ * <p>
+ * Only series this tool wrote (see {@link CalendarService#writtenByTool}) are planned against, so other people's
+ * meetings on a shared calendar are never patched or deleted.
+ * <p>
+ * Series are matched first on summary, weekday and start time; a match whose description (and so Zoom URL),
+ * recurrence rule or occurrence length has drifted becomes a patch. Leftover desired events then claim any unmatched series in the same weekday/time slot
+ * as a patch, everything else desired is created, and every series still unclaimed (including duplicates left
+ * behind by earlier blind runs) is deleted.
+ */
+public class SyncPlanner {
+    private final ZoneId zone;
+
+    public SyncPlanner(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public SyncPlan plan(String calendarId, List<ZoomEvent> desired, List<Event> masters) {
+        return plan(calendarId, EventTable.of(desired), masters);
+    }
+
+    public SyncPlan plan(String calendarId, EventTable desired, List<Event> masters) {
+        Map<String, Deque<Event>> byKey = new LinkedHashMap<>();
+        Map<String, Deque<Event>> bySlot = new LinkedHashMap<>();
+        for (Event master : masters) {
+            if (!isSeries(master)) continue;
+            ZonedDateTime start = Instant.ofEpochMilli(master.getStart().getDateTime().getValue()).atZone(zone);
+            String slot = slot(start);
+            byKey.computeIfAbsent(key(master.getSummary(), slot), k -> new ArrayDeque<>()).add(master);
+            bySlot.computeIfAbsent(slot, k -> new ArrayDeque<>()).add(master);
+        }
+
+        List<SyncAction> actions = new ArrayList<>();
+        int[] unmatched = new int[desired.size()];
+        int unmatchedCount = 0;
+        int unchanged = 0;
+
+        EventTable.Row ev = desired.row();
+        for (int i = 0; i < desired.size(); i++) {
+            ev.moveTo(i);
+            String slot = slot(ev);
+            Event match = claim(byKey.get(key(ev.getDescription(), slot)), bySlot.get(slot));
+            if (match == null) {
+                unmatched[unmatchedCount++] = i;
+                continue;
+            }
+            boolean reschedule = !sameRule(match, ev);
+            boolean resize = !sameLength(match, ev);
+            if (reschedule || resize || !Objects.equals(match.getDescription(), CalendarService.eventDescription(ev))) {
+                actions.add(SyncAction.patch(match.getId(), ev, reschedule, resize));
+            } else {
+                unchanged++;
+            }
+        }
+
+        for (int i = 0; i < unmatchedCount; i++) {
+            ev.moveTo(unmatched[i]);
+            String slot = slot(ev);
+            Deque<Event> sameSlot = bySlot.get(slot);
+            Event match = sameSlot == null ? null : sameSlot.poll();
+            if (match != null) {
+                byKey.get(key(match.getSummary(), slot)).remove(match);
+                actions.add(SyncAction.patch(match.getId(), ev, !sameRule(match, ev), !sameLength(match, ev)));
+            } else {
+                actions.add(SyncAction.create(ev));
+            }
+        }
+
+        for (Deque<Event> leftovers : byKey.values()) {
+            for (Event master : leftovers) {
+                actions.add(SyncAction.delete(master.getId(), master.getSummary()));
+            }
+        }
+
+        return new SyncPlan(calendarId, unchanged, actions);
+    }
+
+    private static Event claim(Deque<Event> byKey, Deque<Event> bySlot) {
+        Event match = byKey == null ? null : byKey.poll();
+        if (match != null) {
+            bySlot.remove(match);
+        }
+        return match;
+    }
+
+    /**
+     * Only series this tool wrote, with a rule it could have written, are planned against; anything else is left
+     * alone.
+     */
+    private static boolean isSeries(Event master) {
+        if (master.getRecurrence() == null || master.getStart() == null || master.getStart().getDateTime() == null) {
+            return false;
+        }
+        if ("cancelled".equals(master.getStatus()) || !CalendarService.writtenByTool(master)) {
+            return false;
+        }
+        return master.getRecurrence().stream().anyMatch(line -> line.startsWith("RRULE:") && parses(line));
+    }
+
+    private static boolean parses(String rule) {
+        try {
+            RecurrenceRule.parse(rule);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean sameRule(Event master, ZoomEvent ev) {
+        return Objects.equals(CalendarService.recurrenceOf(master), ev.getRecurrence());
+    }
+
+    /**
+     * A master without an end time is taken to match, since there is nothing to compare.
+     */
+    private static boolean sameLength(Event master, ZoomEvent ev) {
+        if (master.getEnd() == null || master.getEnd().getDateTime() == null) {
+            return true;
+        }
+        long millis = master.getEnd().getDateTime().getValue() - master.getStart().getDateTime().getValue();
+        return millis == ev.duration().toMillis();
+    }
+
+    private static String slot(ZonedDateTime start) {
+        return start.getDayOfWeek() + "|" + start.toLocalTime().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static String slot(ZoomEvent ev) {
+        return ev.getDayOfWeek() + "|" + ev.getTime().truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static String key(String summary, String slot) {
+        return summary.trim().toLowerCase(Locale.ROOT) + "|" + slot;
+    }
+}
@@ -0,0 +1,284 @@
+package com.ursineenterprises.calendareventsgenerator.store;
+
+import com.ursineenterprises.calendareventsgenerator.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * On-disk map from a series identity hash to the fingerprint, Google event ID and ETag it was last written with.
+ * <p>
+ * Updates are appended to {@code fingerprints.log}; {@link #close()} periodically compacts the live entries into
+ * {@code fingerprints.idx}, which is memory-mapped on load and then overlaid with the log. Every record carries a
+ * CRC32, so a torn final append from a crash is dropped, while any other damage marks the store as needing a
+ * {@link #rebuild} from the calendar.
+ */
+public class FingerprintStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(FingerprintStore.class);
+
+    private static final String INDEX_FILE = "fingerprints.idx";
+    private static final String LOG_FILE = "fingerprints.log";
+    private static final String HEADER = "CEGFP1";
+    private static final int MIN_COMPACTION_RECORDS = 1000;
+
+    private final Path dir;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private FileChannel log;
+    private int logRecords;
+    private boolean needsRebuild;
+
+    private FingerprintStore(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Opens the store for {@code calendarId} under {@code fingerprint.store.dir} ({@code .ceg/fingerprints} by
+     * default), or returns {@code null} when it is set to {@code off}.
+     */
+    public static FingerprintStore forCalendar(String calendarId) throws IOException {
+        String baseDir = Config.getDir("fingerprint.store.dir", "FINGERPRINT_STORE_DIR", ".ceg/fingerprints");
+        if (baseDir == null) {
+            return null;
+        }
+        return open(Path.of(baseDir, calendarId.replaceAll("[^A-Za-z0-9._@-]", "_")));
+    }
+
+    public static FingerprintStore open(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        FingerprintStore store = new FingerprintStore(dir);
+        store.load();
+        return store;
+    }
+
+    public record Entry(String fingerprint, String eventId, String etag) {
+    }
+
+    public Entry get(String identityHash) {
+        return entries.get(identityHash);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return true when the store was missing or damaged and should be repopulated from the calendar
+     */
+    public boolean needsRebuild() {
+        return needsRebuild;
+    }
+
+    public void put(String identityHash, Entry entry) throws IOException {
+        entries.put(identityHash, entry);
+        append(record("P", identityHash, entry));
+    }
+
+    public void remove(String identityHash) throws IOException {
+        if (entries.remove(identityHash) != null) {
+            append(record("D", identityHash, new Entry("-", "-", "-")));
+        }
+    }
+
+    /**
+     * Forces appended records to disk. Called after each batch of writes rather than per record.
+     */
+    public void flush() throws IOException {
+        log.force(false);
+    }
+
+    /**
+     * Replaces the store's contents, e.g. with entries derived from the calendar's recurring masters.
+     */
+    public void rebuild(Map<String, Entry> fromCalendar) throws IOException {
+        writeLock.lock();
+        try {
+            entries.clear();
+            entries.putAll(fromCalendar);
+            compact();
+            needsRebuild = false;
+        } finally {
+            writeLock.unlock();
+        }
+        logger.info("[INFO] Rebuilt fingerprint store in {} with {} entr(ies)", dir, entries.size());
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (logRecords > Math.max(MIN_COMPACTION_RECORDS, entries.size())) {
+                compact();
+            } else {
+                log.force(false);
+            }
+            log.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        Path index = dir.resolve(INDEX_FILE);
+        Path logPath = dir.resolve(LOG_FILE);
+        needsRebuild = !Files.exists(index) && !Files.exists(logPath);
+
+        long validLogLength = 0;
+        try {
+            if (Files.exists(index)) {
+                readIndex(index);
+            }
+            if (Files.exists(logPath)) {
+                validLogLength = replayLog(logPath);
+            }
+        } catch (CorruptStoreException e) {
+            logger.warn("[WARN] Fingerprint store in {} is corrupt ({}); it will be rebuilt from the calendar", dir, e.getMessage());
+            entries.clear();
+            needsRebuild = true;
+            validLogLength = 0;
+        }
+
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        log.truncate(validLogLength);
+        log.position(validLogLength);
+    }
+
+    private void readIndex(Path index) throws IOException {
+        String[] lines = mapLines(index);
+        if (lines.length == 0 || !lines[0].startsWith(HEADER + "\t")) {
+            throw new CorruptStoreException("missing index header");
+        }
+        int expected;
+        try {
+            expected = Integer.parseInt(lines[0].substring(HEADER.length() + 1));
+        } catch (NumberFormatException e) {
+            throw new CorruptStoreException("bad index header");
+        }
+        // The last element is the empty remainder after the final newline
+        if (lines.length - 2 != expected || !lines[lines.length - 1].isEmpty()) {
+            throw new CorruptStoreException("index holds " + (lines.length - 2) + " of " + expected + " records");
+        }
+        for (int i = 1; i <= expected; i++) {
+            apply(parse(lines[i]));
+        }
+    }
+
+    /**
+     * Applies the log over the index and returns the byte length of its valid prefix.
+     */
+    private long replayLog(Path logPath) throws IOException {
+        String[] lines = mapLines(logPath);
+        long validLength = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (i == lines.length - 1) {
+                // Anything after the final newline is a record whose append never completed
+                if (!lines[i].isEmpty()) {
+                    logger.warn("[WARN] Dropping incomplete final record from {}", logPath);
+                }
+                break;
+            }
+            apply(parse(lines[i]));
+            logRecords++;
+            validLength += lines[i].getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        return validLength;
+    }
+
+    private void apply(String[] fields) {
+        if ("P".equals(fields[0])) {
+            entries.put(fields[1], new Entry(fields[2], fields[3], fields[4]));
+        } else {
+            entries.remove(fields[1]);
+        }
+    }
+
+    private void append(String record) throws IOException {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(record);
+        writeLock.lock();
+        try {
+            while (bytes.hasRemaining()) {
+                log.write(bytes);
+            }
+            logRecords++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void compact() throws IOException {
+        Path tmp = dir.resolve(INDEX_FILE + ".tmp");
+        StringBuilder sb = new StringBuilder(HEADER).append('\t').append(entries.size()).append('\n');
+        entries.forEach((hash, entry) -> sb.append(record("P", hash, entry)));
+
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(sb.toString());
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, dir.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.truncate(0);
+        log.position(0);
+        log.force(true);
+        logRecords = 0;
+    }
+
+    private static String[] mapLines(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() == 0) return new String[] {""};
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CharBuffer chars = StandardCharsets.UTF_8.decode(buffer);
+            return chars.toString().split("\n", -1);
+        }
+    }
+
+    private static String record(String op, String identityHash, Entry entry) {
+        String body = op + '\t' + identityHash + '\t' + entry.fingerprint() + '\t' + entry.eventId() + '\t' + entry.etag();
+        return body + '\t' + crc(body) + '\n';
+    }
+
+    private static String[] parse(String line) {
+        int lastTab = line.lastIndexOf('\t');
+        if (lastTab < 0) throw new CorruptStoreException("unterminated record");
+        String body = line.substring(0, lastTab);
+        if (!crc(body).equals(line.substring(lastTab + 1))) throw new CorruptStoreException("checksum mismatch");
+        String[] fields = body.split("\t", -1);
+        if (fields.length != 5 || !("P".equals(fields[0]) || "D".equals(fields[0]))) {
+            throw new CorruptStoreException("malformed record");
+        }
+        return fields;
+    }
+
+    private static String crc(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static final class CorruptStoreException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private CorruptStoreException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.ursineenterprises.calendareventsgenerator.store;
+
+import com.ursineenterprises.calendareventsgenerator.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal of the calendar writes made by one run, so an interrupted run can be resumed without
+ * re-checking or re-creating what already landed.
+ * <p>
+ * Before a write is sent its intent is appended ({@code B}), and once the API answers its outcome ({@code D} done or
+ * {@code F} failed). Writes are keyed by the client-generated Google event ID, so re-sending an intent whose outcome
+ * was never recorded is safe: a series that did land is answered with {@code 409}. Records are forced to disk with
+ * {@link #sync()} once per batch, before the batch goes out and after its results are in. Like
+ * {@link FingerprintStore} every record carries a CRC32, and replay stops at the first record that fails it.
+ * <p>
+ * A run that finishes without failures removes its journal with {@link #finish()}.
+ */
+public class RunJournal implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(RunJournal.class);
+
+    public enum State { PENDING, DONE, FAILED }
+
+    public record Entry(String op, State state) {
+    }
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private FileChannel log;
+
+    private RunJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens the journal for {@code calendarId} under {@code journal.dir} ({@code .ceg/journal} by default), or returns
+     * {@code null} when it is set to {@code off}. With {@code resume} the previous run's records are replayed; otherwise they are
+     * discarded.
+     */
+    public static RunJournal forCalendar(String calendarId, boolean resume) throws IOException {
+        String baseDir = Config.getDir("journal.dir", "JOURNAL_DIR", ".ceg/journal");
+        if (baseDir == null) {
+            return null;
+        }
+        return open(Path.of(baseDir, calendarId.replaceAll("[^A-Za-z0-9._@-]", "_") + ".wal"), resume);
+    }
+
+    public static RunJournal open(Path file, boolean resume) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        RunJournal journal = new RunJournal(file);
+        journal.load(resume);
+        return journal;
+    }
+
+    /**
+     * @return the last recorded state for {@code eventId}, or {@code null} when this journal has none
+     */
+    public Entry get(String eventId) {
+        return entries.get(eventId);
+    }
+
+    public int count(State state) {
+        return (int) entries.values().stream().filter(e -> e.state() == state).count();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Records the intent to send {@code op} for {@code eventId}. Must be followed by {@link #sync()} before the
+     * request goes out.
+     */
+    public void begin(String op, String eventId) throws IOException {
+        entries.put(eventId, new Entry(op, State.PENDING));
+        append(record("B", op, eventId));
+    }
+
+    public void done(String eventId) throws IOException {
+        complete(eventId, State.DONE, "D");
+    }
+
+    public void failed(String eventId) throws IOException {
+        complete(eventId, State.FAILED, "F");
+    }
+
+    /**
+     * Forces every record appended so far to disk.
+     */
+    public void sync() throws IOException {
+        log.force(false);
+    }
+
+    /**
+     * Ends a run that completed without failures: the journal has nothing left to resume and is deleted.
+     */
+    public void finish() throws IOException {
+        writeLock.lock();
+        try {
+            log.close();
+            Files.deleteIfExists(file);
+            entries.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (log.isOpen()) {
+                log.force(false);
+                log.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void complete(String eventId, State state, String code) throws IOException {
+        Entry begun = entries.get(eventId);
+        String op = begun == null ? "-" : begun.op();
+        entries.put(eventId, new Entry(op, state));
+        append(record(code, op, eventId));
+    }
+
+    private void load(boolean resume) throws IOException {
+        long validLength = 0;
+        if (Files.exists(file)) {
+            if (resume) {
+                validLength = replay();
+            } else if (Files.size(file) > 0) {
+                logger.warn("[WARN] Discarding the journal of an interrupted run in {}; pass --resume to continue it instead", file);
+            }
+        }
+        log = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        log.truncate(validLength);
+        log.position(validLength);
+        log.force(true);
+    }
+
+    /**
+     * Applies the journal's records and returns the byte length of its valid prefix.
+     */
+    private long replay() throws IOException {
+        List<String> lines = List.of(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n", -1));
+        long validLength = 0;
+        for (int i = 0; i < lines.size() - 1; i++) {
+            String[] fields = parse(lines.get(i));
+            if (fields == null) {
+                logger.warn("[WARN] Journal {} is damaged at record {}; later records are ignored", file, i + 1);
+                return validLength;
+            }
+            State state = switch (fields[0]) {
+                case "B" -> State.PENDING;
+                case "D" -> State.DONE;
+                default -> State.FAILED;
+            };
+            entries.put(fields[2], new Entry(fields[1], state));
+            validLength += lines.get(i).getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        // Anything after the final newline is a record whose append never completed
+        if (!lines.getLast().isEmpty()) {
+            logger.warn("[WARN] Dropping incomplete final record from {}", file);
+        }
+        return validLength;
+    }
+
+    private void append(String record) throws IOException {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(record);
+        writeLock.lock();
+        try {
+            while (bytes.hasRemaining()) {
+                log.write(bytes);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static String record(String code, String op, String eventId) {
+        String body = code + '\t' + op + '\t' + eventId;
+        return body + '\t' + crc(body) + '\n';
+    }
+
+    private static String[] parse(String line) {
+        int lastTab = line.lastIndexOf('\t');
+        if (lastTab < 0) return null;
+        String body = line.substring(0, lastTab);
+        if (!crc(body).equals(line.substring(lastTab + 1))) return null;
+        String[] fields = body.split("\t", -1);
+        if (fields.length != 3 || !List.of("B", "D", "F").contains(fields[0])) return null;
+        return fields;
+    }
+
+    private static String crc(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
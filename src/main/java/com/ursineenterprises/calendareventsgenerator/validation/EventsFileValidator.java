@@ -0,0 +1,65 @@
+package com.ursineenterprises.calendareventsgenerator.validation;
+
+import com.ursineenterprises.calendareventsgenerator.io.JsonEventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Checks events files against {@code schema/events-schema.v1.json}, which the build copies onto the classpath, so a
+ * bad {@code dayOfWeek} or {@code time} is reported up front, with its line and column, instead of failing halfway
+ * through a run after some events were already created. The schema is compiled once per process.
+ */
+public final class EventsFileValidator {
+    public static final String SCHEMA_RESOURCE = "/schema/events-schema.v1.json";
+
+    private static final Logger logger = LoggerFactory.getLogger(EventsFileValidator.class);
+
+    private EventsFileValidator() {
+    }
+
+    private static final class Holder {
+        private static final JsonSchemaValidator SCHEMA = load();
+
+        private static JsonSchemaValidator load() {
+            InputStream in = EventsFileValidator.class.getResourceAsStream(SCHEMA_RESOURCE);
+            if (in == null) {
+                throw new IllegalStateException(SCHEMA_RESOURCE + " not found in classpath!");
+            }
+            try {
+                return JsonSchemaValidator.compile(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + SCHEMA_RESOURCE, e);
+            }
+        }
+    }
+
+    public static JsonSchemaValidator schema() {
+        return Holder.SCHEMA;
+    }
+
+    /**
+     * @param path events file on the filesystem or, failing that, the classpath
+     */
+    public static List<ValidationError> validate(String path) throws IOException {
+        try (InputStream in = JsonEventSource.openStream(path)) {
+            return schema().validate(in);
+        }
+    }
+
+    /**
+     * Logs every error and throws if the file does not match the schema.
+     */
+    public static void requireValid(String path) throws IOException {
+        List<ValidationError> errors = validate(path);
+        if (errors.isEmpty()) return;
+        for (ValidationError error : errors) {
+            logger.error("[ERROR] {}: {}", path, error);
+        }
+        throw new IllegalArgumentException(path + " does not match the events schema: " + errors.size() + " error(s), first at " + errors.getFirst());
+    }
+}
@@ -0,0 +1,305 @@
+package com.ursineenterprises.calendareventsgenerator.validation;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A JSON Schema (draft-07 subset) compiled once into a tree of checks that validates a document while streaming it.
+ * <p>
+ * Documents are never bound to a tree: each token is checked as the parser reaches it, so memory stays flat for any
+ * file size and every error keeps the line and column of the token that caused it. All errors are collected rather
+ * than stopping at the first one. Supported keywords are {@code type}, {@code properties}, {@code required},
+ * {@code additionalProperties} (boolean), {@code items} (single schema), {@code enum}, {@code pattern},
+ * {@code minLength}, {@code maxLength}, {@code minItems}, {@code maxItems}, {@code minimum}, {@code maximum} and
+ * {@code format: uri}; compiling a schema
+ * that uses anything else fails rather than silently skipping the rule.
+ */
+public final class JsonSchemaValidator {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "$id", "$comment", "title", "default", "examples");
+
+    private final Node root;
+
+    private JsonSchemaValidator(Node root) {
+        this.root = root;
+    }
+
+    public static JsonSchemaValidator compile(JsonNode schema) {
+        return new JsonSchemaValidator(compile(schema, ""));
+    }
+
+    public static JsonSchemaValidator compile(InputStream schema) throws IOException {
+        try (schema) {
+            return compile(MAPPER.readTree(schema));
+        }
+    }
+
+    /**
+     * Validates the whole document. Malformed JSON is reported as a final error at the point the parser gave up.
+     */
+    public List<ValidationError> validate(InputStream document) throws IOException {
+        List<ValidationError> errors = new ArrayList<>();
+        try (JsonParser parser = MAPPER.getFactory().createParser(document)) {
+            try {
+                if (parser.nextToken() == null) {
+                    errors.add(new ValidationError(1, 1, "", "document is empty"));
+                    return errors;
+                }
+                root.validate(parser, null, errors);
+                if (parser.nextToken() != null) {
+                    error(errors, parser.currentTokenLocation(), null, "unexpected content after the document");
+                }
+            } catch (JsonProcessingException e) {
+                JsonLocation at = e.getLocation() != null ? e.getLocation() : parser.currentLocation();
+                error(errors, at, null, "malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return errors;
+    }
+
+    // --- compilation ---
+
+    private static Node compile(JsonNode schema, String schemaPath) {
+        if (!schema.isObject()) {
+            throw new IllegalArgumentException("Schema at '" + schemaPath + "' must be an object");
+        }
+        Node node = new Node();
+        for (Iterator<Map.Entry<String, JsonNode>> it = schema.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            String keyword = field.getKey();
+            JsonNode value = field.getValue();
+            switch (keyword) {
+                case "type" -> {
+                    node.types = new HashSet<>();
+                    if (value.isArray()) value.forEach(t -> node.types.add(t.asText()));
+                    else node.types.add(value.asText());
+                }
+                case "properties" -> value.fields().forEachRemaining(p ->
+                        node.properties.put(p.getKey(), compile(p.getValue(), schemaPath + "/properties/" + p.getKey())));
+                case "required" -> value.forEach(r -> node.required.add(r.asText()));
+                case "additionalProperties" -> {
+                    if (!value.isBoolean()) {
+                        throw new IllegalArgumentException("Only boolean additionalProperties is supported (at '" + schemaPath + "')");
+                    }
+                    node.additionalProperties = value.asBoolean();
+                }
+                case "items" -> node.items = compile(value, schemaPath + "/items");
+                case "enum" -> {
+                    node.enumValues = new HashSet<>();
+                    value.forEach(v -> node.enumValues.add(v.isTextual() ? v.asText() : v.toString()));
+                }
+                case "pattern" -> node.pattern = Pattern.compile(value.asText());
+                case "description" -> node.description = value.asText();
+                case "minLength" -> node.minLength = value.asInt();
+                case "maxLength" -> node.maxLength = value.asInt();
+                case "minItems" -> node.minItems = value.asInt();
+                case "maxItems" -> node.maxItems = value.asInt();
+                case "minimum" -> node.minimum = number(value, keyword, schemaPath);
+                case "maximum" -> node.maximum = number(value, keyword, schemaPath);
+                case "format" -> {
+                    node.formatName = value.asText();
+                    node.format = switch (node.formatName) {
+                        case "uri" -> JsonSchemaValidator::isUri;
+                        default -> throw new IllegalArgumentException("Unsupported format '" + node.formatName + "' (at '" + schemaPath + "')");
+                    };
+                }
+                default -> {
+                    if (!ANNOTATIONS.contains(keyword)) {
+                        throw new IllegalArgumentException("Unsupported schema keyword '" + keyword + "' (at '" + schemaPath + "')");
+                    }
+                }
+            }
+        }
+        return node;
+    }
+
+    private static BigDecimal number(JsonNode value, String keyword, String schemaPath) {
+        if (!value.isNumber()) {
+            throw new IllegalArgumentException(keyword + " must be a number (at '" + schemaPath + "')");
+        }
+        return value.decimalValue();
+    }
+
+    private static boolean isUri(String value) {
+        try {
+            return new URI(value).isAbsolute();
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    // --- validation ---
+
+    /**
+     * JSON pointer segments linked to their parent, only turned into a string when an error is reported.
+     */
+    private record Pointer(Pointer parent, String segment) {
+        @Override
+        public String toString() {
+            return parent == null ? "/" + segment : parent + "/" + segment;
+        }
+    }
+
+    private static final class Node {
+        private Set<String> types;
+        private final Map<String, Node> properties = new LinkedHashMap<>();
+        private final List<String> required = new ArrayList<>();
+        private boolean additionalProperties = true;
+        private Node items;
+        private Set<String> enumValues;
+        private Pattern pattern;
+        private Integer minLength;
+        private Integer maxLength;
+        private Integer minItems;
+        private Integer maxItems;
+        private BigDecimal minimum;
+        private BigDecimal maximum;
+        private String formatName;
+        private Predicate<String> format;
+        private String description;
+
+        /**
+         * Checks the value the parser is positioned on and leaves the parser on its last token.
+         */
+        private void validate(JsonParser parser, Pointer at, List<ValidationError> errors) throws IOException {
+            JsonToken token = parser.currentToken();
+            JsonLocation location = parser.currentTokenLocation();
+            String type = typeOf(token);
+            if (types != null && !types.contains(type) && !("integer".equals(type) && types.contains("number"))) {
+                error(errors, location, at, "expected " + String.join(" or ", types) + " but found " + type);
+                parser.skipChildren();
+                return;
+            }
+
+            switch (token) {
+                case START_OBJECT -> validateObject(parser, at, location, errors);
+                case START_ARRAY -> validateArray(parser, at, location, errors);
+                case VALUE_STRING -> validateString(parser.getText(), at, location, errors);
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> validateNumber(parser, at, location, errors);
+                default -> {
+                    if (enumValues != null && !enumValues.contains(parser.getText())) {
+                        error(errors, location, at, "must be one of " + enumValues);
+                    }
+                }
+            }
+        }
+
+        private void validateObject(JsonParser parser, Pointer at, JsonLocation start, List<ValidationError> errors) throws IOException {
+            Set<String> seen = required.isEmpty() ? null : new HashSet<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonLocation nameLocation = parser.currentTokenLocation();
+                parser.nextToken();
+                if (seen != null) seen.add(name);
+
+                Node property = properties.get(name);
+                if (property != null) {
+                    property.validate(parser, new Pointer(at, name), errors);
+                } else {
+                    if (!additionalProperties) {
+                        error(errors, nameLocation, at, "unknown property '" + name + "'");
+                    }
+                    parser.skipChildren();
+                }
+            }
+            if (seen != null) {
+                for (String name : required) {
+                    if (!seen.contains(name)) {
+                        error(errors, start, at, "missing required property '" + name + "'");
+                    }
+                }
+            }
+        }
+
+        private void validateArray(JsonParser parser, Pointer at, JsonLocation start, List<ValidationError> errors) throws IOException {
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (items != null) {
+                    items.validate(parser, new Pointer(at, Integer.toString(count)), errors);
+                } else {
+                    parser.skipChildren();
+                }
+                count++;
+            }
+            if (minItems != null && count < minItems) {
+                error(errors, start, at, "must have at least " + minItems + " item(s) but has " + count);
+            }
+            if (maxItems != null && count > maxItems) {
+                error(errors, start, at, "must have at most " + maxItems + " item(s) but has " + count);
+            }
+        }
+
+        private void validateNumber(JsonParser parser, Pointer at, JsonLocation location, List<ValidationError> errors) throws IOException {
+            if (minimum != null || maximum != null) {
+                BigDecimal value = parser.getDecimalValue();
+                if (minimum != null && value.compareTo(minimum) < 0) {
+                    error(errors, location, at, parser.getText() + " must be at least " + minimum.toPlainString());
+                }
+                if (maximum != null && value.compareTo(maximum) > 0) {
+                    error(errors, location, at, parser.getText() + " must be at most " + maximum.toPlainString());
+                }
+            }
+            if (enumValues != null && !enumValues.contains(parser.getText())) {
+                error(errors, location, at, "must be one of " + enumValues);
+            }
+        }
+
+        private void validateString(String value, Pointer at, JsonLocation location, List<ValidationError> errors) {
+            int length = value.codePointCount(0, value.length());
+            if (minLength != null && length < minLength) {
+                error(errors, location, at, "must be at least " + minLength + " character(s) long");
+            }
+            if (maxLength != null && length > maxLength) {
+                error(errors, location, at, "must be at most " + maxLength + " character(s) long");
+            }
+            if (pattern != null && !pattern.matcher(value).find()) {
+                // A schema description reads better than the raw pattern, e.g. "'FUNDAY' is not a day of the week"
+                error(errors, location, at, "'" + value + "' " + (description != null
+                        ? "is not " + description
+                        : "does not match " + pattern.pattern()));
+            }
+            if (format != null && !format.test(value)) {
+                error(errors, location, at, "'" + value + "' is not a valid " + formatName);
+            }
+            if (enumValues != null && !enumValues.contains(value)) {
+                error(errors, location, at, "'" + value + "' must be one of " + enumValues);
+            }
+        }
+    }
+
+    private static String typeOf(JsonToken token) {
+        return switch (token) {
+            case START_OBJECT -> "object";
+            case START_ARRAY -> "array";
+            case VALUE_STRING -> "string";
+            case VALUE_NUMBER_INT -> "integer";
+            case VALUE_NUMBER_FLOAT -> "number";
+            case VALUE_TRUE, VALUE_FALSE -> "boolean";
+            case VALUE_NULL -> "null";
+            default -> token.name();
+        };
+    }
+
+    private static void error(List<ValidationError> errors, JsonLocation location, Pointer at, String message) {
+        errors.add(new ValidationError(location.getLineNr(), location.getColumnNr(), at == null ? "" : at.toString(), message));
+    }
+}
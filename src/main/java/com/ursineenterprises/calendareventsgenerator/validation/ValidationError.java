@@ -0,0 +1,12 @@
+package com.ursineenterprises.calendareventsgenerator.validation;
+
+/**
+ * One schema violation, located by the 1-based line and column of the offending token and its JSON pointer.
+ */
+public record ValidationError(int line, int column, String pointer, String message) {
+
+    @Override
+    public String toString() {
+        return "line " + line + ", column " + column + " (" + (pointer.isEmpty() ? "/" : pointer) + "): " + message;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ursineenterprises.calendareventsgenerator;
+
+import com.ursineenterprises.calendareventsgenerator.commands.CommandFactory;
+import com.ursineenterprises.calendareventsgenerator.commands.HelpCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarEventsGeneratorTest {
+
+    @Test
+    void testTakeMetricsOut_RemovesTheFlagAndItsValue() {
+        List<String> args = new ArrayList<>(List.of("--sync", "--metrics-out", "metrics.prom", "--dry-run"));
+
+        assertEquals("metrics.prom", CalendarEventsGenerator.takeMetricsOut(args));
+        assertEquals(List.of("--sync", "--dry-run"), args);
+    }
+
+    @Test
+    void testTakeMetricsOut_AcceptsTheEqualsFormAndLeavesOtherArgsAlone() throws Exception {
+        List<String> withEquals = new ArrayList<>(List.of("--metrics-out=out/metrics.json", "--help"));
+        List<String> without = new ArrayList<>(List.of("--help"));
+
+        assertEquals("out/metrics.json", CalendarEventsGenerator.takeMetricsOut(withEquals));
+        assertNull(CalendarEventsGenerator.takeMetricsOut(without));
+        assertEquals(List.of("--help"), withEquals);
+        assertInstanceOf(HelpCommand.class, CommandFactory.fromArgs(withEquals.toArray(String[]::new)));
+    }
+
+    @Test
+    void testTakeMetricsOut_KeepsATrailingFlagWithoutAValue() {
+        List<String> args = new ArrayList<>(List.of("--help", "--metrics-out"));
+
+        assertNull(CalendarEventsGenerator.takeMetricsOut(args));
+        assertEquals(List.of("--help", "--metrics-out"), args);
+    }
+}
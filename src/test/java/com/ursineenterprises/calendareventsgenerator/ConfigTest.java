@@ -0,0 +1,19 @@
+package com.ursineenterprises.calendareventsgenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigTest {
+
+    @Test
+    void testGetDir_FallsBackToTheDefaultWhenUnset() {
+        assertEquals(".ceg/example", Config.getDir("example.dir.unset", "CEG_TEST_UNSET_DIR", ".ceg/example"));
+    }
+
+    @Test
+    void testGetDir_ReturnsNullWhenTurnedOff() {
+        // src/test/resources/application.properties sets mirror.dir=off
+        assertNull(Config.getDir("mirror.dir", "CEG_TEST_UNSET_DIR", ".ceg/mirror"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.ursineenterprises.calendareventsgenerator.auth;
+
+import com.google.api.client.auth.oauth2.StoredCredential;
+import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.MemoryDataStoreFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstalledAppCredentialsTest {
+
+    private static GoogleClientSecrets secrets() {
+        return new GoogleClientSecrets().setInstalled(new GoogleClientSecrets.Details()
+                .setClientId("client-id")
+                .setClientSecret("client-secret")
+                .setAuthUri("https://accounts.google.com/o/oauth2/auth")
+                .setTokenUri("https://oauth2.googleapis.com/token"));
+    }
+
+    @Test
+    void testAuthorize_ReusesStoredRefreshTokenWithoutBrowserFlow() throws Exception {
+        DataStoreFactory store = new MemoryDataStoreFactory();
+        StoredCredential stored = new StoredCredential()
+                .setAccessToken("cached-access-token")
+                .setRefreshToken("cached-refresh-token")
+                .setExpirationTimeMilliseconds(System.currentTimeMillis() + 3_600_000);
+        StoredCredential.getDefaultDataStore(store).set("user", stored);
+
+        InstalledAppCredentials credentials = InstalledAppCredentials.authorize(
+                secrets(), List.of("https://www.googleapis.com/auth/calendar"), store, 0);
+
+        assertEquals("cached-access-token", credentials.accessToken());
+        assertNotNull(credentials.requestInitializer());
+    }
+}
@@ -0,0 +1,132 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.services.calendar.Calendar;
+import com.ursineenterprises.calendareventsgenerator.Config;
+import com.ursineenterprises.calendareventsgenerator.services.FakeCalendarServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes each flag through {@link CommandFactory} and runs the command against a {@link FakeCalendarServer}, with
+ * the calendar ID and events file from the test {@code application.properties}.
+ */
+class CommandFactoryTest {
+
+    private static final String CALENDAR = Config.get("google.calendar.id", "GOOGLE_CALENDAR_ID");
+
+    private FakeCalendarServer server;
+    private Callable<Calendar> calendars;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeCalendarServer.start();
+        calendars = server::client;
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testSync_PlansWithDryRunThenApplies() throws Exception {
+        Path planPath = Path.of(Config.get("sync.plan.path", "SYNC_PLAN_PATH"));
+
+        Command plan = CommandFactory.fromArgs(new String[]{"--sync", "--dry-run"}, calendars);
+        assertInstanceOf(SyncCommand.class, plan);
+        plan.execute();
+
+        assertEquals(0, server.events(CALENDAR).size());
+        assertEquals(0, server.calls("batch") + server.calls("events.insert"));
+        JsonNode written = new ObjectMapper().readTree(planPath.toFile());
+        assertEquals(3, written.get("actions").size());
+        written.get("actions").forEach(action -> assertEquals("CREATE", action.get("type").asText()));
+
+        CommandFactory.fromArgs(new String[]{"--sync"}, calendars).execute();
+
+        assertEquals(3, server.events(CALENDAR).size());
+
+        CommandFactory.fromArgs(new String[]{"--sync", "--dry-run"}, calendars).execute();
+
+        written = new ObjectMapper().readTree(planPath.toFile());
+        assertEquals(0, written.get("actions").size());
+        assertEquals(3, written.get("unchanged").asInt());
+    }
+
+    @Test
+    void testNoArgs_StreamsTheFileIntoTheCalendar() throws Exception {
+        Command run = CommandFactory.fromArgs(new String[0], calendars);
+        assertInstanceOf(NormalRunCommand.class, run);
+        run.execute();
+
+        assertEquals(3, server.events(CALENDAR).size());
+    }
+
+    @Test
+    void testDryRun_ListsTheCalendarButWritesNothing() throws Exception {
+        Command dryRun = CommandFactory.fromArgs(new String[]{"--dry-run"}, calendars);
+        assertInstanceOf(DryRunCommand.class, dryRun);
+        dryRun.execute();
+
+        assertTrue(server.calls("events.list") > 0);
+        assertEquals(0, server.calls("batch") + server.calls("events.insert"));
+        assertEquals(0, server.events(CALENDAR).size());
+    }
+
+    @Test
+    void testSingleDryRun_IsRoutedWithTheFirstEvent() throws Exception {
+        // Executing it prints a cURL command with a real access token, so only the routing is checked
+        assertInstanceOf(SingleDryRunCommand.class, CommandFactory.fromArgs(new String[]{"--single-dry-run"}, calendars));
+    }
+
+    @Test
+    void testManifest_FillsEveryListedCalendar(@TempDir Path dir) throws Exception {
+        Path manifest = manifest(dir);
+
+        Command run = CommandFactory.fromArgs(new String[]{"--manifest", manifest.toString()}, calendars);
+        assertInstanceOf(ManifestCommand.class, run);
+        run.execute();
+
+        assertEquals(3, server.events("a@group.calendar.google.com").size());
+        assertEquals(3, server.events("b@group.calendar.google.com").size());
+    }
+
+    @Test
+    void testManifestDryRun_WritesNothing(@TempDir Path dir) throws Exception {
+        Path manifest = manifest(dir);
+
+        CommandFactory.fromArgs(new String[]{"--manifest", manifest.toString(), "--dry-run"}, calendars).execute();
+
+        assertTrue(server.calls("events.list") > 0);
+        assertEquals(0, server.calls("batch") + server.calls("events.insert"));
+    }
+
+    @Test
+    void testOfflineCommands_NeverBuildACalendarClient() throws Exception {
+        Callable<Calendar> unavailable = () -> fail("offline commands must not build a Calendar client");
+
+        assertInstanceOf(ValidateCommand.class, CommandFactory.fromArgs(new String[]{"--validate"}, unavailable));
+        assertInstanceOf(HelpCommand.class, CommandFactory.fromArgs(new String[]{"--help"}, unavailable));
+    }
+
+    private static Path manifest(Path dir) throws Exception {
+        Path manifest = dir.resolve("manifest.json");
+        Files.writeString(manifest, """
+                [
+                  {"calendarId": "a@group.calendar.google.com", "eventsFile": "events-test.json"},
+                  {"calendarId": "b@group.calendar.google.com", "eventsFile": "events-test.json", "timezone": "Europe/London"}
+                ]
+                """);
+        return manifest;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ursineenterprises.calendareventsgenerator.commands;
+
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.services.CalendarService;
+import com.ursineenterprises.calendareventsgenerator.services.FakeCalendarServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WatchCommandTest {
+
+    private static final String ZONE = "Europe/London";
+
+    private final ZoomEvent standup = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup");
+    private final ZoomEvent retro = new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(16, 0), "https://zoom.us/j/2", "Retro");
+
+    @Test
+    void testDiff_IgnoresReorderingAndCountsAddedAndRemoved() {
+        ZoomEvent demo = new ZoomEvent(DayOfWeek.THURSDAY, LocalTime.of(15, 0), "https://zoom.us/j/3", "Demo");
+
+        assertEquals(counts(0, 0, 0), WatchCommand.diff(table(standup, retro), table(retro, standup), ZONE));
+        assertEquals(counts(1, 0, 1), WatchCommand.diff(table(standup, retro), table(standup, demo), ZONE));
+    }
+
+    @Test
+    void testDiff_CountsAChangedLinkAsAChange() {
+        ZoomEvent moved = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/9", "Standup");
+
+        assertEquals(counts(0, 1, 0), WatchCommand.diff(table(standup, retro), table(moved, retro), ZONE));
+    }
+
+    @Test
+    void testDiff_CountsAnEditToOnlyTheRecurrenceAsAChange() {
+        ZoomEvent biweekly = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup",
+                "FREQ=WEEKLY;INTERVAL=2");
+
+        assertEquals(counts(0, 1, 0), WatchCommand.diff(table(standup, retro), table(biweekly, retro), ZONE));
+    }
+
+    @Test
+    void testDiff_CountsAnEditToOnlyTheDurationAsAChange() {
+        ZoomEvent shorter = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup", null, 15);
+
+        assertEquals(counts(0, 1, 0), WatchCommand.diff(table(standup, retro), table(shorter, retro), ZONE));
+    }
+
+    @Test
+    void testExecute_SyncsOnStartAndAgainAfterAnEdit(@TempDir Path dir) throws Exception {
+        String calendar = "team@group.calendar.google.com";
+        Path events = dir.resolve("events.json");
+        Files.writeString(events, """
+                [{"dayOfWeek": "MONDAY", "time": "09:00", "zoomUrl": "https://zoom.us/j/1", "description": "Standup"}]
+                """);
+
+        try (FakeCalendarServer server = FakeCalendarServer.start()) {
+            CalendarService cal = new CalendarService(server.client(), ZONE,
+                    new ConcurrentRunner(2, TokenBucketRateLimiter.unlimited()), ResilientExecutor.direct());
+            WatchCommand watch = new WatchCommand(cal, calendar, events.toString(), dir.resolve("plan.json"), 50, 100, 0);
+            Thread watcher = Thread.ofPlatform().start(() -> {
+                try {
+                    watch.execute();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            try {
+                awaitTrue(() -> server.events(calendar).size() == 1);
+                Files.writeString(events, """
+                        [
+                          {"dayOfWeek": "MONDAY", "time": "09:00", "zoomUrl": "https://zoom.us/j/9", "description": "Standup"},
+                          {"dayOfWeek": "FRIDAY", "time": "16:00", "zoomUrl": "https://zoom.us/j/2", "description": "Retro"}
+                        ]
+                        """);
+                awaitTrue(() -> server.events(calendar).size() == 2
+                        && server.events(calendar).stream().noneMatch(e -> e.getDescription().contains("/j/1\n")));
+            } finally {
+                watcher.interrupt();
+                watcher.join(10_000);
+            }
+
+            assertFalse(watcher.isAlive());
+            assertEquals(1, server.calls("events.patch"));
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            while (!condition.getAsBoolean()) {
+                Thread.sleep(20);
+            }
+        });
+    }
+
+    private static EventTable table(ZoomEvent... events) {
+        return EventTable.of(List.of(events));
+    }
+
+    private static Map<String, Integer> counts(int added, int changed, int removed) {
+        return Map.of("added", added, "changed", changed, "removed", removed);
+    }
+}
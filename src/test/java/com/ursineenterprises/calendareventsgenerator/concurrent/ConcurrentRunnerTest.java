@@ -0,0 +1,65 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentRunnerTest {
+
+    @Test
+    void testRunAll_KeepsOrderAndCapturesFailures() throws Exception {
+        ConcurrentRunner runner = new ConcurrentRunner(4, TokenBucketRateLimiter.unlimited());
+        List<Integer> items = IntStream.range(0, 20).boxed().toList();
+
+        var outcomes = runner.runAll(items, i -> {
+            if (i % 5 == 0) throw new IllegalArgumentException("bad " + i);
+            return i * 2;
+        });
+
+        assertEquals(20, outcomes.size());
+        for (int i = 0; i < 20; i++) {
+            var outcome = outcomes.get(i);
+            assertEquals(i, outcome.item());
+            if (i % 5 == 0) {
+                assertFalse(outcome.succeeded());
+                assertEquals("bad " + i, outcome.error().getMessage());
+            } else {
+                assertEquals(i * 2, outcome.value());
+            }
+        }
+    }
+
+    @Test
+    void testRunAll_NeverExceedsInFlightLimit() throws Exception {
+        ConcurrentRunner runner = new ConcurrentRunner(3, TokenBucketRateLimiter.unlimited());
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        runner.runAll(IntStream.range(0, 30).boxed().toList(), i -> {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            current.decrementAndGet();
+            return null;
+        });
+
+        assertTrue(peak.get() <= 3, "peak in-flight was " + peak.get());
+    }
+
+    @Test
+    void testTokenBucket_ThrottlesBeyondBurst() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 25; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // 5 permits come from the burst, the remaining 20 take ~200 ms at 100/s
+        assertTrue(elapsedMillis >= 150, "elapsed " + elapsedMillis + " ms");
+    }
+}
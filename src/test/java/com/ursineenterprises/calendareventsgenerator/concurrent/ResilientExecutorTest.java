@@ -0,0 +1,191 @@
+package com.ursineenterprises.calendareventsgenerator.concurrent;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientExecutorTest {
+
+    private static HttpResponseException status(int code) {
+        return new HttpResponseException.Builder(code, "status " + code, new HttpHeaders()).build();
+    }
+
+    private static ResilientExecutor executor(int maxAttempts, CircuitBreaker breaker, AimdLimiter limiter) {
+        return new ResilientExecutor(new RetryPolicy(maxAttempts, 1, 5), breaker, limiter);
+    }
+
+    @Test
+    void testExecute_RetriesServerErrorsThenSucceeds() throws Exception {
+        ResilientExecutor executor = executor(4, new CircuitBreaker(10, 1_000), new AimdLimiter(4, 1, 8, 0.5, 0));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() < 3) throw status(503);
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, executor.getRetries());
+    }
+
+    @Test
+    void testExecute_DoesNotRetryClientErrors() {
+        ResilientExecutor executor = executor(4, new CircuitBreaker(10, 1_000), new AimdLimiter(4, 1, 8, 0.5, 0));
+        AtomicInteger calls = new AtomicInteger();
+
+        HttpResponseException e = assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            calls.incrementAndGet();
+            throw status(400);
+        }));
+
+        assertEquals(400, e.getStatusCode());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testExecute_ThrottlingHalvesConcurrencyLimit() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(8, 1, 8, 0.5, 0);
+        ResilientExecutor executor = executor(2, new CircuitBreaker(10, 1_000), limiter);
+
+        assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            throw status(429);
+        }));
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testExecute_ReleasesItsPermitWhileBackingOff() throws Exception {
+        // One permit, and a failed first call that backs off for its Retry-After of two seconds
+        ResilientExecutor executor = new ResilientExecutor(new RetryPolicy(2, 1, 5_000),
+                new CircuitBreaker(10, 1_000), new AimdLimiter(1, 1, 1, 0.5, 0));
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicLong retriedAt = new AtomicLong();
+
+        Thread first = Thread.ofPlatform().start(() -> {
+            try {
+                executor.execute(() -> {
+                    if (failed.getCount() > 0) {
+                        failed.countDown();
+                        throw new HttpResponseException.Builder(503, "unavailable", new HttpHeaders().set("Retry-After", "2")).build();
+                    }
+                    retriedAt.set(System.nanoTime());
+                    return null;
+                });
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        String second = executor.execute(() -> "ok");
+        long secondDoneAt = System.nanoTime();
+        first.join();
+
+        assertEquals("ok", second);
+        assertTrue(secondDoneAt - start < TimeUnit.MILLISECONDS.toNanos(1_500), "second caller waited for the backoff");
+        assertTrue(retriedAt.get() > secondDoneAt);
+    }
+
+    @Test
+    void testCircuitBreaker_OpensAfterConsecutiveFailuresAndFailsFast() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 60_000);
+        ResilientExecutor executor = executor(1, breaker, new AimdLimiter(4, 1, 8, 0.5, 0));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+                calls.incrementAndGet();
+                throw status(500);
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitBreaker.CircuitOpenException.class, () -> executor.execute(() -> calls.incrementAndGet()));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testCircuitBreaker_TrialEndingInAClientErrorClosesTheBreaker() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        ResilientExecutor executor = executor(1, breaker, new AimdLimiter(4, 1, 8, 0.5, 0));
+        assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            throw status(503);
+        }));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            throw status(404);
+        }));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals("ok", executor.execute(() -> "ok"));
+    }
+
+    @Test
+    void testCircuitBreaker_TrialEndingInThrottlingClosesTheBreaker() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8, 0.5, 0);
+        ResilientExecutor executor = executor(1, breaker, limiter);
+        assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            throw status(503);
+        }));
+
+        assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            throw status(429);
+        }));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, limiter.getLimit());
+        assertEquals("ok", executor.execute(() -> "ok"));
+    }
+
+    @Test
+    void testCircuitBreaker_TrialEndingInAnUnexpectedErrorLetsTheNextCallTry() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        ResilientExecutor executor = executor(1, breaker, new AimdLimiter(4, 1, 8, 0.5, 0));
+        assertThrows(HttpResponseException.class, () -> executor.execute(() -> {
+            throw status(503);
+        }));
+
+        assertThrows(IllegalStateException.class, () -> executor.execute(() -> {
+            throw new IllegalStateException("bug");
+        }));
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals("ok", executor.execute(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testRetryPolicy_HonoursRetryAfterSeconds() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 60_000);
+        HttpHeaders headers = new HttpHeaders().set("Retry-After", "7");
+
+        assertEquals(7_000, policy.delayMillis(1, headers));
+        assertTrue(policy.delayMillis(3, (HttpHeaders) null) <= 400);
+    }
+
+    @Test
+    void testRetryPolicy_ClassifiesFailures() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 1_000);
+
+        assertTrue(policy.isRetryable(status(429)));
+        assertTrue(policy.isThrottle(status(429)));
+        assertTrue(policy.isRetryable(status(502)));
+        assertFalse(policy.isThrottle(status(502)));
+        assertFalse(policy.isRetryable(status(404)));
+        assertFalse(policy.isRetryable(status(403)));
+        assertTrue(policy.isRetryable(new IOException("connection reset")));
+    }
+}
@@ -0,0 +1,153 @@
+package com.ursineenterprises.calendareventsgenerator.http;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalHttpTransportTest {
+
+    private static final String LIST_BODY = "{\"items\":[{\"id\":\"a\"},{\"id\":\"b\"}]}";
+    private static final String ETAG = "\"v1\"";
+
+    @TempDir
+    Path dir;
+
+    /** If-None-Match value of each request the backend saw, or "-" when absent. */
+    private final List<String> conditions = new ArrayList<>();
+
+    private final MockHttpTransport backend = new MockHttpTransport() {
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() {
+                    List<String> ifNoneMatch = getHeaders().get("if-none-match");
+                    String condition = ifNoneMatch == null ? "-" : ifNoneMatch.getFirst();
+                    conditions.add(condition);
+                    if (ETAG.equals(condition)) {
+                        return new MockLowLevelHttpResponse().setStatusCode(304);
+                    }
+                    return new MockLowLevelHttpResponse()
+                            .setContentType("application/json")
+                            .addHeader("ETag", ETAG)
+                            .setContent(method.equals("GET") ? LIST_BODY : "{\"id\":\"new\"}");
+                }
+            };
+        }
+    };
+
+    @Test
+    void testRepeatGet_SendsIfNoneMatchAndReusesBodyOn304() throws Exception {
+        ConditionalHttpTransport transport = new ConditionalHttpTransport(backend, new EtagCache(1 << 20, null));
+        Calendar calendar = calendar(transport);
+
+        assertEquals(2, calendar.events().list("cal").setFields("items(id)").execute().getItems().size());
+        assertEquals(2, calendar.events().list("cal").setFields("items(id)").execute().getItems().size());
+
+        assertEquals(List.of("-", ETAG), conditions);
+        assertEquals(1, transport.getCache().getHits());
+    }
+
+    @Test
+    void testWritesAndOneShotListings_AreNotCached() throws Exception {
+        ConditionalHttpTransport transport = new ConditionalHttpTransport(backend, new EtagCache(1 << 20, null));
+        Calendar calendar = calendar(transport);
+
+        calendar.events().insert("cal", new Event().setSummary("x")).execute();
+        calendar.events().list("cal").setSyncToken("token-1").execute();
+        calendar.events().list("cal").setSyncToken("token-1").execute();
+
+        assertEquals(List.of("-", "-", "-"), conditions);
+        assertEquals(0, transport.getCache().size());
+    }
+
+    @Test
+    void testCachedResponses_AreNotSharedBetweenCredentials() throws Exception {
+        ConditionalHttpTransport transport = new ConditionalHttpTransport(backend, new EtagCache(1 << 20, dir));
+
+        calendar(transport, "Bearer alice").events().list("cal").execute();
+        calendar(transport, "Bearer bob").events().list("cal").execute();
+        calendar(transport, "Bearer alice").events().list("cal").execute();
+
+        assertEquals(List.of("-", "-", ETAG), conditions);
+        assertEquals(1, transport.getCache().getHits());
+        try (var files = Files.list(dir)) {
+            assertTrue(files.noneMatch(file -> read(file).contains("alice")));
+        }
+    }
+
+    @Test
+    void testFirstPageOfAPagedListing_IsNotCached() throws Exception {
+        MockHttpTransport paged = new MockHttpTransport.Builder()
+                .setLowLevelHttpResponse(new MockLowLevelHttpResponse()
+                        .setContentType("application/json")
+                        .addHeader("ETag", ETAG)
+                        .setContent("{\"items\":[{\"id\":\"a\"}],\"nextPageToken\":\"p2\"}"))
+                .build();
+        ConditionalHttpTransport transport = new ConditionalHttpTransport(paged, new EtagCache(1 << 20, null));
+
+        assertEquals("p2", calendar(transport).events().list("cal").execute().getNextPageToken());
+
+        assertEquals(0, transport.getCache().size());
+    }
+
+    @Test
+    void testCacheDirectory_WarmsTheNextRun() throws Exception {
+        calendar(new ConditionalHttpTransport(backend, new EtagCache(1 << 20, dir))).events().list("cal").execute();
+        ConditionalHttpTransport nextRun = new ConditionalHttpTransport(backend, new EtagCache(1 << 20, dir));
+
+        assertEquals(2, calendar(nextRun).events().list("cal").execute().getItems().size());
+
+        assertEquals(List.of("-", ETAG), conditions);
+        assertEquals(1, nextRun.getCache().getHits());
+    }
+
+    @Test
+    void testEtagCache_EvictsLeastRecentlyUsedBeyondMaxBytes() {
+        EtagCache cache = new EtagCache(10, null);
+        cache.put("a", new EtagCache.Entry("1", null, null, new byte[4]));
+        cache.put("b", new EtagCache.Entry("2", null, null, new byte[4]));
+        cache.get("a");
+        cache.put("c", new EtagCache.Entry("3", null, null, new byte[4]));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    private static Calendar calendar(ConditionalHttpTransport transport) {
+        return calendar(transport, null);
+    }
+
+    private static Calendar calendar(ConditionalHttpTransport transport, String authorization) {
+        return new Calendar.Builder(transport, GsonFactory.getDefaultInstance(),
+                        authorization == null ? null : request -> request.getHeaders().setAuthorization(authorization))
+                .setApplicationName("test")
+                .build();
+    }
+
+    private static String read(Path file) {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFileWatcherTest {
+
+    @Test
+    void testAwaitChange_ReportsEditsOnceTheyAreQuiet(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events.json");
+        Files.writeString(file, "[]");
+
+        try (EventFileWatcher watcher = EventFileWatcher.open(file.toString(), 50)) {
+            assertFalse(watcher.isPolling());
+
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                try {
+                    Thread.sleep(100);
+                    Files.writeString(file, "[{}");
+                    Files.writeString(file, "[{}]");
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            assertTrue(watcher.awaitChange(10_000, 200));
+            writer.join();
+            assertFalse(watcher.awaitChange(300, 50), "no further change after the debounced one");
+        }
+    }
+
+    @Test
+    void testAwaitChange_IgnoresRewritesWithIdenticalContent(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events.json");
+        Files.writeString(file, "[]");
+
+        try (EventFileWatcher watcher = EventFileWatcher.open(file.toString(), 50)) {
+            Files.writeString(file, "[]");
+            assertFalse(watcher.awaitChange(1_000, 100));
+        }
+    }
+}
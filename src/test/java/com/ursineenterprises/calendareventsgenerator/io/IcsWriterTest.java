@@ -0,0 +1,90 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsWriterTest {
+
+    // Wednesday 2026-01-14, 12:00 UTC
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-14T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void testWrite_WeeklyEventStartsOnNextMatchingDayInZone() throws Exception {
+        String ics = export(ZoneId.of("Europe/London"),
+                new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(9, 30), "https://zoom.us/j/1", "Standup"));
+        List<String> lines = Arrays.asList(ics.split("\r\n"));
+
+        assertEquals("BEGIN:VCALENDAR", lines.getFirst());
+        assertEquals("END:VCALENDAR", lines.getLast());
+        assertTrue(lines.contains("DTSTART;TZID=Europe/London:20260116T093000"));
+        assertTrue(lines.contains("DTEND;TZID=Europe/London:20260116T103000"));
+        assertTrue(lines.contains("RRULE:FREQ=WEEKLY"));
+        assertTrue(lines.contains("DTSTAMP:20260114T120000Z"));
+        assertTrue(lines.contains("SUMMARY:Standup"));
+        assertTrue(lines.contains("URL:https://zoom.us/j/1"));
+        assertTrue(ics.endsWith("\r\n"));
+    }
+
+    @Test
+    void testWrite_TimezoneHasDaylightAndStandardRules() throws Exception {
+        String ics = export(ZoneId.of("America/New_York"));
+
+        assertTrue(ics.contains("BEGIN:VTIMEZONE\r\nTZID:America/New_York\r\n"));
+        assertTrue(ics.contains("BEGIN:DAYLIGHT\r\nDTSTART:19700308T020000\r\nTZOFFSETFROM:-0500\r\nTZOFFSETTO:-0400\r\n"
+                + "RRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=SU;BYMONTHDAY=8,9,10,11,12,13,14\r\nEND:DAYLIGHT\r\n"));
+        assertTrue(ics.contains("BEGIN:STANDARD\r\nDTSTART:19701101T020000\r\nTZOFFSETFROM:-0400\r\nTZOFFSETTO:-0500\r\n"
+                + "RRULE:FREQ=YEARLY;BYMONTH=11;BYDAY=SU;BYMONTHDAY=1,2,3,4,5,6,7\r\nEND:STANDARD\r\n"));
+    }
+
+    @Test
+    void testWrite_FixedZoneHasSingleStandardObservance() throws Exception {
+        String ics = export(ZoneId.of("Asia/Tokyo"));
+
+        assertTrue(ics.contains("BEGIN:STANDARD\r\nDTSTART:19700101T000000\r\nTZOFFSETFROM:+0900\r\nTZOFFSETTO:+0900\r\nEND:STANDARD\r\n"));
+        assertFalse(ics.contains("DAYLIGHT"));
+    }
+
+    @Test
+    void testWrite_EscapesTextAndFoldsLongLinesByOctets() throws Exception {
+        String description = "Planning; review, and \\ retro — ".repeat(6);
+        String ics = export(ZoneId.of("UTC"), new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(8, 0), "https://zoom.us/j/2", description));
+
+        for (String line : ics.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= IcsWriter.MAX_LINE_OCTETS, line);
+        }
+        String unfolded = ics.replace("\r\n ", "");
+        assertTrue(unfolded.contains("SUMMARY:" + "Planning\\; review\\, and \\\\ retro — ".repeat(6) + "\r\n"));
+        assertTrue(unfolded.contains("DESCRIPTION:Zoom link: https://zoom.us/j/2\\n\\nPlanning\\;"));
+    }
+
+    @Test
+    void testOffsetText_IncludesSecondsOnlyWhenPresent() {
+        assertEquals("+0530", IcsWriter.offsetText(ZoneOffset.ofHoursMinutes(5, 30)));
+        assertEquals("-0330", IcsWriter.offsetText(ZoneOffset.ofHoursMinutes(-3, -30)));
+        assertEquals("+001915", IcsWriter.offsetText(ZoneOffset.ofTotalSeconds(1155)));
+    }
+
+    private static String export(ZoneId zone, ZoomEvent... events) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (IcsWriter writer = new IcsWriter(Channels.newChannel(bytes), zone, CLOCK)) {
+            for (ZoomEvent ev : events) {
+                writer.write(ev);
+            }
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonEventSourceTest {
+
+    @Test
+    void testNextRecord_StreamsRecordsInOrder() throws Exception {
+        try (JsonEventSource source = sourceOf("""
+                [
+                  {"dayOfWeek": "monday", "time": "09:00", "zoomUrl": "https://zoom.us/j/1", "description": "Standup"},
+                  {"dayOfWeek": "FRIDAY", "time": "16:30", "zoomUrl": "https://zoom.us/j/2", "description": "Retro"}
+                ]
+                """)) {
+            assertEquals(new EventRecord("monday", "09:00", "https://zoom.us/j/1", "Standup"), source.nextRecord());
+            assertEquals(new EventRecord("FRIDAY", "16:30", "https://zoom.us/j/2", "Retro"), source.nextRecord());
+            assertNull(source.nextRecord());
+        }
+    }
+
+    @Test
+    void testReadAll_ConvertsToZoomEvents() throws Exception {
+        try (JsonEventSource source = sourceOf("""
+                [{"dayOfWeek": "wednesday", "time": "12:15", "zoomUrl": "https://zoom.us/j/3", "description": "Lunch"}]
+                """)) {
+            List<ZoomEvent> events = source.readAll();
+
+            assertEquals(1, events.size());
+            assertEquals(DayOfWeek.WEDNESDAY, events.getFirst().getDayOfWeek());
+            assertEquals(LocalTime.of(12, 15), events.getFirst().getTime());
+        }
+    }
+
+    @Test
+    void testReadAll_ReportsWhichRecordIsInvalid() throws Exception {
+        try (JsonEventSource source = sourceOf("""
+                [
+                  {"dayOfWeek": "MONDAY", "time": "09:00", "zoomUrl": "u", "description": "ok"},
+                  {"dayOfWeek": "FUNDAY", "time": "09:00", "zoomUrl": "u", "description": "bad"}
+                ]
+                """)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, source::readAll);
+            assertEquals("Event #2: Invalid dayOfWeek 'FUNDAY'", e.getMessage());
+        }
+    }
+
+    @Test
+    void testNextRecord_RejectsNonArrayInput() throws Exception {
+        try (JsonEventSource source = sourceOf("{\"dayOfWeek\": \"MONDAY\"}")) {
+            assertThrows(IOException.class, source::nextRecord);
+        }
+    }
+
+    private static JsonEventSource sourceOf(String json) throws IOException {
+        return new JsonEventSource(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
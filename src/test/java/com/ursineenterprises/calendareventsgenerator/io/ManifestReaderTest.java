@@ -0,0 +1,42 @@
+package com.ursineenterprises.calendareventsgenerator.io;
+
+import com.ursineenterprises.calendareventsgenerator.model.CalendarJob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManifestReaderTest {
+
+    @Test
+    void testRead_ResolvesEventsFilesAgainstManifestDirectory(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("team-a.json"), "[]");
+        Path manifest = dir.resolve("manifest.json");
+        Files.writeString(manifest, """
+                [
+                  {"calendarId": "team-a", "eventsFile": "team-a.json", "timezone": "Europe/London"},
+                  {"calendarId": "team-b", "eventsFile": "events.json"}
+                ]
+                """);
+
+        List<CalendarJob> jobs = ManifestReader.read(manifest);
+
+        assertEquals(dir.resolve("team-a.json").toString(), jobs.get(0).eventsFile());
+        assertEquals("Europe/London", jobs.get(0).timezone());
+        assertEquals("events.json", jobs.get(1).eventsFile());
+        assertNull(jobs.get(1).timezone());
+    }
+
+    @Test
+    void testRead_RejectsEntriesWithoutCalendarId(@TempDir Path dir) throws Exception {
+        Path manifest = dir.resolve("manifest.json");
+        Files.writeString(manifest, "[{\"eventsFile\": \"events.json\"}]");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ManifestReader.read(manifest));
+        assertTrue(e.getMessage().startsWith("Manifest entry #1"));
+    }
+}
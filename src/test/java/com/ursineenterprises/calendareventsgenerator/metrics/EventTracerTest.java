@@ -0,0 +1,77 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventTracerTest {
+
+    private final ZoomEvent standup = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Stand \"up\"");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testClose_WritesEverySpanAsOneJsonLine() throws Exception {
+        Path file = dir.resolve("trace/run.jsonl");
+        EventTracer tracer = new EventTracer(file, 4);
+        long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+
+        tracer.stage(EventTracer.Span.CHECK, "cal", standup, 7, start, "missing");
+        tracer.call(EventTracer.Span.RETRY, "cal", standup, start, 429, 1, "Rate Limit Exceeded");
+        tracer.call(EventTracer.Span.INSERT, "cal", standup, start, 200, 2, "created");
+        tracer.close();
+        tracer.call(EventTracer.Span.INSERT, "cal", standup, start, 200, 3, "ignored");
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode check = mapper.readTree(lines.get(0));
+        JsonNode insert = mapper.readTree(lines.get(2));
+
+        assertEquals("check", check.get("span").asText());
+        assertEquals(EventFingerprint.eventId(standup), check.get("event").asText());
+        assertEquals("Stand \"up\"", check.get("summary").asText());
+        assertEquals(7, check.get("row").asInt());
+        assertFalse(check.has("status"));
+        assertTrue(check.get("ms").asDouble() >= 5);
+        assertTrue(Instant.parse(check.get("ts").asText()).isBefore(Instant.now()));
+
+        assertEquals("retry", mapper.readTree(lines.get(1)).get("span").asText());
+        assertEquals(200, insert.get("status").asInt());
+        assertEquals(2, insert.get("attempt").asInt());
+        assertEquals("created", insert.get("outcome").asText());
+        assertFalse(insert.has("row"));
+        assertEquals(0, tracer.getDropped());
+    }
+
+    @Test
+    void testRecord_DropsRatherThanBlocksWhenTheBufferIsFull() throws Exception {
+        Path file = dir.resolve("wrap.jsonl");
+        EventTracer tracer = new EventTracer(file, 2);
+
+        for (int i = 0; i < 500; i++) {
+            tracer.stage(EventTracer.Span.PARSE, "cal", standup, i + 1, System.nanoTime(), null);
+        }
+        tracer.close();
+
+        // Every span is either written or counted as dropped, however the writer thread was scheduled
+        List<String> lines = Files.readAllLines(file);
+        assertFalse(lines.isEmpty());
+        assertEquals(500, lines.size() + tracer.getDropped());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{\"ts\":") && line.endsWith("}")));
+    }
+}
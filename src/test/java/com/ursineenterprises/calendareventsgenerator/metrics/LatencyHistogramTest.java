@@ -0,0 +1,40 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentiles_AreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxMicros());
+        assertEquals(500_000, histogram.percentileMicros(0.50), 500_000 * 0.04);
+        assertEquals(990_000, histogram.percentileMicros(0.99), 990_000 * 0.04);
+        assertEquals(1_000_000, histogram.percentileMicros(1.0));
+    }
+
+    @Test
+    void testBuckets_AreContiguousAndCoverTheirValues() {
+        for (long micros : new long[]{0, 1, 63, 64, 65, 127, 128, 1_000, 123_456_789L}) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(LatencyHistogram.upperBound(index) >= micros, "upper bound of " + micros);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBound(index - 1) < micros, "previous bucket of " + micros);
+            }
+        }
+    }
+
+    @Test
+    void testEmptyHistogram_ReportsZero() {
+        assertEquals(0, new LatencyHistogram().percentileMicros(0.99));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ursineenterprises.calendareventsgenerator.metrics;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredHttpTransportTest {
+
+    private static final String LIST_BODY = "{\"items\":[{\"id\":\"a\"},{\"id\":\"b\"}]}";
+
+    private final ApiMetrics metrics = new ApiMetrics();
+
+    private final MockHttpTransport backend = new MockHttpTransport() {
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws java.io.IOException {
+                    getContentAsString(); // a real transport writes the body while executing
+                    return method.equals("GET")
+                            ? new MockLowLevelHttpResponse().setContentType("application/json").setContent(LIST_BODY)
+                            : new MockLowLevelHttpResponse().setStatusCode(429).setContentType("application/json")
+                            .setContent("{\"error\":{\"code\":429,\"message\":\"Too many\"}}");
+                }
+            };
+        }
+    };
+
+    private final Calendar calendar = new Calendar.Builder(
+            new MeteredHttpTransport(backend, metrics), GsonFactory.getDefaultInstance(), null)
+            .setApplicationName("test")
+            .build();
+
+    @Test
+    void testRecordsLatencyStatusAndBytesPerOperation() throws Exception {
+        assertEquals(2, calendar.events().list("cal").execute().getItems().size());
+        assertThrows(Exception.class, () -> calendar.events().insert("cal", new Event().setSummary("x")).execute());
+
+        Map<String, ApiMetrics.OperationStats> ops = metrics.getOperations();
+        ApiMetrics.OperationStats list = ops.get("events.list");
+        assertEquals(1, list.getLatency().getCount());
+        assertEquals(Map.of(200, 1L), list.getStatusCounts());
+        assertEquals(LIST_BODY.length(), list.getBytesReceived());
+
+        ApiMetrics.OperationStats insert = ops.get("events.insert");
+        assertEquals(Map.of(429, 1L), insert.getStatusCounts());
+        assertTrue(insert.getBytesSent() > 0);
+    }
+
+    @Test
+    void testPrometheusOutputIncludesQuantilesAndCounters() throws Exception {
+        calendar.events().list("cal").execute();
+        metrics.recordRetry();
+        metrics.recordRun(new RunStats("Insert", 8, 1, 1, 2_000));
+
+        String text = MetricsWriter.prometheus(metrics);
+
+        assertTrue(text.contains("ceg_api_request_duration_seconds{operation=\"events.list\",quantile=\"0.99\"}"));
+        assertTrue(text.contains("ceg_api_requests_total{operation=\"events.list\",status=\"200\"} 1"));
+        assertTrue(text.contains("ceg_api_retries_total 1"));
+        assertTrue(text.contains("ceg_run_events_total{operation=\"Insert\",outcome=\"failed\"} 1"));
+        assertEquals(5.0, new RunStats("Insert", 8, 1, 1, 2_000).eventsPerSecond());
+    }
+
+    @Test
+    void testOperationNames() {
+        String base = "https://www.googleapis.com/calendar/v3/calendars/cal/events";
+        assertEquals("events.list", MeteredHttpTransport.operationOf("GET", base));
+        assertEquals("events.insert", MeteredHttpTransport.operationOf("POST", base));
+        assertEquals("events.delete", MeteredHttpTransport.operationOf("DELETE", base + "/abc"));
+        assertEquals("batch", MeteredHttpTransport.operationOf("POST", "https://www.googleapis.com/batch/calendar/v3"));
+    }
+}
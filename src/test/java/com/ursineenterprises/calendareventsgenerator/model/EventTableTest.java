@@ -0,0 +1,68 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventTableTest {
+
+    private final List<ZoomEvent> events = List.of(
+            new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup"),
+            new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup"),
+            new ZoomEvent(DayOfWeek.SUNDAY, LocalTime.of(23, 59, 30, 250_000_000), "https://zoom.us/j/2", "Retro", null, 90));
+
+    @Test
+    void testOf_RoundTripsEveryColumnAndDeduplicatesStrings() {
+        EventTable table = EventTable.of(events);
+
+        assertEquals(3, table.size());
+        assertEquals(4, table.distinctStrings());
+        for (int i = 0; i < events.size(); i++) {
+            ZoomEvent copy = table.get(i);
+            assertEquals(events.get(i).getDayOfWeek(), copy.getDayOfWeek());
+            assertEquals(events.get(i).getTime(), copy.getTime());
+            assertEquals(events.get(i).getZoomUrl(), copy.getZoomUrl());
+            assertEquals(events.get(i).getDescription(), copy.getDescription());
+            assertEquals(events.get(i).duration(), copy.duration());
+        }
+    }
+
+    @Test
+    void testForEach_ReusesOneReadOnlyRow() {
+        EventTable table = EventTable.of(events);
+        List<EventTable.Row> seen = new ArrayList<>();
+        List<String> identities = new ArrayList<>();
+
+        table.forEach(row -> {
+            seen.add(row);
+            identities.add(EventFingerprint.identity(row));
+        });
+
+        assertEquals(events.stream().map(EventFingerprint::identity).toList(), identities);
+        assertSame(seen.getFirst(), seen.getLast());
+        assertEquals(2, seen.getFirst().index());
+        assertThrows(UnsupportedOperationException.class, () -> seen.getFirst().setZoomUrl("https://zoom.us/j/3"));
+        assertEquals("Standup", table.row().moveTo(0).copy().getDescription());
+        assertEquals(table.get(2).toString(), table.row().moveTo(2).toString());
+    }
+
+    @Test
+    void testBuilder_GrowsPastInitialCapacity() {
+        EventTable.Builder builder = EventTable.builder();
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(new ZoomEvent(DayOfWeek.of(1 + i % 7), LocalTime.ofSecondOfDay(i * 60L), "https://zoom.us/j/" + i % 10, "Meeting"));
+        }
+
+        EventTable table = builder.build();
+
+        assertEquals(1_000, table.size());
+        assertEquals(11, table.distinctStrings());
+        assertEquals(LocalTime.of(16, 39), table.time(999));
+        assertEquals(DayOfWeek.SATURDAY, table.dayOfWeek(999));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ursineenterprises.calendareventsgenerator.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    void testParse_NormalizesAndRejectsWhatCannotBeExpanded() {
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE",
+                RecurrenceRule.parse("rrule:freq=weekly;byday=we,mo;interval=2").toString());
+        assertEquals(RecurrenceRule.WEEKLY, RecurrenceRule.parse("RRULE:FREQ=WEEKLY"));
+
+        for (String bad : List.of("FREQ=MONTHLY", "FREQ=WEEKLY;BYDAY=1MO", "FREQ=DAILY;COUNT=0",
+                "FREQ=DAILY;COUNT=2;UNTIL=20261231", "INTERVAL=2", "FREQ=WEEKLY;UNTIL=tomorrow")) {
+            assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse(bad), bad);
+        }
+    }
+
+    @Test
+    void testOccurrences_KeepWallClockTimeAcrossDst() {
+        // 2026-10-19 is a Monday; New York leaves DST on 2026-11-01
+        ZonedDateTime start = ZonedDateTime.of(2026, 10, 19, 9, 0, 0, 0, NEW_YORK);
+
+        List<ZonedDateTime> occurrences = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE")
+                .occurrences(start, start.toInstant(), start.plusMonths(1).toInstant());
+
+        assertEquals(List.of(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 21), LocalDate.of(2026, 11, 2),
+                        LocalDate.of(2026, 11, 4), LocalDate.of(2026, 11, 16), LocalDate.of(2026, 11, 18)),
+                occurrences.stream().map(ZonedDateTime::toLocalDate).toList());
+        assertTrue(occurrences.stream().allMatch(o -> o.toLocalTime().equals(LocalTime.of(9, 0))));
+        assertEquals(ZoneOffset.ofHours(-4), occurrences.getFirst().getOffset());
+        assertEquals(ZoneOffset.ofHours(-5), occurrences.get(2).getOffset());
+    }
+
+    @Test
+    void testOccurrences_HonourCountUntilAndByDay() {
+        ZonedDateTime friday = ZonedDateTime.of(2026, 10, 16, 9, 0, 0, 0, NEW_YORK);
+        ZonedDateTime monday = ZonedDateTime.of(2026, 10, 19, 9, 0, 0, 0, NEW_YORK);
+
+        List<ZonedDateTime> weekdays = RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO,TU,WE,TH,FR;COUNT=4")
+                .occurrences(friday, friday.toInstant(), friday.plusYears(1).toInstant());
+        // 14:00Z is 09:00 in New York once DST has ended, so the last occurrence is included
+        List<ZonedDateTime> until = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20261102T140000Z")
+                .occurrences(monday, monday.toInstant(), monday.plusYears(1).toInstant());
+        List<ZonedDateTime> laterWindow = RecurrenceRule.parse("FREQ=DAILY;COUNT=3")
+                .occurrences(monday, monday.plusDays(2).toInstant(), monday.plusYears(1).toInstant());
+
+        assertEquals(List.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY),
+                weekdays.stream().map(ZonedDateTime::getDayOfWeek).toList());
+        assertEquals(3, until.size());
+        assertEquals(List.of(monday.plusDays(2)), laterWindow);
+    }
+
+    @Test
+    void testOccurrences_MoveStartsInASpringForwardGapLater() {
+        // 02:30 does not exist in New York on 2026-03-08
+        ZonedDateTime start = ZonedDateTime.of(2026, 3, 1, 2, 30, 0, 0, NEW_YORK);
+
+        List<ZonedDateTime> occurrences = RecurrenceRule.WEEKLY
+                .occurrences(start, start.plusDays(1).toInstant(), start.plusDays(15).toInstant());
+
+        assertEquals(List.of(LocalTime.of(3, 30), LocalTime.of(2, 30)),
+                occurrences.stream().map(ZonedDateTime::toLocalTime).toList());
+    }
+
+    @Test
+    void testEventRecord_ValidatesAndCanonicalizesRecurrence() {
+        ZoomEvent weekly = new EventRecord("monday", "09:00", "url", "Standup", "RRULE:FREQ=WEEKLY").toZoomEvent();
+        ZoomEvent biweekly = new EventRecord("monday", "09:00", "url", "Standup", "freq=weekly;interval=2").toZoomEvent();
+
+        assertNull(weekly.getRecurrence());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", biweekly.getRecurrence());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new EventRecord("monday", "09:00", "url", "Standup", "FREQ=WEEKLY;BYDAY=TU").toZoomEvent());
+        assertTrue(e.getMessage().contains("BYDAY must include MONDAY"));
+    }
+}
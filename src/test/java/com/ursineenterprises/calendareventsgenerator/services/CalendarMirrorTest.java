@@ -0,0 +1,83 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CalendarMirrorTest {
+
+    @TempDir
+    Path dir;
+
+    private final Calendar calendar = mock(Calendar.class);
+    private final Calendar.Events events = mock(Calendar.Events.class);
+    private final Calendar.Events.List list = mock(Calendar.Events.List.class, RETURNS_SELF);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(calendar.events()).thenReturn(events);
+        when(events.list("cal")).thenReturn(list);
+    }
+
+    @Test
+    void testSync_AppliesDeltasFromSavedToken() throws Exception {
+        Path file = dir.resolve("cal.json");
+        when(list.execute()).thenReturn(
+                new Events().setItems(List.of(event("a"), event("b"))).setNextSyncToken("token-1"),
+                new Events().setItems(List.of(event("c"), event("a").setStatus("cancelled"))).setNextSyncToken("token-2"));
+
+        CalendarMirror.load(calendar, ResilientExecutor.direct(), "cal", file).sync();
+        List<Event> mirrored = CalendarMirror.load(calendar, ResilientExecutor.direct(), "cal", file).sync();
+
+        verify(list, times(1)).setSyncToken("token-1");
+        assertEquals(List.of("b", "c"), mirrored.stream().map(Event::getId).toList());
+    }
+
+    @Test
+    void testSync_FullResyncWhenTokenExpires() throws Exception {
+        GoogleJsonResponseException gone = new GoogleJsonResponseException(
+                new HttpResponseException.Builder(410, "Gone", new HttpHeaders()), null);
+        when(list.execute())
+                .thenReturn(new Events().setItems(List.of(event("a"))).setNextSyncToken("token-1"))
+                .thenThrow(gone)
+                .thenReturn(new Events().setItems(List.of(event("z"))).setNextSyncToken("token-2"));
+
+        CalendarMirror mirror = new CalendarMirror(calendar, ResilientExecutor.direct(), "cal", null);
+        mirror.sync();
+        List<Event> mirrored = mirror.sync();
+
+        verify(list, times(3)).execute();
+        assertEquals(List.of("z"), mirrored.stream().map(Event::getId).toList());
+    }
+
+    @Test
+    void testForget_DropsASeriesTogetherWithItsInstances() throws Exception {
+        when(list.execute()).thenReturn(
+                new Events().setItems(List.of(event("s"), event("s_20261019T090000Z").setRecurringEventId("s"),
+                        event("other"))).setNextSyncToken("token-1"),
+                new Events().setNextSyncToken("token-2"));
+
+        CalendarMirror mirror = new CalendarMirror(calendar, ResilientExecutor.direct(), "cal", null);
+        mirror.sync();
+        mirror.forget("s");
+
+        assertEquals(List.of("other"), mirror.sync().stream().map(Event::getId).toList());
+    }
+
+    private static Event event(String id) {
+        return new Event().setId(id).setSummary("Event " + id).setStatus("confirmed");
+    }
+}
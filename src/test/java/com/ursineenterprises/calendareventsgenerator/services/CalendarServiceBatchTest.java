@@ -0,0 +1,133 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+import com.ursineenterprises.calendareventsgenerator.concurrent.AimdLimiter;
+import com.ursineenterprises.calendareventsgenerator.concurrent.CircuitBreaker;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RetryPolicy;
+import com.ursineenterprises.calendareventsgenerator.model.InsertResult;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarServiceBatchTest {
+
+    private static final String BOUNDARY = "batch_test_boundary";
+
+    private final AtomicInteger batchCalls = new AtomicInteger();
+
+    /** When set, only the first batch rejects its every-third inserts, with a 429 instead of a 403. */
+    private volatile boolean throttleFirstBatchOnly;
+
+    /**
+     * Local HTTP stand-in: answers every batch with one sub-response per queued insert. Every third
+     * insert is rejected so failures can be mapped back to their {@link ZoomEvent}.
+     */
+    private final MockHttpTransport transport = new MockHttpTransport() {
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws java.io.IOException {
+                    int call = batchCalls.incrementAndGet();
+                    String body = getContentAsString();
+                    int parts = body.split("(?i)content-id: ").length - 1;
+                    String response = throttleFirstBatchOnly
+                            ? batchResponse(parts, call == 1 ? 429 : 0)
+                            : batchResponse(parts, 403);
+                    return new MockLowLevelHttpResponse()
+                            .setStatusCode(200)
+                            .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                            .setContent(response);
+                }
+            };
+        }
+    };
+
+    private final Calendar calendar = new Calendar.Builder(transport, GsonFactory.getDefaultInstance(), null)
+            .setApplicationName("test")
+            .build();
+
+    private final CalendarService calendarService = new CalendarService(
+            calendar, "UTC", ConcurrentRunner.fromConfig(), ResilientExecutor.direct());
+
+    @Test
+    void testInsertWeeklyEvents_GroupsIntoBatchesAndMapsResults() throws Exception {
+        List<ZoomEvent> events = IntStream.range(0, 120)
+                .mapToObj(i -> new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/" + i, "Meeting " + i))
+                .toList();
+
+        List<InsertResult> results = calendarService.insertWeeklyEvents("test-calendar", events);
+
+        assertEquals(3, batchCalls.get());
+        assertEquals(120, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            InsertResult result = results.get(i);
+            assertSame(events.get(i), result.source());
+            int positionInBatch = i % CalendarService.MAX_BATCH_SIZE;
+            if (positionInBatch % 3 == 2) {
+                assertFalse(result.succeeded());
+                assertEquals(403, result.errorCode());
+                assertEquals("Rate Limit Exceeded", result.errorMessage());
+            } else {
+                assertTrue(result.succeeded(), result.errorCode() + " " + result.errorMessage());
+                assertEquals("created-" + positionInBatch, result.created().getId());
+            }
+        }
+    }
+
+    @Test
+    void testInsertWeeklyEvents_RetriesThrottledSubRequests() throws Exception {
+        throttleFirstBatchOnly = true;
+        CalendarService retrying = new CalendarService(calendar, "UTC", ConcurrentRunner.fromConfig(),
+                new ResilientExecutor(new RetryPolicy(3, 1, 5), new CircuitBreaker(5, 1_000),
+                        new AimdLimiter(4, 1, 8, 0.5, 0)));
+        List<ZoomEvent> events = IntStream.range(0, 10)
+                .mapToObj(i -> new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(10, 0), "https://zoom.us/j/" + i, "Meeting " + i))
+                .toList();
+
+        List<InsertResult> results = retrying.insertWeeklyEvents("test-calendar", events);
+
+        assertEquals(2, batchCalls.get());
+        assertTrue(results.stream().allMatch(InsertResult::succeeded));
+        assertEquals(1, retrying.getResilience().getRetries());
+        assertEquals(2, retrying.getResilience().getLimiter().getLimit());
+    }
+
+    /**
+     * @param failCode status for every third part, or 0 for a fully successful batch
+     */
+    private static String batchResponse(int parts, int failCode) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts; i++) {
+            boolean fail = failCode != 0 && i % 3 == 2;
+            String json = fail
+                    ? "{\"error\":{\"code\":" + failCode + ",\"message\":\"Rate Limit Exceeded\",\"errors\":[{\"reason\":\"rateLimitExceeded\"}]}}"
+                    : "{\"id\":\"created-" + i + "\"}";
+            sb.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(i + 1).append(">\r\n\r\n")
+                    .append(fail ? "HTTP/1.1 " + failCode + " Error" : "HTTP/1.1 200 OK").append("\r\n")
+                    .append("Content-Type: application/json; charset=UTF-8\r\n")
+                    .append("Content-Length: ").append(json.length()).append("\r\n\r\n")
+                    .append(json).append("\r\n");
+        }
+        sb.append("--").append(BOUNDARY).append("--\r\n");
+        return sb.toString();
+    }
+}
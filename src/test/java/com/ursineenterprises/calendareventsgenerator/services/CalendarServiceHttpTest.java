@@ -0,0 +1,288 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.ursineenterprises.calendareventsgenerator.concurrent.AimdLimiter;
+import com.ursineenterprises.calendareventsgenerator.concurrent.CircuitBreaker;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RetryPolicy;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.http.ConditionalHttpTransport;
+import com.ursineenterprises.calendareventsgenerator.http.EtagCache;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.model.EventFingerprint;
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+import com.ursineenterprises.calendareventsgenerator.model.InsertResult;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import com.ursineenterprises.calendareventsgenerator.store.RunJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives {@link CalendarService} over real HTTP against {@link FakeCalendarServer}.
+ */
+class CalendarServiceHttpTest {
+
+    private static final String CALENDAR = "team@group.calendar.google.com";
+
+    private FakeCalendarServer server;
+    private CalendarService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeCalendarServer.start();
+        service = new CalendarService(server.client(), "UTC",
+                new ConcurrentRunner(4, TokenBucketRateLimiter.unlimited()),
+                new ResilientExecutor(new RetryPolicy(8, 1, 10), new CircuitBreaker(50, 1_000),
+                        new AimdLimiter(4, 1, 4, 0.5, 0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testInsertWeeklyEvents_BatchesOverHttp() throws Exception {
+        server.latency(20);
+
+        List<InsertResult> results = service.insertWeeklyEvents(CALENDAR, events(120));
+
+        assertTrue(results.stream().allMatch(InsertResult::succeeded));
+        assertEquals(3, server.calls("batch"));
+        assertEquals(120, server.calls("events.insert"));
+        assertEquals(120, server.events(CALENDAR).size());
+        assertEquals(List.of("RRULE:FREQ=WEEKLY"), server.events(CALENDAR).getFirst().getRecurrence());
+    }
+
+    @Test
+    void testInsertWeeklyEvents_RetriesInjectedThrottling() throws Exception {
+        server.throttleRate(0.3);
+
+        List<InsertResult> results = service.insertWeeklyEvents(CALENDAR, events(100));
+
+        assertTrue(results.stream().allMatch(InsertResult::succeeded));
+        assertTrue(server.throttled() > 0);
+        assertEquals(100 + server.throttled(), server.calls("events.insert"));
+        assertTrue(service.getResilience().getRetries() > 0);
+        assertEquals(100, server.events(CALENDAR).size());
+    }
+
+    @Test
+    void testSingleCalls_RetryThrottlingAndServerErrors() throws Exception {
+        server.throttleNext(2).errorRate(0.2);
+        ZoomEvent standup = events(1).getFirst();
+
+        Event created = service.insertWeeklyEvent(CALENDAR, standup);
+        Event patched = service.patchWeeklyEvent(CALENDAR, created.getId(),
+                new ZoomEvent(standup.getDayOfWeek(), standup.getTime(), "https://zoom.us/j/new", standup.getDescription()));
+
+        assertEquals(2, server.throttled());
+        assertEquals("Zoom link: https://zoom.us/j/new\n\n" + standup.getDescription(), patched.getDescription());
+        assertEquals(created.getStart().getDateTime(), patched.getStart().getDateTime());
+        assertTrue(service.eventExists(CALENDAR, standup));
+    }
+
+    @Test
+    void testPatchWeeklyEvent_MovesTheEndWhenTheDurationChanges() throws Exception {
+        ZoomEvent standup = events(1).getFirst();
+        Event created = service.insertWeeklyEvent(CALENDAR, standup);
+
+        Event patched = service.patchWeeklyEvent(CALENDAR, created.getId(), new ZoomEvent(standup.getDayOfWeek(),
+                standup.getTime(), standup.getZoomUrl(), standup.getDescription(), null, 25));
+
+        assertEquals(created.getStart().getDateTime(), patched.getStart().getDateTime());
+        assertEquals(created.getStart().getDateTime().getValue() + 25 * 60_000,
+                patched.getEnd().getDateTime().getValue());
+    }
+
+    @Test
+    void testClearAllEvents_PagesThroughAndDeletesEverything() throws Exception {
+        server.maxPageSize(25);
+        service.insertWeeklyEvents(CALENDAR, events(60));
+
+        service.clearAllEvents(CALENDAR);
+
+        assertEquals(60, server.calls("events.delete"));
+        assertTrue(server.events(CALENDAR).isEmpty());
+    }
+
+    @Test
+    void testClearAllEvents_ListsItsShardsAndTailsInParallel() throws Exception {
+        service.insertWeeklyEvents(CALENDAR, events(5));
+        // Far outside the sharded window on either side, so only the open-ended tail shards can find them
+        server.put(CALENDAR, single("Long ago", "1990-01-01T09:00:00Z"));
+        server.put(CALENDAR, single("Far ahead", "2200-01-01T09:00:00Z"));
+        server.latency(100);
+
+        service.clearAllEvents(CALENDAR);
+
+        // Four window shards plus two tails (the default), listed several at a time
+        assertTrue(server.calls("events.list") >= 6);
+        assertTrue(server.peakConcurrentReads() > 1);
+        assertEquals(7, server.calls("events.delete"));
+        assertTrue(server.events(CALENDAR).isEmpty());
+    }
+
+    @Test
+    void testMirrorSync_UsesDeltasAndRecoversFromExpiredToken() throws Exception {
+        service.insertWeeklyEvents(CALENDAR, events(5));
+        CalendarMirror mirror = service.mirrorFor(CALENDAR);
+        assertEquals(5, mirror.sync().size());
+
+        Event removed = server.events(CALENDAR).getFirst();
+        service.deleteEvent(CALENDAR, removed.getId());
+        service.insertWeeklyEvent(CALENDAR, new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(17, 0), "https://zoom.us/j/x", "Demo"));
+        List<Event> afterDelta = mirror.sync();
+
+        assertEquals(5, afterDelta.size());
+        assertTrue(afterDelta.stream().noneMatch(e -> e.getId().equals(removed.getId())));
+
+        server.expireSyncTokens();
+        assertEquals(5, mirror.sync().size());
+        assertEquals(4, server.calls("events.list"));
+    }
+
+    @Test
+    void testSnapshotReload_IsServedFromEtagCacheWhenUnchanged() throws Exception {
+        ConditionalHttpTransport transport = new ConditionalHttpTransport(new NetHttpTransport(), new EtagCache(1 << 20, null));
+        CalendarService cached = new CalendarService(server.client(transport), "UTC",
+                new ConcurrentRunner(4, TokenBucketRateLimiter.unlimited()), ResilientExecutor.direct());
+        ZoomEvent standup = events(1).getFirst();
+        cached.insertWeeklyEvent(CALENDAR, standup);
+
+        assertTrue(cached.eventExists(CALENDAR, standup));
+        cached.invalidateSnapshot(CALENDAR);
+        assertTrue(cached.eventExists(CALENDAR, standup));
+
+        assertEquals(2, server.calls("events.list"));
+        assertEquals(1, server.notModified());
+        assertEquals(1, transport.getCache().getHits());
+    }
+
+    @Test
+    void testSnapshot_ExpandsSeriesFromTheirMasters() throws Exception {
+        List<ZoomEvent> batch = events(7);
+        ZoomEvent biweekly = new ZoomEvent(batch.getFirst().getDayOfWeek(), LocalTime.of(19, 0), "https://zoom.us/j/b",
+                "Biweekly", "FREQ=WEEKLY;INTERVAL=2");
+        service.insertWeeklyEvents(CALENDAR, batch);
+        Event created = service.insertWeeklyEvent(CALENDAR, biweekly);
+
+        for (ZoomEvent ev : batch) {
+            assertTrue(service.eventExists(CALENDAR, ev));
+        }
+        assertTrue(service.eventExists(CALENDAR, biweekly));
+        assertFalse(service.eventExists(CALENDAR, new ZoomEvent(biweekly.getDayOfWeek(), LocalTime.of(20, 0), "u", "Biweekly")));
+        assertEquals(1, server.calls("events.list"));
+        assertEquals(List.of("RRULE:FREQ=WEEKLY;INTERVAL=2"), created.getRecurrence());
+    }
+
+    @Test
+    void testInsertWithClientIds_IsIdempotentAndRestoresDeletedSeries() throws Exception {
+        List<ZoomEvent> batch = events(10);
+        service.insertWeeklyEvents(CALENDAR, batch);
+        String deletedId = EventFingerprint.eventId(batch.getFirst());
+        service.deleteEvent(CALENDAR, deletedId);
+
+        List<InsertResult> again = service.insertWeeklyEvents(CALENDAR, batch);
+        Event single = service.insertWeeklyEvent(CALENDAR, batch.get(1));
+
+        assertTrue(again.stream().allMatch(InsertResult::succeeded));
+        assertEquals(deletedId, again.getFirst().created().getId());
+        assertEquals(EventFingerprint.eventId(batch.get(1)), single.getId());
+        assertEquals(10, server.events(CALENDAR).size());
+        assertTrue(deletedId.matches("[0-9a-v]{32}"));
+    }
+
+    @Test
+    void testInsertWithClientIds_LeavesAnotherEventUnderTheIdAlone() throws Exception {
+        List<ZoomEvent> batch = events(2);
+        for (ZoomEvent ev : batch) {
+            server.put(CALENDAR, single("Someone else's meeting", "2030-01-01T12:00:00Z")
+                    .setId(EventFingerprint.eventId(ev)));
+        }
+
+        List<InsertResult> results = service.insertWeeklyEvents(CALENDAR, batch.subList(0, 1));
+        Event single = service.insertWeeklyEvent(CALENDAR, batch.get(1));
+
+        assertTrue(results.getFirst().succeeded());
+        assertEquals("Meeting 0", results.getFirst().created().getSummary());
+        assertNotEquals(EventFingerprint.eventId(batch.getFirst()), results.getFirst().created().getId());
+        assertEquals("Meeting 1", single.getSummary());
+        assertNotEquals(EventFingerprint.eventId(batch.get(1)), single.getId());
+        assertEquals(4, server.events(CALENDAR).size());
+        assertEquals(2, server.events(CALENDAR).stream().filter(e -> e.getSummary().startsWith("Someone")).count());
+    }
+
+    @Test
+    void testPipelineResume_SkipsJournaledEventsAndResendsIncompleteOnes(@TempDir Path dir) throws Exception {
+        List<ZoomEvent> batch = events(6);
+        service.insertWeeklyEvents(CALENDAR, batch.subList(0, 3));
+        // The crashed run journaled three inserts; only the first outcome was recorded before it died
+        try (RunJournal crashed = RunJournal.open(dir.resolve("run.wal"), false)) {
+            for (ZoomEvent ev : batch.subList(0, 3)) {
+                crashed.begin("insert", EventFingerprint.eventId(ev));
+            }
+            crashed.done(EventFingerprint.eventId(batch.getFirst()));
+        }
+
+        RunSummary summary = new RunSummary("Insert");
+        new EventPipeline(service, CALENDAR, 16, null, RunJournal.open(dir.resolve("run.wal"), true))
+                .run(source(batch), summary);
+
+        assertFalse(summary.hasFailures());
+        assertEquals(6, server.events(CALENDAR).size());
+        assertEquals(1, server.calls("events.list"));
+        assertEquals(2, server.calls("events.get"));
+        assertFalse(Files.exists(dir.resolve("run.wal")));
+    }
+
+    private static EventSource source(List<ZoomEvent> events) {
+        Iterator<ZoomEvent> it = events.iterator();
+        return new EventSource() {
+            @Override
+            public EventRecord nextRecord() {
+                if (!it.hasNext()) return null;
+                ZoomEvent ev = it.next();
+                return new EventRecord(ev.getDayOfWeek().name(), ev.getTime().toString(), ev.getZoomUrl(), ev.getDescription());
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static Event single(String summary, String start) {
+        DateTime at = new DateTime(start);
+        return new Event()
+                .setSummary(summary)
+                .setStart(new EventDateTime().setDateTime(at))
+                .setEnd(new EventDateTime().setDateTime(new DateTime(at.getValue() + 3_600_000)));
+    }
+
+    private static List<ZoomEvent> events(int count) {
+        DayOfWeek today = LocalDate.now(ZoneOffset.UTC).getDayOfWeek();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ZoomEvent(today.plus(i % 7), LocalTime.of(8 + i % 10, 0), "https://zoom.us/j/" + i, "Meeting " + i))
+                .toList();
+    }
+}
@@ -1,5 +1,9 @@
 package com.ursineenterprises.calendareventsgenerator.services;
 
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.Events;
@@ -13,6 +17,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -21,6 +27,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CalendarServiceTest {
 
+    /** Listings clearing makes by default: four shards of the window around now and the two tails. */
+    private static final int CLEAR_SHARDS = 6;
+
     @Mock
     private Calendar mockCalendar;
 
@@ -31,9 +40,10 @@ class CalendarServiceTest {
     private Calendar.Events.List mockEventsList;
 
     @Mock
-    private Calendar.Events.Delete mockEventsDelete;
+    private BatchRequest mockBatch;
 
     private CalendarService calendarService;
+
     private final String testCalendarId = "test-calendar@gmail.com";
 
     private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
@@ -57,6 +67,10 @@ class CalendarServiceTest {
         when(mockEvents.list(testCalendarId)).thenReturn(mockEventsList);
         when(mockEventsList.setMaxResults(anyInt())).thenReturn(mockEventsList);
         when(mockEventsList.setSingleEvents(Boolean.FALSE)).thenReturn(mockEventsList);
+        when(mockEventsList.setPageToken(any())).thenReturn(mockEventsList);
+        when(mockEventsList.setFields(any())).thenReturn(mockEventsList);
+        when(mockEventsList.setTimeMin(any())).thenReturn(mockEventsList);
+        when(mockEventsList.setTimeMax(any())).thenReturn(mockEventsList);
     }
 
     @Test
@@ -67,8 +81,8 @@ class CalendarServiceTest {
 
         calendarService.clearAllEvents(testCalendarId);
 
-        verify(mockEvents, times(1)).list(testCalendarId);
-        verify(mockEventsList, times(1)).execute();
+        verify(mockEvents, times(CLEAR_SHARDS)).list(testCalendarId);
+        verify(mockEventsList, times(CLEAR_SHARDS)).execute();
         verify(mockEvents, never()).delete(any(), any());
 
         String output = outContent.toString();
@@ -84,8 +98,8 @@ class CalendarServiceTest {
 
         calendarService.clearAllEvents(testCalendarId);
 
-        verify(mockEvents, times(1)).list(testCalendarId);
-        verify(mockEventsList, times(1)).execute();
+        verify(mockEvents, times(CLEAR_SHARDS)).list(testCalendarId);
+        verify(mockEventsList, times(CLEAR_SHARDS)).execute();
         verify(mockEvents, never()).delete(any(), any());
 
         String output = outContent.toString();
@@ -101,18 +115,18 @@ class CalendarServiceTest {
         eventsResponse.setItems(Arrays.asList(event1, event2));
         when(mockEventsList.execute()).thenReturn(eventsResponse);
 
-        when(mockEvents.delete(testCalendarId, "event-1")).thenReturn(mockEventsDelete);
-        when(mockEvents.delete(testCalendarId, "event-2")).thenReturn(mockEventsDelete);
-        when(mockEventsDelete.execute()).thenReturn(null);
+        when(mockCalendar.batch()).thenReturn(mockBatch);
+        stubDelete("event-1", 0);
+        stubDelete("event-2", 0);
 
         // Act
         calendarService.clearAllEvents(testCalendarId);
 
         // Assert
-        verify(mockEvents, times(1)).list(testCalendarId);
+        verify(mockEvents, times(CLEAR_SHARDS)).list(testCalendarId);
         verify(mockEvents, times(1)).delete(testCalendarId, "event-1");
         verify(mockEvents, times(1)).delete(testCalendarId, "event-2");
-        verify(mockEventsDelete, times(2)).execute();
+        verify(mockBatch, times(1)).execute();
 
         String output = outContent.toString();
         assertTrue(output.contains("[INFO] Found 2 event(s) to delete."));
@@ -134,24 +148,69 @@ class CalendarServiceTest {
         eventsResponse.setItems(Arrays.asList(recurringEvent1, recurringEvent2, standaloneEvent));
         when(mockEventsList.execute()).thenReturn(eventsResponse);
 
-        when(mockEvents.delete(testCalendarId, "series-123")).thenReturn(mockEventsDelete);
-        when(mockEvents.delete(testCalendarId, "event-3")).thenReturn(mockEventsDelete);
-        when(mockEventsDelete.execute()).thenReturn(null);
+        when(mockCalendar.batch()).thenReturn(mockBatch);
+        stubDelete("series-123", 0);
+        stubDelete("event-3", 0);
 
         calendarService.clearAllEvents(testCalendarId);
 
-        verify(mockEvents, times(1)).list(testCalendarId);
+        verify(mockEvents, times(CLEAR_SHARDS)).list(testCalendarId);
         verify(mockEvents, times(1)).delete(testCalendarId, "series-123");
         verify(mockEvents, times(1)).delete(testCalendarId, "event-3");
         verify(mockEvents, never()).delete(testCalendarId, "event-1");
         verify(mockEvents, never()).delete(testCalendarId, "event-2");
-        verify(mockEventsDelete, times(2)).execute();
 
         String output = outContent.toString();
         assertTrue(output.contains("[INFO] Found 3 event(s) to delete."));
         assertTrue(output.contains("[INFO] ✅ Deletion complete: 2 deleted, 0 failed."));
     }
 
+    @Test
+    void testClearAllEvents_FollowsPagesAndDeduplicatesAcrossThem() throws Exception {
+        Events firstPage = new Events()
+                .setItems(List.of(createMockEvent("event-1", "Recurring Meeting", "series-123")))
+                .setNextPageToken("page-2");
+        Events secondPage = new Events()
+                .setItems(List.of(
+                        createMockEvent("event-2", "Recurring Meeting", "series-123"),
+                        createMockEvent("event-3", "Standalone Meeting", null)));
+        when(mockEventsList.execute()).thenReturn(firstPage, secondPage);
+
+        when(mockCalendar.batch()).thenReturn(mockBatch);
+        stubDelete("series-123", 0);
+        stubDelete("event-3", 0);
+
+        calendarService.clearAllEvents(testCalendarId);
+
+        // Only the shard that got the first page follows its token
+        verify(mockEventsList, times(1)).setPageToken("page-2");
+        verify(mockEventsList, times(CLEAR_SHARDS + 1)).execute();
+        verify(mockEvents, times(1)).delete(testCalendarId, "series-123");
+        verify(mockEvents, times(1)).delete(testCalendarId, "event-3");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("[INFO] Found 3 event(s) to delete."));
+        assertTrue(output.contains("[INFO] ✅ Deletion complete: 2 deleted, 0 failed."));
+    }
+
+    @Test
+    void testClearAllEvents_RetriesTransientFailure() throws Exception {
+        Events eventsResponse = new Events();
+        eventsResponse.setItems(List.of(createMockEvent("event-1", "Meeting 1", null)));
+        when(mockEventsList.execute()).thenReturn(eventsResponse);
+
+        when(mockCalendar.batch()).thenReturn(mockBatch);
+        stubDelete("event-1", 1);
+
+        calendarService.clearAllEvents(testCalendarId);
+
+        verify(mockEvents, times(2)).delete(testCalendarId, "event-1");
+
+        String output = outContent.toString();
+        assertTrue(output.contains("[INFO] Retrying 1 failed deletion(s) (round 1/3)"));
+        assertTrue(output.contains("[INFO] ✅ Deletion complete: 1 deleted, 0 failed."));
+    }
+
     @Test
     void testClearAllEvents_PartialFailure() throws Exception {
         Event event1 = createMockEvent("event-1", "Meeting 1", null);
@@ -161,25 +220,23 @@ class CalendarServiceTest {
         eventsResponse.setItems(Arrays.asList(event1, event2));
         when(mockEventsList.execute()).thenReturn(eventsResponse);
 
-        when(mockEvents.delete(testCalendarId, "event-1")).thenReturn(mockEventsDelete);
-        when(mockEvents.delete(testCalendarId, "event-2")).thenReturn(mockEventsDelete);
-        when(mockEventsDelete.execute())
-                .thenReturn(null) // First call succeeds
-                .thenThrow(new RuntimeException("API Error")); // Second call fails
+        when(mockCalendar.batch()).thenReturn(mockBatch);
+        stubDelete("event-1", 0);
+        stubDelete("event-2", Integer.MAX_VALUE); // Always fails
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> calendarService.clearAllEvents(testCalendarId));
 
         assertEquals("Failed to delete 1 event(s).", exception.getMessage());
 
-        verify(mockEvents, times(2)).delete(any(), any());
+        // One initial attempt plus the default three retry rounds
+        verify(mockEvents, times(1)).delete(testCalendarId, "event-1");
+        verify(mockEvents, times(4)).delete(testCalendarId, "event-2");
 
         String output = outContent.toString();
         assertTrue(output.contains("[INFO] Found 2 event(s) to delete."));
         assertTrue(output.contains("[SUCCESS] Deleted event 1/2"));
         assertTrue(output.contains("[INFO] ✅ Deletion complete: 1 deleted, 1 failed."));
-
-        String errorOutput = errContent.toString();
-        assertTrue(errorOutput.contains("[ERROR] Failed to delete event: Meeting 2 - API Error"));
+        assertTrue(output.contains("[ERROR] Failed to delete event: Meeting 2 - API Error"));
     }
 
     @Test
@@ -190,10 +247,32 @@ class CalendarServiceTest {
 
         assertEquals("Calendar API Error", exception.getMessage());
 
-        verify(mockEvents, times(1)).list(testCalendarId);
+        verify(mockEvents, times(CLEAR_SHARDS)).list(testCalendarId);
         verify(mockEvents, never()).delete(any(), any());
     }
 
+    /**
+     * Stubs the batched delete of {@code id} so that its first {@code failures} attempts report an API error.
+     */
+    private void stubDelete(String id, int failures) throws Exception {
+        Calendar.Events.Delete delete = mock(Calendar.Events.Delete.class);
+        when(mockEvents.delete(testCalendarId, id)).thenReturn(delete);
+
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            JsonBatchCallback<Void> callback = invocation.getArgument(1);
+            if (attempts.getAndIncrement() < failures) {
+                GoogleJsonError error = new GoogleJsonError();
+                error.setCode(500);
+                error.setMessage("API Error");
+                callback.onFailure(error, new HttpHeaders());
+            } else {
+                callback.onSuccess(null, new HttpHeaders());
+            }
+            return null;
+        }).when(delete).queue(any(BatchRequest.class), any());
+    }
+
     private Event createMockEvent(String id, String summary, String recurringEventId) {
         Event event = new Event();
         event.setId(id);
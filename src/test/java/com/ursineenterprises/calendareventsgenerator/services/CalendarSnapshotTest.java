@@ -0,0 +1,95 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarSnapshotTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    @Test
+    void testIndex_KeysInstancesBySlot() {
+        // 2025-03-03 is a Monday
+        CalendarSnapshot snapshot = CalendarSnapshot.index(Stream.of(
+                instance("Standup", ZonedDateTime.of(2025, 3, 3, 9, 0, 0, 0, ZONE)),
+                instance("Retro", ZonedDateTime.of(2025, 3, 7, 16, 30, 0, 0, ZONE)),
+                instance("Standup", ZonedDateTime.of(2025, 3, 10, 9, 0, 0, 0, ZONE)),
+                new Event().setSummary("All-day")), ZONE);
+
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "url", "  STANDUP ")));
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(16, 30), "url", "Retro")));
+        assertFalse(snapshot.contains(new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(10, 0), "url", "Standup")));
+        assertFalse(snapshot.contains(new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(9, 0), "url", "Standup")));
+    }
+
+    @Test
+    void testExpand_ComputesSeriesInstancesLocally() throws Exception {
+        // 2026-10-26 is a Monday, the day after the UK leaves DST
+        ZonedDateTime monday = ZonedDateTime.of(2026, 10, 26, 0, 0, 0, 0, ZONE);
+        Instant from = monday.toInstant();
+        Instant to = monday.plusDays(8).toInstant();
+        Event moved = series("m", "Planning", ZonedDateTime.of(2026, 1, 6, 10, 0, 0, 0, ZONE), "RRULE:FREQ=WEEKLY");
+        Event monthly = series("x", "Town hall", ZonedDateTime.of(2026, 1, 30, 12, 0, 0, 0, ZONE), "RRULE:FREQ=MONTHLY;BYDAY=-1FR");
+        List<Event> events = List.of(
+                series("s", "Standup", ZonedDateTime.of(2026, 1, 5, 9, 0, 0, 0, ZONE), "RRULE:FREQ=WEEKLY;BYDAY=MO,WE",
+                        "EXDATE;TZID=Europe/London:20261028T090000"),
+                series("b", "Biweekly", ZonedDateTime.of(2026, 10, 23, 16, 30, 0, 0, ZONE), "RRULE:FREQ=WEEKLY;INTERVAL=2"),
+                series("e", "Ended", ZonedDateTime.of(2026, 1, 1, 8, 0, 0, 0, ZONE), "RRULE:FREQ=DAILY;COUNT=3"),
+                series("n", "New York sync", ZonedDateTime.of(2026, 1, 8, 9, 0, 0, 0, ZoneId.of("America/New_York")), "RRULE:FREQ=WEEKLY"),
+                moved,
+                instance("Planning", ZonedDateTime.of(2026, 10, 27, 11, 0, 0, 0, ZONE)).setRecurringEventId("m")
+                        .setOriginalStartTime(dateTime(ZonedDateTime.of(2026, 10, 27, 10, 0, 0, 0, ZONE))),
+                monthly);
+        List<Event> fallback = new ArrayList<>();
+
+        CalendarSnapshot snapshot = CalendarSnapshot.expand(events, ZONE, from, to, master -> {
+            fallback.add(master);
+            return List.of(instance("Town hall", ZonedDateTime.of(2026, 10, 30, 12, 0, 0, 0, ZONE)));
+        });
+
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "url", "Standup")));
+        assertFalse(snapshot.contains(new ZoomEvent(DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), "url", "Standup")));
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(16, 30), "url", "Biweekly")));
+        assertFalse(snapshot.contains(new ZoomEvent(DayOfWeek.THURSDAY, LocalTime.of(8, 0), "url", "Ended")));
+        // New York is still on summer time that week, five hours behind London
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.THURSDAY, LocalTime.of(13, 0), "url", "New York sync")));
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(11, 0), "url", "Planning")));
+        assertFalse(snapshot.contains(new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(10, 0), "url", "Planning")));
+        assertTrue(snapshot.contains(new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(12, 0), "url", "Town hall")));
+        assertEquals(List.of(monthly), fallback);
+        assertEquals(5, snapshot.size());
+    }
+
+    private static Event series(String id, String summary, ZonedDateTime start, String... recurrence) {
+        return new Event()
+                .setId(id)
+                .setSummary(summary)
+                .setRecurrence(List.of(recurrence))
+                .setStart(dateTime(start).setTimeZone(start.getZone().getId()));
+    }
+
+    private static EventDateTime dateTime(ZonedDateTime start) {
+        return new EventDateTime().setDateTime(new DateTime(start.toInstant().toEpochMilli()));
+    }
+
+    private static Event instance(String summary, ZonedDateTime start) {
+        return new Event()
+                .setSummary(summary)
+                .setStart(new EventDateTime().setDateTime(new DateTime(start.toInstant().toEpochMilli())));
+    }
+}
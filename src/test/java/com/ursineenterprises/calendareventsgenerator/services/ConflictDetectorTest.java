@@ -0,0 +1,92 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.ursineenterprises.calendareventsgenerator.model.EventTable;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictDetectorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+    // A Monday
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 26);
+
+    private final EventTable desired = EventTable.of(List.of(
+            new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "url", "Standup", null, 30),
+            new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 15), "url", "Design review"),
+            new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(11, 0), "url", "Planning", null, 30),
+            new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(12, 0), "url", "Lunch"),
+            new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(16, 30), "url", "Retro"),
+            new ZoomEvent(DayOfWeek.SUNDAY, LocalTime.of(23, 30), "url", "Late call"),
+            new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(0, 15), "url", "Early sync", null, 10)));
+
+    @Test
+    void testFind_ReportsOverlapsWithinTheFileAndWithTheCalendar() throws Exception {
+        List<ConflictDetector.Conflict> conflicts = new ConflictDetector(ZONE)
+                .find(desired, calendar(), Set.of(), TODAY, 8);
+
+        assertEquals(List.of("Standup", "Planning", "Retro", "Late call"),
+                conflicts.stream().map(c -> c.event().getDescription()).toList());
+
+        ConflictDetector.Conflict withinFile = conflicts.getFirst();
+        assertEquals("Design review (MONDAY 09:15)", withinFile.other());
+        assertFalse(withinFile.withCalendar());
+        assertEquals(ZonedDateTime.of(2026, 10, 26, 9, 15, 0, 0, ZONE), withinFile.start());
+        assertEquals(ZonedDateTime.of(2026, 10, 26, 9, 30, 0, 0, ZONE), withinFile.end());
+
+        ConflictDetector.Conflict withCalendar = conflicts.get(1);
+        assertEquals("Board meeting", withCalendar.other());
+        assertTrue(withCalendar.withCalendar());
+        assertEquals(LocalTime.of(11, 30), withCalendar.end().toLocalTime());
+
+        // Sunday's late call runs past midnight into the next Monday's first occurrence
+        ConflictDetector.Conflict pastMidnight = conflicts.getLast();
+        assertEquals("Early sync (MONDAY 00:15)", pastMidnight.other());
+        assertEquals(ZonedDateTime.of(2026, 11, 2, 0, 15, 0, 0, ZONE), pastMidnight.start());
+    }
+
+    @Test
+    void testFind_IgnoresSeriesAboutToBeReplaced() throws Exception {
+        List<ConflictDetector.Conflict> conflicts = new ConflictDetector(ZONE)
+                .find(desired, calendar(), Set.of("r"), TODAY, 8);
+
+        assertEquals(List.of("Standup", "Planning", "Late call"),
+                conflicts.stream().map(c -> c.event().getDescription()).toList());
+    }
+
+    private static CalendarSnapshot calendar() throws Exception {
+        ZonedDateTime today = TODAY.atStartOfDay(ZONE);
+        return CalendarSnapshot.expand(List.of(
+                        // The file's own standup, already created: the same meeting, not a conflict
+                        series("s", "Standup", ZonedDateTime.of(2026, 1, 5, 9, 0, 0, 0, ZONE), 30),
+                        series("b", "Board meeting", ZonedDateTime.of(2026, 1, 6, 10, 0, 0, 0, ZONE), 120),
+                        series("r", "Old retro", ZonedDateTime.of(2026, 1, 9, 16, 0, 0, 0, ZONE), 60)),
+                ZONE, today.minusMinutes(5).toInstant(), today.plusDays(8).plusMinutes(5).toInstant(),
+                master -> List.of());
+    }
+
+    private static Event series(String id, String summary, ZonedDateTime start, int minutes) {
+        return new Event()
+                .setId(id)
+                .setSummary(summary)
+                .setRecurrence(List.of("RRULE:FREQ=WEEKLY"))
+                .setStart(dateTime(start).setTimeZone(start.getZone().getId()))
+                .setEnd(dateTime(start.plusMinutes(minutes)));
+    }
+
+    private static EventDateTime dateTime(ZonedDateTime at) {
+        return new EventDateTime().setDateTime(new DateTime(at.toInstant().toEpochMilli()));
+    }
+}
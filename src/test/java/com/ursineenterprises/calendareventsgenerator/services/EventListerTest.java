@@ -0,0 +1,105 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventListerTest {
+
+    private static final String CALENDAR = "team@group.calendar.google.com";
+    private static final String FIELDS = "nextPageToken,items(id,summary,start/dateTime)";
+    private static final Instant FROM = ZonedDateTime.now(ZoneOffset.UTC).toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+    private static final Instant TO = FROM.plus(java.time.Duration.ofDays(8));
+
+    private FakeCalendarServer server;
+    private ConcurrentRunner runner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeCalendarServer.start();
+        runner = new ConcurrentRunner(4, TokenBucketRateLimiter.unlimited());
+        // 14 weekly series, two per weekday: 16 instances in the 8-day window
+        CalendarService seeding = new CalendarService(server.client(), "UTC", runner, ResilientExecutor.direct());
+        seeding.insertWeeklyEvents(CALENDAR, IntStream.range(0, 14)
+                .mapToObj(i -> new ZoomEvent(DayOfWeek.of(i % 7 + 1), LocalTime.of(9 + i / 7, 0), "https://zoom.us/j/" + i, "Meeting " + i))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testList_ShardsMergeToTheSameEventsAsOneSerialWalk() throws Exception {
+        List<Event> serial = lister(2500).list(CALENDAR, FROM, TO, true, FIELDS, 1).toList();
+        int serialCalls = server.calls("events.list");
+        List<Event> sharded = lister(2500).list(CALENDAR, FROM, TO, true, FIELDS, 8).toList();
+
+        assertEquals(16, serial.size());
+        assertEquals(ids(serial), ids(sharded));
+        assertEquals(sharded.size(), ids(sharded).size());
+        assertEquals(1, serialCalls);
+        assertEquals(1 + 8, server.calls("events.list"));
+    }
+
+    @Test
+    void testList_SplitsHotShardsInsteadOfWalkingTheirPages() throws Exception {
+        List<Event> split = lister(4).list(CALENDAR, FROM, TO, true, FIELDS, 1).toList();
+
+        assertEquals(16, split.size());
+        assertEquals(16, ids(split).size());
+        // 16 instances at 4 per page would take 4 serial pages; splitting fans them out over more, smaller shards
+        assertTrue(server.calls("events.list") > 4);
+    }
+
+    @Test
+    void testList_OpenRangeFindsEventsAnyDistanceAwayWithoutSharding() throws Exception {
+        server.client().events().insert(CALENDAR, new Event()
+                .setSummary("Far future")
+                .setStart(new EventDateTime().setDateTime(new DateTime("2200-01-01T09:00:00Z")))
+                .setEnd(new EventDateTime().setDateTime(new DateTime("2200-01-01T10:00:00Z")))).execute();
+
+        List<Event> all = lister(4).list(CALENDAR, null, null, false, FIELDS, 8).toList();
+
+        assertEquals(15, all.size());
+        assertTrue(all.stream().anyMatch(e -> "Far future".equals(e.getSummary())));
+        // One shard walking its 4 pages: an open range has no width to split
+        assertEquals(4, server.calls("events.list"));
+    }
+
+    @Test
+    void testList_FailsWhenAShardFails() {
+        server.errorRate(1.0);
+
+        assertThrows(IOException.class, () -> lister(2500).list(CALENDAR, FROM, TO, true, FIELDS, 4));
+    }
+
+    private EventLister lister(int pageSize) {
+        return new EventLister(server.client(), runner, ResilientExecutor.direct(), pageSize);
+    }
+
+    private static Set<String> ids(List<Event> events) {
+        return events.stream().map(Event::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.ursineenterprises.calendareventsgenerator.concurrent.ConcurrentRunner;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.RunSummary;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.io.EventSource;
+import com.ursineenterprises.calendareventsgenerator.model.EventRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventPipelineTest {
+
+    private static final String CALENDAR = "team@group.calendar.google.com";
+
+    private FakeCalendarServer server;
+    private CalendarService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeCalendarServer.start();
+        service = new CalendarService(server.client(), "UTC",
+                new ConcurrentRunner(2, TokenBucketRateLimiter.unlimited()), ResilientExecutor.direct());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testRun_StreamsEveryEventThroughSmallQueues() throws Exception {
+        RunSummary summary = new RunSummary("Insert");
+
+        new EventPipeline(service, CALENDAR, 1, null).run(source(records(40)), summary);
+
+        assertEquals(40, summary.getSucceeded());
+        assertFalse(summary.hasFailures());
+        assertEquals(40, server.events(CALENDAR).size());
+    }
+
+    @Test
+    void testRun_RecordsAnInvalidRecordAndCarriesOn() throws Exception {
+        List<EventRecord> records = new ArrayList<>(records(3));
+        records.add(1, new EventRecord("FUNDAY", "09:00", "https://zoom.us/j/x", "Broken"));
+        RunSummary summary = new RunSummary("Insert");
+
+        new EventPipeline(service, CALENDAR, 4, null).run(source(records), summary);
+
+        assertEquals(3, summary.getSucceeded());
+        assertEquals(1, summary.getFailed());
+        assertTrue(summary.getFailures().getFirst().startsWith("Event #2"));
+        assertEquals(3, server.events(CALENDAR).size());
+    }
+
+    @Test
+    void testRun_RethrowsAStageFailureAndStopsTheOtherStages() {
+        IOException failure = new IOException("disk gone");
+        Iterator<EventRecord> it = records(2).iterator();
+        EventSource failing = source(() -> {
+            if (it.hasNext()) return it.next();
+            throw failure;
+        });
+        RunSummary summary = new RunSummary("Insert");
+
+        // The downstream stages are blocked waiting for records that never come; run only returns once they are interrupted
+        IOException thrown = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(IOException.class,
+                () -> new EventPipeline(service, CALENDAR, 4, null).run(failing, summary)));
+
+        assertSame(failure, thrown);
+    }
+
+    private interface RecordReader {
+        EventRecord next() throws IOException;
+    }
+
+    private static EventSource source(List<EventRecord> records) {
+        Iterator<EventRecord> it = records.iterator();
+        return source(() -> it.hasNext() ? it.next() : null);
+    }
+
+    private static EventSource source(RecordReader reader) {
+        return new EventSource() {
+            @Override
+            public EventRecord nextRecord() throws IOException {
+                return reader.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static List<EventRecord> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new EventRecord("MONDAY", String.format("%02d:%02d", 6 + i / 4, i % 4 * 15),
+                        "https://zoom.us/j/" + i, "Meeting " + i))
+                .toList();
+    }
+}
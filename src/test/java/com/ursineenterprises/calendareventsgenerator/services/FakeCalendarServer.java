@@ -0,0 +1,628 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.google.api.services.calendar.model.Events;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-process stand-in for the Calendar API v3, backed by in-memory storage, so throughput and retry behaviour can
+ * be tested over real HTTP without a Google account.
+ * <p>
+ * Implements {@code events.list} (paging, {@code syncToken} deltas with tombstones, {@code singleEvents} expansion of
+ * weekly series), {@code get}, {@code insert}, {@code patch} (including the {@code X-HTTP-Method-Override} form the
+ * Java client sends), {@code delete} and the {@code /batch/calendar/v3} multipart endpoint. Every request can be
+ * slowed down with a fixed latency, {@code GET}s carry an {@code ETag} and honour {@code If-None-Match}, and every call (each batch part included) can be failed with quota 429s or
+ * 503s, either at a seeded random rate or for the next N calls. Point a client at it with {@link #client()} or
+ * {@code GOOGLE_API_ROOT_URL=}{@link #rootUrl()}.
+ */
+public final class FakeCalendarServer implements AutoCloseable {
+    private static final JsonFactory JSON = GsonFactory.getDefaultInstance();
+    private static final String EVENTS_PREFIX = "/calendar/v3/calendars/";
+    private static final String BATCH_PATH = "/batch/calendar/v3";
+    private static final String RESPONSE_BOUNDARY = "batch_fake_calendar";
+    private static final DateTimeFormatter INSTANCE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final HttpServer server;
+    private final Map<String, Store> calendars = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger throttleNext = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger readsInFlight = new AtomicInteger();
+    private final AtomicInteger peakReadsInFlight = new AtomicInteger();
+    private final Random random;
+
+    private volatile long latencyMillis;
+    private volatile double throttleRate;
+    private volatile double errorRate;
+    private volatile int maxPageSize = 2500;
+
+    private FakeCalendarServer(HttpServer server, long seed) {
+        this.server = server;
+        this.random = new Random(seed);
+    }
+
+    public static FakeCalendarServer start() throws IOException {
+        return start(42);
+    }
+
+    static FakeCalendarServer start(long seed) throws IOException {
+        HttpServer http = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        FakeCalendarServer fake = new FakeCalendarServer(http, seed);
+        http.createContext("/", fake::handle);
+        // Platform threads: clients on virtual threads pin their carriers in blocking HttpURLConnection reads, which
+        // must not starve the server that is about to answer them
+        http.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "fake-calendar");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        http.start();
+        return fake;
+    }
+
+    String rootUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * A Calendar client on a plain (unmetered, unauthenticated) transport, built the way the app builds its own.
+     */
+    public Calendar client() {
+        return client(new NetHttpTransport());
+    }
+
+    Calendar client(HttpTransport transport) {
+        return GoogleClients.calendar(transport, null, rootUrl());
+    }
+
+    // --- fault injection ---
+
+    /** Delay added to every HTTP request (a batch is delayed once, not per part). */
+    FakeCalendarServer latency(long millis) {
+        this.latencyMillis = millis;
+        return this;
+    }
+
+    /** Fraction of calls answered with 429 rateLimitExceeded. */
+    FakeCalendarServer throttleRate(double rate) {
+        this.throttleRate = rate;
+        return this;
+    }
+
+    /** Fraction of calls answered with 503 backendError. */
+    FakeCalendarServer errorRate(double rate) {
+        this.errorRate = rate;
+        return this;
+    }
+
+    /** Answers the next {@code count} calls with 429, regardless of the configured rates. */
+    FakeCalendarServer throttleNext(int count) {
+        throttleNext.set(count);
+        return this;
+    }
+
+    /** Caps {@code maxResults} so listings page sooner than Google's 2500. */
+    FakeCalendarServer maxPageSize(int size) {
+        this.maxPageSize = size;
+        return this;
+    }
+
+    /** Invalidates every sync token issued so far; the next incremental list gets a 410. */
+    void expireSyncTokens() {
+        for (Store store : calendars.values()) {
+            synchronized (store) {
+                store.tokenEpoch++;
+            }
+        }
+    }
+
+    // --- inspection and seeding ---
+
+    /** Live (not cancelled) events in {@code calendarId}, in insertion order. */
+    public List<Event> events(String calendarId) {
+        Store store = store(calendarId);
+        synchronized (store) {
+            return store.events.values().stream()
+                    .filter(s -> !"cancelled".equals(s.event.getStatus()))
+                    .map(s -> s.event.clone())
+                    .toList();
+        }
+    }
+
+    public Event put(String calendarId, Event event) {
+        Store store = store(calendarId);
+        synchronized (store) {
+            return store.insert(event.clone()).clone();
+        }
+    }
+
+    /** Calls served for {@code operation} ({@code events.list}, {@code events.insert}, ..., {@code batch}). */
+    public int calls(String operation) {
+        AtomicInteger count = calls.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    int throttled() {
+        return throttled.get();
+    }
+
+    int failed() {
+        return failed.get();
+    }
+
+    /** The most plain (non-batch) GETs that were being served at the same time. */
+    int peakConcurrentReads() {
+        return peakReadsInFlight.get();
+    }
+
+    /** GETs answered with 304 because their {@code If-None-Match} matched the current ETag. */
+    int notModified() {
+        return notModified.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // --- HTTP plumbing ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        boolean read = exchange.getRequestMethod().equals("GET");
+        if (read) {
+            peakReadsInFlight.accumulateAndGet(readsInFlight.incrementAndGet(), Math::max);
+        }
+        try (exchange) {
+            byte[] body = readBody(exchange);
+            pause(latencyMillis);
+
+            String method = exchange.getRequestMethod();
+            String override = exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override");
+            if (override != null) {
+                method = override;
+            }
+
+            Response response;
+            if (exchange.getRequestURI().getRawPath().equals(BATCH_PATH)) {
+                count("batch");
+                response = batch(exchange.getRequestHeaders().getFirst("Content-Type"), body);
+            } else {
+                response = dispatch(method, exchange.getRequestURI(), body);
+            }
+
+            byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+            if (response.contentType != null) {
+                exchange.getResponseHeaders().set("Content-Type", response.contentType);
+            }
+            if (method.equals("GET") && response.status == 200) {
+                String etag = "\"" + Integer.toHexString(response.body.hashCode()) + "\"";
+                exchange.getResponseHeaders().set("ETag", etag);
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+            }
+            if (response.status == 204) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(response.status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            if (read) {
+                readsInFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        boolean gzip = "gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        try (InputStream in = gzip ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Unpacks a {@code multipart/mixed} batch, serves each {@code application/http} part and packs the responses in
+     * the same order.
+     */
+    private Response batch(String contentType, byte[] body) {
+        String boundary = contentType == null ? null : parameter(contentType, "boundary");
+        if (boundary == null) {
+            return error(400, "badRequest", "Missing multipart boundary");
+        }
+        String payload = new String(body, StandardCharsets.UTF_8);
+        StringBuilder out = new StringBuilder();
+        for (String part : payload.split("--" + Pattern.quote(boundary))) {
+            if (part.isBlank() || part.startsWith("--")) {
+                continue;
+            }
+            int split = part.indexOf("\r\n\r\n");
+            String contentId = header(part.substring(0, split), "Content-ID");
+            String inner = part.substring(split + 4);
+
+            int headersEnd = inner.indexOf("\r\n\r\n");
+            String head = headersEnd < 0 ? inner.strip() : inner.substring(0, headersEnd);
+            String innerBody = headersEnd < 0 ? "" : inner.substring(headersEnd + 4);
+            if (innerBody.endsWith("\r\n")) {
+                innerBody = innerBody.substring(0, innerBody.length() - 2);
+            }
+            String[] requestLine = head.lines().findFirst().orElse("").split(" ");
+            Response response = dispatch(requestLine[0], URI.create(requestLine[1]), innerBody.getBytes(StandardCharsets.UTF_8));
+
+            String id = contentId == null ? "" : contentId.replace("<", "").replace(">", "");
+            byte[] json = response.body.getBytes(StandardCharsets.UTF_8);
+            out.append("--").append(RESPONSE_BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(id).append(">\r\n\r\n")
+                    .append("HTTP/1.1 ").append(response.status).append(' ').append(reason(response.status)).append("\r\n");
+            if (response.contentType != null) {
+                out.append("Content-Type: ").append(response.contentType).append("\r\n");
+            }
+            out.append("Content-Length: ").append(json.length).append("\r\n\r\n")
+                    .append(response.body).append("\r\n");
+        }
+        out.append("--").append(RESPONSE_BOUNDARY).append("--\r\n");
+        return new Response(200, "multipart/mixed; boundary=" + RESPONSE_BOUNDARY, out.toString());
+    }
+
+    private Response dispatch(String method, URI uri, byte[] body) {
+        String path = uri.getRawPath();
+        if (!path.startsWith(EVENTS_PREFIX)) {
+            return error(404, "notFound", "Not Found");
+        }
+        String[] segments = path.substring(EVENTS_PREFIX.length()).split("/");
+        if (segments.length < 2 || !segments[1].equals("events")) {
+            return error(404, "notFound", "Not Found");
+        }
+        Store store = store(decode(segments[0]));
+        String eventId = segments.length > 2 ? decode(segments[2]) : null;
+        Map<String, String> query = query(uri.getRawQuery());
+
+        String operation = eventId == null
+                ? (method.equals("GET") ? "events.list" : method.equals("POST") ? "events.insert" : null)
+                : switch (method) {
+                    case "GET" -> "events.get";
+                    case "PATCH" -> "events.patch";
+                    case "DELETE" -> "events.delete";
+                    default -> null;
+                };
+        if (operation == null) {
+            return error(405, "methodNotAllowed", "Method " + method + " not supported");
+        }
+        count(operation);
+
+        Response fault = injectedFault();
+        if (fault != null) {
+            return fault;
+        }
+
+        try {
+            synchronized (store) {
+                return switch (operation) {
+                    case "events.list" -> list(store, query);
+                    case "events.get" -> store.get(eventId);
+                    case "events.insert" -> store.insertRequest(parse(body));
+                    case "events.patch" -> store.patch(eventId, parse(body));
+                    default -> store.delete(eventId);
+                };
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return error(400, "parseError", "Parse Error: " + e.getMessage());
+        }
+    }
+
+    private Response injectedFault() {
+        if (throttleNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0 || chance(throttleRate)) {
+            throttled.incrementAndGet();
+            return new Response(429, "application/json; charset=UTF-8", errorJson(429, "usageLimits", "rateLimitExceeded", "Rate Limit Exceeded"));
+        }
+        if (chance(errorRate)) {
+            failed.incrementAndGet();
+            return new Response(503, "application/json; charset=UTF-8", errorJson(503, "global", "backendError", "Backend Error"));
+        }
+        return null;
+    }
+
+    private Response list(Store store, Map<String, String> query) throws IOException {
+        int maxResults = Math.min(maxPageSize, Integer.parseInt(query.getOrDefault("maxResults", "250")));
+        boolean singleEvents = Boolean.parseBoolean(query.get("singleEvents"));
+        Long timeMin = query.containsKey("timeMin") ? DateTime.parseRfc3339(query.get("timeMin")).getValue() : null;
+        Long timeMax = query.containsKey("timeMax") ? DateTime.parseRfc3339(query.get("timeMax")).getValue() : null;
+
+        long since = -1;
+        String syncToken = query.get("syncToken");
+        if (syncToken != null) {
+            String[] parts = syncToken.split("\\.");
+            if (Integer.parseInt(parts[0]) != store.tokenEpoch) {
+                return error(410, "fullSyncRequired", "Sync token is no longer valid, a full sync is required.");
+            }
+            since = Long.parseLong(parts[1]);
+        }
+        boolean showDeleted = syncToken != null || Boolean.parseBoolean(query.get("showDeleted"));
+
+        // Page tokens pin the listing to the version it started at, so later pages see the same data
+        int offset = 0;
+        long upTo = store.version;
+        String pageToken = query.get("pageToken");
+        if (pageToken != null) {
+            String[] parts = pageToken.split(":");
+            offset = Integer.parseInt(parts[0]);
+            upTo = Long.parseLong(parts[1]);
+        }
+
+        List<Event> matching = new ArrayList<>();
+        for (Stored stored : store.events.values()) {
+            if (stored.version > upTo || stored.version <= since) continue;
+            if ("cancelled".equals(stored.event.getStatus()) && !showDeleted) continue;
+            if (singleEvents && stored.event.getRecurrence() != null) {
+                matching.addAll(instances(stored.event, timeMin, timeMax));
+            } else if (stored.event.getRecurrence() != null ? startsBefore(stored.event, timeMax) : overlaps(stored.event, timeMin, timeMax)) {
+                matching.add(stored.event.clone());
+            }
+        }
+
+        int end = Math.min(matching.size(), offset + maxResults);
+        Events page = new Events().setItems(new ArrayList<>(matching.subList(Math.min(offset, end), end)));
+        if (end < matching.size()) {
+            page.setNextPageToken(end + ":" + upTo);
+        } else {
+            page.setNextSyncToken(store.tokenEpoch + "." + upTo);
+        }
+        return ok(page);
+    }
+
+    /**
+     * Expands a weekly series into its occurrences overlapping {@code [timeMin, timeMax)}.
+     */
+    private static List<Event> instances(Event master, Long timeMin, Long timeMax) {
+        List<Event> instances = new ArrayList<>();
+        if (master.getRecurrence().stream().noneMatch(r -> r.startsWith("RRULE:FREQ=WEEKLY"))) {
+            return instances;
+        }
+        ZoneId zone = master.getStart().getTimeZone() == null ? ZoneOffset.UTC : ZoneId.of(master.getStart().getTimeZone());
+        ZonedDateTime first = Instant.ofEpochMilli(master.getStart().getDateTime().getValue()).atZone(zone);
+        long duration = master.getEnd().getDateTime().getValue() - master.getStart().getDateTime().getValue();
+        long limit = timeMax == null ? first.plusYears(1).toInstant().toEpochMilli() : timeMax;
+
+        for (ZonedDateTime start = first; start.toInstant().toEpochMilli() < limit; start = start.plusWeeks(1)) {
+            long startMillis = start.toInstant().toEpochMilli();
+            if (timeMin != null && startMillis + duration <= timeMin) continue;
+            instances.add(new Event()
+                    .setId(master.getId() + "_" + INSTANCE_SUFFIX.format(start))
+                    .setRecurringEventId(master.getId())
+                    .setStatus(master.getStatus())
+                    .setSummary(master.getSummary())
+                    .setDescription(master.getDescription())
+                    .setStart(new EventDateTime().setDateTime(new DateTime(startMillis)).setTimeZone(master.getStart().getTimeZone()))
+                    .setEnd(new EventDateTime().setDateTime(new DateTime(startMillis + duration)).setTimeZone(master.getEnd().getTimeZone())));
+        }
+        return instances;
+    }
+
+    /**
+     * A series is listed for any window it has started by, as its rule may run on indefinitely.
+     */
+    private static boolean startsBefore(Event master, Long timeMax) {
+        return timeMax == null || master.getStart() == null || master.getStart().getDateTime() == null
+                || master.getStart().getDateTime().getValue() < timeMax;
+    }
+
+    private static boolean overlaps(Event event, Long timeMin, Long timeMax) {
+        if (event.getStart() == null || event.getStart().getDateTime() == null) return true;
+        long start = event.getStart().getDateTime().getValue();
+        long end = event.getEnd() == null || event.getEnd().getDateTime() == null ? start : event.getEnd().getDateTime().getValue();
+        return (timeMax == null || start < timeMax) && (timeMin == null || end > timeMin);
+    }
+
+    // --- storage ---
+
+    private static final class Stored {
+        private Event event;
+        private long version;
+
+        private Stored(Event event, long version) {
+            this.event = event;
+            this.version = version;
+        }
+    }
+
+    /**
+     * One calendar. Every write bumps {@code version}; sync tokens are {@code <epoch>.<version>}, and deleted events
+     * stay behind as cancelled tombstones so deltas can report them.
+     */
+    private static final class Store {
+        private final Map<String, Stored> events = new LinkedHashMap<>();
+        private long version;
+        private int tokenEpoch;
+
+        private Response get(String id) throws IOException {
+            Stored stored = events.get(id);
+            if (stored == null) return error(404, "notFound", "Not Found");
+            return ok(stored.event);
+        }
+
+        private Response insertRequest(Event event) throws IOException {
+            // Like Google, the IDs of deleted events stay reserved
+            if (event.getId() != null && events.containsKey(event.getId())) {
+                return error(409, "duplicate", "The requested identifier already exists.");
+            }
+            return ok(insert(event));
+        }
+
+        private Event insert(Event event) {
+            if (event.getId() == null) {
+                event.setId(UUID.randomUUID().toString().replace("-", ""));
+            }
+            if (event.getStatus() == null) {
+                event.setStatus("confirmed");
+            }
+            DateTime now = new DateTime(System.currentTimeMillis());
+            event.setCreated(now).setUpdated(now).setEtag("\"" + (version + 1) + "\"");
+            events.remove(event.getId());
+            events.put(event.getId(), new Stored(event, ++version));
+            return event;
+        }
+
+        private Response patch(String id, Event changes) throws IOException {
+            Stored stored = events.get(id);
+            // A deleted event can only be brought back by setting its status again
+            if (stored == null || ("cancelled".equals(stored.event.getStatus()) && changes.getStatus() == null)) {
+                return error(404, "notFound", "Not Found");
+            }
+            Event patched = stored.event.clone();
+            for (Map.Entry<String, Object> change : changes.entrySet()) {
+                patched.set(change.getKey(), change.getValue());
+            }
+            patched.setUpdated(new DateTime(System.currentTimeMillis())).setEtag("\"" + (version + 1) + "\"");
+            stored.event = patched;
+            stored.version = ++version;
+            return ok(patched);
+        }
+
+        private Response delete(String id) {
+            Stored stored = events.get(id);
+            if (stored == null) {
+                return error(404, "notFound", "Not Found");
+            }
+            if ("cancelled".equals(stored.event.getStatus())) {
+                return error(410, "deleted", "Resource has been deleted");
+            }
+            stored.event = stored.event.clone().setStatus("cancelled");
+            stored.version = ++version;
+            return new Response(204, null, "");
+        }
+    }
+
+    private Store store(String calendarId) {
+        return calendars.computeIfAbsent(calendarId, id -> new Store());
+    }
+
+    // --- helpers ---
+
+    private record Response(int status, String contentType, String body) {
+    }
+
+    private static Response ok(GenericJson json) throws IOException {
+        return new Response(200, "application/json; charset=UTF-8", JSON.toString(json));
+    }
+
+    private static Response error(int status, String reason, String message) {
+        return new Response(status, "application/json; charset=UTF-8", errorJson(status, "global", reason, message));
+    }
+
+    private static String errorJson(int status, String domain, String reason, String message) {
+        return "{\"error\":{\"errors\":[{\"domain\":\"" + domain + "\",\"reason\":\"" + reason + "\",\"message\":\""
+                + message + "\"}],\"code\":" + status + ",\"message\":\"" + message + "\"}}";
+    }
+
+    private static Event parse(byte[] body) throws IOException {
+        return JSON.fromInputStream(new ByteArrayInputStream(body), StandardCharsets.UTF_8, Event.class);
+    }
+
+    private boolean chance(double rate) {
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    private void count(String operation) {
+        calls.computeIfAbsent(operation, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) return params;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+            }
+        }
+        return params;
+    }
+
+    private static String header(String headers, String name) {
+        for (String line : headers.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase(name)) {
+                return line.substring(colon + 1).trim();
+            }
+        }
+        return null;
+    }
+
+    private static String parameter(String headerValue, String name) {
+        for (String part : headerValue.split(";")) {
+            String[] kv = part.trim().split("=", 2);
+            if (kv.length == 2 && kv[0].equalsIgnoreCase(name)) {
+                return kv[1].replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static String reason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 204 -> "No Content";
+            case 404 -> "Not Found";
+            case 409 -> "Conflict";
+            case 410 -> "Gone";
+            case 429 -> "Too Many Requests";
+            case 503 -> "Service Unavailable";
+            default -> "Error";
+        };
+    }
+}
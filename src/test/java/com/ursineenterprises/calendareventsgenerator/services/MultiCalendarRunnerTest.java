@@ -0,0 +1,50 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.services.calendar.Calendar;
+import com.ursineenterprises.calendareventsgenerator.concurrent.ResilientExecutor;
+import com.ursineenterprises.calendareventsgenerator.concurrent.TokenBucketRateLimiter;
+import com.ursineenterprises.calendareventsgenerator.model.CalendarJob;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MultiCalendarRunnerTest {
+
+    private final MultiCalendarRunner runner = new MultiCalendarRunner(mock(Calendar.class), "UTC", 3, 2, 0,
+            TokenBucketRateLimiter.unlimited(), ResilientExecutor.direct());
+
+    @Test
+    void testRunAll_IsolatesFailuresAndKeepsManifestOrder() throws Exception {
+        List<CalendarJob> jobs = List.of(
+                new CalendarJob("team-a", "a.json", null),
+                new CalendarJob("team-b", "b.json", "America/New_York"),
+                new CalendarJob("team-c", "c.json", null));
+        Set<String> ran = ConcurrentHashMap.newKeySet();
+
+        var outcomes = runner.runAll(jobs, (job, service) -> {
+            ran.add(job.calendarId() + "@" + service.getTimezone());
+            if (job.calendarId().equals("team-b")) throw new IllegalStateException("quota exceeded");
+        });
+
+        assertEquals(Set.of("team-a@UTC", "team-b@America/New_York", "team-c@UTC"), ran);
+        assertEquals(List.of("team-a", "team-b", "team-c"), outcomes.stream().map(o -> o.job().calendarId()).toList());
+        assertTrue(outcomes.get(0).succeeded());
+        assertEquals("quota exceeded", outcomes.get(1).error().getMessage());
+        assertTrue(outcomes.get(2).succeeded());
+    }
+
+    @Test
+    void testServiceFor_GivesEachCalendarItsOwnRunner() {
+        CalendarService a = runner.serviceFor(new CalendarJob("a", "a.json", null));
+        CalendarService b = runner.serviceFor(new CalendarJob("b", "b.json", null));
+
+        assertNotSame(a.getRunner(), b.getRunner());
+        assertEquals(2, a.getRunner().getMaxInFlight());
+        assertSame(a.getResilience(), b.getResilience());
+    }
+}
@@ -0,0 +1,117 @@
+package com.ursineenterprises.calendareventsgenerator.services;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import com.ursineenterprises.calendareventsgenerator.model.SyncAction;
+import com.ursineenterprises.calendareventsgenerator.model.SyncPlan;
+import com.ursineenterprises.calendareventsgenerator.model.ZoomEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncPlannerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+    private final SyncPlanner planner = new SyncPlanner(ZONE);
+
+    @Test
+    void testPlan_SteadyStateProducesNoActions() {
+        ZoomEvent standup = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup");
+
+        SyncPlan plan = planner.plan("cal", List.of(standup), List.of(master("m1", standup)));
+
+        assertTrue(plan.isEmpty());
+        assertEquals(1, plan.unchanged());
+    }
+
+    @Test
+    void testPlan_CreatesPatchesAndDeletes() {
+        ZoomEvent standup = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup");
+        ZoomEvent standupNewLink = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/2", "Standup");
+        ZoomEvent retro = new ZoomEvent(DayOfWeek.FRIDAY, LocalTime.of(16, 0), "https://zoom.us/j/3", "Retro");
+        ZoomEvent renamed = new ZoomEvent(DayOfWeek.WEDNESDAY, LocalTime.of(12, 0), "https://zoom.us/j/4", "Lunch & Learn");
+        ZoomEvent oldName = new ZoomEvent(DayOfWeek.WEDNESDAY, LocalTime.of(12, 0), "https://zoom.us/j/4", "Brown Bag");
+        ZoomEvent removed = new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(10, 0), "https://zoom.us/j/5", "Old Sync");
+
+        SyncPlan plan = planner.plan("cal",
+                List.of(standupNewLink, retro, renamed),
+                List.of(master("m1", standup), master("m1-dup", standup), master("m2", oldName), master("m3", removed)));
+
+        assertEquals(List.of(SyncAction.create(retro)), plan.actionsOf(SyncAction.Type.CREATE));
+        assertEquals(List.of(SyncAction.patch("m1", standupNewLink), SyncAction.patch("m2", renamed)),
+                plan.actionsOf(SyncAction.Type.PATCH));
+        assertEquals(List.of("m1-dup", "m3"),
+                plan.actionsOf(SyncAction.Type.DELETE).stream().map(SyncAction::eventId).toList());
+    }
+
+    @Test
+    void testPlan_IgnoresUnsupportedAndCancelledSeries() {
+        ZoomEvent daily = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(8, 0), "url", "Daily");
+        Event dailyMaster = master("d1", daily).setRecurrence(List.of("RRULE:FREQ=MONTHLY;BYDAY=1MO"));
+        Event cancelled = master("c1", daily).setStatus("cancelled");
+
+        SyncPlan plan = planner.plan("cal", List.of(), List.of(dailyMaster, cancelled));
+
+        assertTrue(plan.isEmpty());
+    }
+
+    @Test
+    void testPlan_LeavesSeriesTheToolDidNotWriteAlone() {
+        ZoomEvent standup = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup");
+        ZoomEvent oneOnOne = new ZoomEvent(DayOfWeek.TUESDAY, LocalTime.of(14, 0), "url", "1:1");
+        // Someone else's weekly meetings: one in the standup's slot, one in a slot the file does not use
+        Event sameSlot = master("f1", standup).setSummary("Leadership sync").setDescription("Agenda in the doc");
+        Event elsewhere = master("f2", oneOnOne).setDescription(null);
+
+        SyncPlan plan = planner.plan("cal", List.of(standup), List.of(sameSlot, elsewhere));
+
+        assertEquals(List.of(SyncAction.create(standup)), plan.actions());
+    }
+
+    @Test
+    void testPlan_PatchesSeriesWhoseRuleChanged() {
+        ZoomEvent weekly = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup");
+        ZoomEvent biweekly = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup", "FREQ=WEEKLY;INTERVAL=2");
+
+        SyncPlan plan = planner.plan("cal", List.of(biweekly), List.of(master("m1", weekly)));
+
+        assertEquals(List.of(SyncAction.patch("m1", biweekly, true)), plan.actions());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", plan.actions().getFirst().toZoomEvent().getRecurrence());
+    }
+
+    @Test
+    void testPlan_PatchesSeriesWhoseDurationChanged() {
+        ZoomEvent hour = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup");
+        ZoomEvent halfHour = new ZoomEvent(DayOfWeek.MONDAY, LocalTime.of(9, 0), "https://zoom.us/j/1", "Standup", null, 30);
+        Event master = master("m1", hour);
+        master.setEnd(new EventDateTime().setDateTime(
+                new DateTime(master.getStart().getDateTime().getValue() + 60 * 60_000)));
+
+        assertTrue(planner.plan("cal", List.of(hour), List.of(master)).isEmpty());
+
+        SyncPlan plan = planner.plan("cal", List.of(halfHour), List.of(master));
+
+        assertEquals(List.of(SyncAction.patch("m1", halfHour, false, true)), plan.actions());
+        assertEquals(30, plan.actions().getFirst().durationMinutes());
+        assertNull(plan.actions().getFirst().recurrence());
+    }
+
+    private static Event master(String id, ZoomEvent ev) {
+        // 2025-03-03 is a Monday
+        ZonedDateTime start = ZonedDateTime.of(2025, 3, 3, ev.getTime().getHour(), ev.getTime().getMinute(), 0, 0, ZONE)
+                .with(java.time.temporal.TemporalAdjusters.nextOrSame(ev.getDayOfWeek()));
+        return new Event()
+                .setId(id)
+                .setSummary(ev.getDescription())
+                .setDescription(CalendarService.eventDescription(ev))
+                .setRecurrence(List.of("RRULE:FREQ=WEEKLY"))
+                .setStart(new EventDateTime().setDateTime(new DateTime(start.toInstant().toEpochMilli())));
+    }
+}
@@ -0,0 +1,77 @@
+package com.ursineenterprises.calendareventsgenerator.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FingerprintStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testOpen_NewStoreNeedsRebuild() throws Exception {
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            assertTrue(store.needsRebuild());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void testPut_SurvivesReopen() throws Exception {
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            store.rebuild(Map.of("a", new FingerprintStore.Entry("fp-a", "id-a", "\"etag-a\"")));
+            store.put("b", new FingerprintStore.Entry("fp-b", "id-b", "\"etag-b\""));
+            store.put("a", new FingerprintStore.Entry("fp-a2", "id-a", "\"etag-a2\""));
+            store.remove("b");
+        }
+
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            assertFalse(store.needsRebuild());
+            assertEquals(new FingerprintStore.Entry("fp-a2", "id-a", "\"etag-a2\""), store.get("a"));
+            assertNull(store.get("b"));
+        }
+    }
+
+    @Test
+    void testOpen_DropsTornFinalAppend() throws Exception {
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            store.rebuild(Map.of());
+            store.put("a", new FingerprintStore.Entry("fp-a", "id-a", "e"));
+        }
+        Files.writeString(dir.resolve("fingerprints.log"), "P\tb\tfp-b\tid-", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            assertFalse(store.needsRebuild());
+            assertNotNull(store.get("a"));
+            assertNull(store.get("b"));
+            store.put("c", new FingerprintStore.Entry("fp-c", "id-c", "e"));
+        }
+
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            assertNotNull(store.get("a"));
+            assertNotNull(store.get("c"));
+        }
+    }
+
+    @Test
+    void testOpen_CorruptIndexRequestsRebuild() throws Exception {
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            store.rebuild(Map.of("a", new FingerprintStore.Entry("fp-a", "id-a", "e")));
+        }
+        Path index = dir.resolve("fingerprints.idx");
+        Files.writeString(index, Files.readString(index).replace("fp-a", "fp-x"));
+
+        try (FingerprintStore store = FingerprintStore.open(dir)) {
+            assertTrue(store.needsRebuild());
+            assertNull(store.get("a"));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ursineenterprises.calendareventsgenerator.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testResume_ReplaysLastStatePerEvent() throws Exception {
+        Path file = dir.resolve("cal.wal");
+        try (RunJournal journal = RunJournal.open(file, false)) {
+            journal.begin("insert", "a");
+            journal.begin("insert", "b");
+            journal.begin("patch", "c");
+            journal.sync();
+            journal.done("a");
+            journal.failed("c");
+        }
+
+        try (RunJournal journal = RunJournal.open(file, true)) {
+            assertEquals(new RunJournal.Entry("insert", RunJournal.State.DONE), journal.get("a"));
+            assertEquals(new RunJournal.Entry("insert", RunJournal.State.PENDING), journal.get("b"));
+            assertEquals(new RunJournal.Entry("patch", RunJournal.State.FAILED), journal.get("c"));
+            assertEquals(1, journal.count(RunJournal.State.DONE));
+        }
+    }
+
+    @Test
+    void testOpen_WithoutResumeDiscardsPreviousRun() throws Exception {
+        Path file = dir.resolve("cal.wal");
+        try (RunJournal journal = RunJournal.open(file, false)) {
+            journal.begin("insert", "a");
+        }
+
+        try (RunJournal journal = RunJournal.open(file, false)) {
+            assertEquals(0, journal.size());
+        }
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    void testResume_DropsTornFinalRecordAndKeepsAppending() throws Exception {
+        Path file = dir.resolve("cal.wal");
+        try (RunJournal journal = RunJournal.open(file, false)) {
+            journal.begin("insert", "a");
+        }
+        Files.writeString(file, "D\tinsert\ta\t12", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (RunJournal journal = RunJournal.open(file, true)) {
+            assertEquals(RunJournal.State.PENDING, journal.get("a").state());
+            journal.done("a");
+        }
+
+        try (RunJournal journal = RunJournal.open(file, true)) {
+            assertEquals(RunJournal.State.DONE, journal.get("a").state());
+        }
+    }
+
+    @Test
+    void testResume_StopsAtDamagedRecord() throws Exception {
+        Path file = dir.resolve("cal.wal");
+        try (RunJournal journal = RunJournal.open(file, false)) {
+            journal.begin("insert", "a");
+            journal.begin("insert", "b");
+        }
+        String content = Files.readString(file).replace("\tb\t", "\tx\t");
+        Files.writeString(file, content);
+
+        try (RunJournal journal = RunJournal.open(file, true)) {
+            assertNotNull(journal.get("a"));
+            assertNull(journal.get("b"));
+            assertNull(journal.get("x"));
+        }
+    }
+
+    @Test
+    void testFinish_DeletesJournal() throws Exception {
+        Path file = dir.resolve("cal.wal");
+        RunJournal journal = RunJournal.open(file, false);
+        journal.begin("insert", "a");
+        journal.done("a");
+
+        journal.finish();
+        journal.close();
+
+        assertFalse(Files.exists(file));
+    }
+}
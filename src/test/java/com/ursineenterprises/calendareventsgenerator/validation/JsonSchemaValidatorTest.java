@@ -0,0 +1,89 @@
+package com.ursineenterprises.calendareventsgenerator.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonSchemaValidatorTest {
+
+    @Test
+    void testValidate_AcceptsValidEventsFile() throws Exception {
+        List<ValidationError> errors = validate("""
+                [
+                  {"dayOfWeek": "monday", "time": "09:00", "zoomUrl": "https://zoom.us/j/1", "description": "Standup"},
+                  {"dayOfWeek": " FRIDAY ", "time": "16:30:15", "zoomUrl": "https://zoom.us/j/2", "description": "Retro"}
+                ]
+                """);
+
+        assertEquals(List.of(), errors);
+    }
+
+    @Test
+    void testValidate_ReportsEveryErrorWithLineAndColumn() throws Exception {
+        List<ValidationError> errors = validate("""
+                [
+                  {"dayOfWeek": "FUNDAY", "time": "9:00", "zoomUrl": "https://zoom.us/j/1", "description": "Standup"},
+                  {"dayOfWeek": "TUESDAY", "time": "10:00", "zoomUrl": "not a url", "colour": "red"}
+                ]
+                """);
+
+        assertEquals(List.of(
+                new ValidationError(2, 17, "/0/dayOfWeek", "'FUNDAY' is not a day of the week such as MONDAY"),
+                new ValidationError(2, 35, "/0/time", "'9:00' is not a 24-hour time such as 09:30"),
+                new ValidationError(3, 56, "/1/zoomUrl", "'not a url' is not a valid uri"),
+                new ValidationError(3, 69, "/1", "unknown property 'colour'"),
+                new ValidationError(3, 3, "/1", "missing required property 'description'")), errors);
+    }
+
+    @Test
+    void testValidate_ReportsWrongTypesAndMalformedJson() throws Exception {
+        List<ValidationError> errors = validate("""
+                [
+                  {"dayOfWeek": 1, "time": "09:00", "zoomUrl": "https://zoom.us/j/1", "description": "x"},
+                  {"dayOfWeek": "MONDAY",
+                """);
+
+        assertEquals(2, errors.size());
+        assertEquals(new ValidationError(2, 17, "/0/dayOfWeek", "expected string but found integer"), errors.get(0));
+        assertTrue(errors.get(1).message().startsWith("malformed JSON"), errors.get(1).message());
+    }
+
+    @Test
+    void testValidate_ReportsDurationsOutOfRange() throws Exception {
+        List<ValidationError> errors = validate("""
+                [
+                  {"dayOfWeek": "MONDAY", "time": "09:00", "zoomUrl": "https://zoom.us/j/1", "description": "a", "durationMinutes": 0},
+                  {"dayOfWeek": "MONDAY", "time": "10:00", "zoomUrl": "https://zoom.us/j/2", "description": "b", "durationMinutes": 1440},
+                  {"dayOfWeek": "MONDAY", "time": "11:00", "zoomUrl": "https://zoom.us/j/3", "description": "c", "durationMinutes": 1441}
+                ]
+                """);
+
+        assertEquals(List.of(
+                new ValidationError(2, 117, "/0/durationMinutes", "0 must be at least 1"),
+                new ValidationError(4, 117, "/2/durationMinutes", "1441 must be at most 1440")), errors);
+    }
+
+    @Test
+    void testValidate_RejectsNonArrayDocument() throws Exception {
+        List<ValidationError> errors = validate("{\"dayOfWeek\": \"MONDAY\"}");
+
+        assertEquals(List.of(new ValidationError(1, 1, "", "expected array but found object")), errors);
+    }
+
+    @Test
+    void testCompile_RejectsUnsupportedKeywords() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> JsonSchemaValidator.compile(
+                new ObjectMapper().readTree("{\"type\": \"array\", \"items\": {\"oneOf\": []}}")));
+
+        assertEquals("Unsupported schema keyword 'oneOf' (at '/items')", e.getMessage());
+    }
+
+    private static List<ValidationError> validate(String json) throws Exception {
+        return EventsFileValidator.schema().validate(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}